@@ -3,6 +3,7 @@ package io.quarkus.builder;
 import static io.quarkus.builder.Execution.*;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -28,6 +29,8 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    // the indexes of all the steps this step depends on, directly or transitively; guarded by itself
+    private final BitSet stepDependencies = new BitSet();
     private volatile boolean running;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
@@ -47,6 +50,28 @@ public final class BuildContext {
         return execution.getBuildTargetName();
     }
 
+    /**
+     * Get the index of this build step. The index identifies the step within the build chain and does not have
+     * any other significance.
+     *
+     * @return the index of this build step
+     */
+    public int getStepIndex() {
+        return stepInfo.getIndex();
+    }
+
+    /**
+     * Get the indexes of all the build steps this build step depends on, directly or transitively. All of these steps
+     * have completed when this build step runs.
+     *
+     * @return a copy of the step indexes (not {@code null})
+     */
+    public BitSet getStepDependencies() {
+        synchronized (stepDependencies) {
+            return (BitSet) stepDependencies.clone();
+        }
+    }
+
     /**
      * Produce the given item. If the {@code type} refers to a item which is declared with multiplicity, then this
      * method can be called more than once for the given {@code type}, otherwise it must be called no more than once.
@@ -254,7 +279,10 @@ public final class BuildContext {
         }
     }
 
-    void depFinished() {
+    void depFinished(final BitSet finishedDependencies) {
+        synchronized (stepDependencies) {
+            stepDependencies.or(finishedDependencies);
+        }
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
@@ -290,8 +318,10 @@ public final class BuildContext {
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
+            final BitSet finishedDependencies = getStepDependencies();
+            finishedDependencies.set(stepInfo.getIndex());
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                execution.getBuildContext(info).depFinished(finishedDependencies);
             }
         } else {
             execution.depFinished();
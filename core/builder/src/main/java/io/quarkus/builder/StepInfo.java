@@ -6,13 +6,15 @@ import java.util.Set;
  */
 final class StepInfo {
     private final BuildStep buildStep;
+    private final int index;
     private final int dependencies;
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
 
-    StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
+    StepInfo(final BuildStepBuilder builder, int index, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
+        this.index = index;
         consumes = builder.getRealConsumes();
         produces = builder.getRealProduces();
         this.dependencies = dependencies;
@@ -23,6 +25,10 @@ final class StepInfo {
         return buildStep;
     }
 
+    int getIndex() {
+        return index;
+    }
+
     int getDependencies() {
         return dependencies;
     }
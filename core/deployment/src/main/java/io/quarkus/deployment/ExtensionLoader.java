@@ -933,9 +933,11 @@ public final class ExtensionLoader {
                                 if (isRecorder) {
                                     // commit recorded data
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
-                                        bc.produce(new StaticBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new StaticBytecodeRecorderBuildItem(bri, bc.getStepIndex(),
+                                                bc.getStepDependencies()));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, bc.getStepIndex(),
+                                                bc.getStepDependencies()));
                                     }
 
                                 }
@@ -0,0 +1,18 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot
+public class StartupConfig {
+
+    /**
+     * If set to true, the recorded static init and runtime init tasks are run concurrently on a bounded pool of
+     * threads, while preserving the ordering between the tasks whose build steps depend on each other.
+     * <p>
+     * Recorded code must not rely on side effects of build steps it does not depend on to use this.
+     * This is ignored for native executables.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelInit;
+}
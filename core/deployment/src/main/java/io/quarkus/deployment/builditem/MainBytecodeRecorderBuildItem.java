@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.BitSet;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -7,15 +9,25 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final int stepIndex;
+    private final BitSet stepDependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, -1, null);
+    }
+
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, int stepIndex, BitSet stepDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.stepIndex = stepIndex;
+        this.stepDependencies = stepDependencies;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.stepIndex = -1;
+        this.stepDependencies = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -25,4 +37,20 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the index of the build step that recorded the bytecode, or {@code -1} if it is unknown
+     * @see io.quarkus.builder.BuildContext#getStepIndex()
+     */
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * @return the indexes of the build steps the recording build step depends on, or {@code null} if they are unknown
+     * @see io.quarkus.builder.BuildContext#getStepDependencies()
+     */
+    public BitSet getStepDependencies() {
+        return stepDependencies;
+    }
 }
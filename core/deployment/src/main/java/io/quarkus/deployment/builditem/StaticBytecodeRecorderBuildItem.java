@@ -1,17 +1,43 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.BitSet;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
 public final class StaticBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
+    private final int stepIndex;
+    private final BitSet stepDependencies;
 
     public StaticBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, -1, null);
+    }
+
+    public StaticBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, int stepIndex, BitSet stepDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
+        this.stepIndex = stepIndex;
+        this.stepDependencies = stepDependencies;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
         return bytecodeRecorder;
     }
+
+    /**
+     * @return the index of the build step that recorded the bytecode, or {@code -1} if it is unknown
+     * @see io.quarkus.builder.BuildContext#getStepIndex()
+     */
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * @return the indexes of the build steps the recording build step depends on, or {@code null} if they are unknown
+     * @see io.quarkus.builder.BuildContext#getStepDependencies()
+     */
+    public BitSet getStepDependencies() {
+        return stepDependencies;
+    }
 }
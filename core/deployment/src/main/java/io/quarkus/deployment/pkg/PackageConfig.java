@@ -90,6 +90,22 @@ public class PackageConfig {
     @ConfigItem
     public boolean createAppcds;
 
+    /**
+     * Whether to record the classes loaded while the application boots. This only has an effect for the fast-jar and
+     * mutable-jar formats.
+     *
+     * If enabled, the application is started once during the build, and the classes it loads during its static
+     * initialization are stored in the distribution. Like for AppCDS, this training run exits before the runtime
+     * initialization, so it does not open ports or connect to external services. When the application is started, these
+     * classes are then loaded by a few background threads in parallel to the boot process. Unlike AppCDS, this doesn't
+     * depend on the exact version of the JVM.
+     *
+     * When a mutable-jar is re-augmented, the profile is recorded again if this option is still enabled, and is
+     * discarded otherwise, since the classes of the previous build may not match the re-augmented application.
+     */
+    @ConfigItem
+    public boolean createClassLoadingProfile;
+
     /**
      * When AppCDS generation is enabled, if this property is set, then the JVM used to generate the AppCDS file
      * will be the JVM present in the container image. The builder image is expected to have have the 'java' binary
@@ -102,6 +118,17 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> appcdsBuilderImage;
 
+    /**
+     * This is an advanced option that only takes effect for the fast-jar and mutable-jar formats.
+     *
+     * If this is set to true, the classes of the application and of all its dependencies are additionally written
+     * uncompressed into a single indexed file, which the application maps into memory at startup. Classes are then
+     * defined directly from this file instead of being read and inflated from the jars, which reduces the startup time
+     * of applications with many dependencies at the cost of a larger distribution.
+     */
+    @ConfigItem
+    public boolean mappedClassData;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      *
@@ -0,0 +1,25 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Build item to indicate to the various steps that the creation of the class loading profile
+ * has been requested
+ */
+public final class ClassLoadingProfileRequestedBuildItem extends SimpleBuildItem {
+
+    /**
+     * The file the training run writes the recorded classes to
+     */
+    private final Path bootClassesFile;
+
+    public ClassLoadingProfileRequestedBuildItem(Path bootClassesFile) {
+        this.bootClassesFile = bootClassesFile;
+    }
+
+    public Path getBootClassesFile() {
+        return bootClassesFile;
+    }
+}
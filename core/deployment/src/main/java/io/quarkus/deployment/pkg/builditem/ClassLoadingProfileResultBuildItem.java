@@ -0,0 +1,32 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item containing the result of the class loading profile creation process. Once it has been produced, the
+ * serialized application of the fast-jar contains the recorded classes.
+ */
+public final class ClassLoadingProfileResultBuildItem extends SimpleBuildItem {
+
+    /**
+     * The serialized application the recorded classes were added to
+     */
+    private final Path serializedApplication;
+
+    private final int classCount;
+
+    public ClassLoadingProfileResultBuildItem(Path serializedApplication, int classCount) {
+        this.serializedApplication = serializedApplication;
+        this.classCount = classCount;
+    }
+
+    public Path getSerializedApplication() {
+        return serializedApplication;
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+}
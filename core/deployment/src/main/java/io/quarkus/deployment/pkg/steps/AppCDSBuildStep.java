@@ -317,5 +317,5 @@ public class AppCDSBuildStep {
     // copied from Java 9
     // TODO remove when we move to Java 11
 
-    private static final File NULL_FILE = new File(SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null");
+    static final File NULL_FILE = new File(SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null");
 }
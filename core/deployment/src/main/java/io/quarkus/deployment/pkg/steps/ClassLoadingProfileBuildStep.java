@@ -0,0 +1,132 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static io.quarkus.deployment.pkg.steps.AppCDSBuildStep.NULL_FILE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileRequestedBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.utilities.JavaBinFinder;
+
+/**
+ * Records the classes the fast-jar application loads during its static initialization, by starting it once in a training
+ * run, and stores them in the serialized application so that the runner can preload them.
+ * <p>
+ * Like the AppCDS generation, the training run exits before the runtime initialization, so that it neither opens ports
+ * nor connects to external services.
+ */
+public class ClassLoadingProfileBuildStep {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingProfileBuildStep.class);
+
+    public static final String BOOT_CLASSES_FILE_NAME = "boot-classes.lst";
+    private static final long TRAINING_RUN_TIMEOUT_MINUTES = 5;
+
+    @BuildStep(onlyIf = ClassLoadingProfileRequired.class)
+    public void requested(OutputTargetBuildItem outputTarget, BuildProducer<ClassLoadingProfileRequestedBuildItem> producer)
+            throws IOException {
+        Path bootClassesFile = outputTarget.getOutputDirectory().resolve(BOOT_CLASSES_FILE_NAME);
+        Files.deleteIfExists(bootClassesFile);
+
+        producer.produce(new ClassLoadingProfileRequestedBuildItem(bootClassesFile));
+    }
+
+    @BuildStep
+    public void record(Optional<ClassLoadingProfileRequestedBuildItem> classLoadingProfileRequested,
+            JarBuildItem jarResult,
+            BuildProducer<ClassLoadingProfileResultBuildItem> classLoadingProfile,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
+        if (!classLoadingProfileRequested.isPresent()) {
+            return;
+        }
+
+        String javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName();
+        if (!new File(javaBinPath).canExecute()) {
+            log.warnf(
+                    "In order to create the class loading profile the JDK used to build the Quarkus application must contain an executable named '%s' in its 'bin' directory.",
+                    javaBinPath);
+            return;
+        }
+
+        Path runJar = jarResult.getPath();
+        Path bootClassesFile = classLoadingProfileRequested.get().getBootClassesFile();
+        // the generated main writes the recorded classes and exits once the static initialization is done
+        List<String> command = Arrays.asList(javaBinPath,
+                "-D" + RunnerClassLoader.RECORD_BOOT_CLASSES_PROPERTY + "=" + bootClassesFile.toAbsolutePath().toString(),
+                "-jar", runJar.toAbsolutePath().toString());
+
+        log.info("Launching training run to create the class loading profile.");
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to create the class loading profile.", String.join(" ", command));
+        }
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .directory(runJar.getParent().toFile());
+        if (log.isDebugEnabled()) {
+            processBuilder.inheritIO();
+        } else {
+            processBuilder.redirectError(NULL_FILE);
+            processBuilder.redirectOutput(NULL_FILE);
+        }
+        Process process = processBuilder.start();
+        if (!process.waitFor(TRAINING_RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            log.warnf("Unable to create the class loading profile because the training run did not complete within %d minutes.",
+                    TRAINING_RUN_TIMEOUT_MINUTES);
+            return;
+        }
+        if (process.exitValue() != 0 || !Files.exists(bootClassesFile)) {
+            log.warnf(
+                    "Unable to create the class loading profile because the training run failed with exit code %d. Check the logs for details",
+                    process.exitValue());
+            return;
+        }
+
+        List<String> bootClasses = Files.readAllLines(bootClassesFile, StandardCharsets.UTF_8);
+        Path serializedApplication = runJar.getParent().resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        SerializedApplication.writeBootClasses(serializedApplication, bootClasses);
+        log.infof("Class loading profile with %d classes successfully created.", bootClasses.size());
+
+        classLoadingProfile.produce(new ClassLoadingProfileResultBuildItem(serializedApplication, bootClasses.size()));
+        artifactResult.produce(new ArtifactResultBuildItem(bootClassesFile, "classLoadingProfile", Collections.emptyMap()));
+    }
+
+    static class ClassLoadingProfileRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+        private final LaunchMode launchMode;
+
+        ClassLoadingProfileRequired(PackageConfig packageConfig, LaunchMode launchMode) {
+            this.packageConfig = packageConfig;
+            this.launchMode = launchMode;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return launchMode == LaunchMode.NORMAL && packageConfig.createClassLoadingProfile && packageConfig.isFastJar();
+        }
+    }
+}
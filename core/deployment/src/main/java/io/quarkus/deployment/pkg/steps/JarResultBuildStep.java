@@ -582,7 +582,8 @@ public class JarResultBuildStep {
 
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources);
+            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources,
+                    packageConfig.mappedClassData ? buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES) : null);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -7,6 +7,7 @@ import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,9 +29,11 @@ import org.jboss.logging.Logger;
 import org.jboss.logmanager.handlers.DelayedHandler;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
@@ -53,6 +56,7 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.AppCDSRequestedBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileRequestedBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 import io.quarkus.dev.appstate.ApplicationStateNotification;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -72,9 +76,12 @@ import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskExecutor;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.quarkus.runtime.util.ClassLoadingProfileUtil;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.quarkus.runtime.util.StepTiming;
 
 public class MainClassBuildStep {
@@ -104,6 +111,10 @@ public class MainClassBuildStep {
             void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    private static final MethodDescriptor TIMELINE_PHASE_STARTED = ofMethod(StartupTimeline.class, "phaseStarted",
+            void.class, String.class);
+    private static final MethodDescriptor RUN_STARTUP_TASKS_METHOD = ofMethod(StartupTaskExecutor.class, "run", void.class,
+            StartupContext.class, StartupTask[].class, String.class);
 
     @BuildStep
     void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
@@ -118,7 +129,13 @@ public class MainClassBuildStep {
             LaunchModeBuildItem launchMode,
             LiveReloadBuildItem liveReloadBuildItem,
             ApplicationInfoBuildItem applicationInfo,
-            Optional<AppCDSRequestedBuildItem> appCDSRequested) {
+            Optional<AppCDSRequestedBuildItem> appCDSRequested,
+            Optional<ClassLoadingProfileRequestedBuildItem> classLoadingProfileRequested,
+            StartupConfig startupConfig,
+            PackageConfig packageConfig) {
+
+        // static init is run while building native executables, where threads can not be started
+        boolean parallelInit = startupConfig.parallelInit && !packageConfig.type.equalsIgnoreCase(PackageConfig.NATIVE);
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -166,9 +183,22 @@ public class MainClassBuildStep {
         mv.writeStaticField(scField.getFieldDescriptor(), startupContext);
         TryBlock tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders, gizmoOutput, startupContext,
-                    tryBlock);
+        tryBlock.invokeStaticMethod(TIMELINE_PHASE_STARTED, tryBlock.load(StartupTimeline.STATIC_INIT));
+        if (parallelInit) {
+            List<RecordedTask> tasks = new ArrayList<>();
+            for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
+                String taskClassName = writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders,
+                        gizmoOutput);
+                if (taskClassName != null) {
+                    tasks.add(new RecordedTask(taskClassName, holder.getStepIndex(), holder.getStepDependencies()));
+                }
+            }
+            writeParallelTasks(tasks, startupContext, tryBlock);
+        } else {
+            for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders, gizmoOutput, startupContext,
+                        tryBlock);
+            }
         }
         tryBlock.returnValue(null);
 
@@ -198,6 +228,22 @@ public class MainClassBuildStep {
             createAppCDS.returnValue(null);
         }
 
+        // if the class loading profile creation was requested, we ensure that the application records the classes loaded by
+        // the static initialization and terminates before anything is initialized at runtime
+        if (classLoadingProfileRequested.isPresent()) {
+            ResultHandle recordBootClassesSysProp = mv.invokeStaticMethod(
+                    ofMethod(System.class, "getProperty", String.class, String.class),
+                    mv.load(RunnerClassLoader.RECORD_BOOT_CLASSES_PROPERTY));
+            BytecodeCreator recordBootClasses = mv.ifNotNull(recordBootClassesSysProp).trueBranch();
+
+            recordBootClasses.invokeStaticMethod(
+                    ofMethod(ClassLoadingProfileUtil.class, "writeRecordedBootClasses", void.class));
+
+            recordBootClasses.invokeStaticMethod(ofMethod(ApplicationLifecycleManager.class, "exit", void.class, int.class),
+                    recordBootClasses.load(0));
+            recordBootClasses.returnValue(null);
+        }
+
         // very first thing is to set system props (for run time, which use substitutions for a different
         // storage from build-time)
         for (SystemPropertyBuildItem i : properties) {
@@ -260,9 +306,22 @@ public class MainClassBuildStep {
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    loaders, gizmoOutput, startupContext, tryBlock);
+        tryBlock.invokeStaticMethod(TIMELINE_PHASE_STARTED, tryBlock.load(StartupTimeline.RUNTIME_INIT));
+        if (parallelInit) {
+            List<RecordedTask> tasks = new ArrayList<>();
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                String taskClassName = writeRecordedBytecode(holder.getBytecodeRecorder(),
+                        holder.getGeneratedStartupContextClassName(), substitutions, loaders, gizmoOutput);
+                if (taskClassName != null) {
+                    tasks.add(new RecordedTask(taskClassName, holder.getStepIndex(), holder.getStepDependencies()));
+                }
+            }
+            writeParallelTasks(tasks, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
+                        loaders, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -284,6 +343,7 @@ public class MainClassBuildStep {
                 featuresHandle,
                 activeProfile,
                 tryBlock.load(LaunchMode.DEVELOPMENT.equals(launchMode.getLaunchMode())));
+        tryBlock.invokeStaticMethod(ofMethod(StartupTimeline.class, "startupCompleted", void.class));
         cb = tryBlock.addCatch(Throwable.class);
 
         // an exception was thrown before logging was actually setup, we simply dump everything to the console
@@ -422,10 +482,31 @@ public class MainClassBuildStep {
             List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String taskClassName = writeRecordedBytecode(recorder, fallbackGeneratedStartupTaskClassName, substitutions, loaders,
+                gizmoOutput);
+        if (taskClassName == null) {
             return;
         }
 
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(taskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Generates the startup task class of the given recorder.
+     *
+     * @return the name of the startup task class, or {@code null} if there is nothing to run
+     */
+    private String writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
@@ -436,12 +517,82 @@ public class MainClassBuildStep {
             }
             recorder.writeBytecode(gizmoOutput);
         }
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
+    }
 
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    /**
+     * Generates the code that runs the given startup tasks with {@link StartupTaskExecutor}.
+     * <p>
+     * A task depends on the earlier tasks recorded by the build steps its own build step depends on. Tasks that are
+     * not recorded by a known build step, like the config setup, are run after all the earlier tasks and before all the
+     * later ones. The step timing is not printed, as it is meaningless when tasks overlap.
+     */
+    private void writeParallelTasks(List<RecordedTask> tasks, ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ResultHandle taskArray = bytecodeCreator.newArray(StartupTask.class, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            bytecodeCreator.writeArrayValue(taskArray, i,
+                    bytecodeCreator.newInstance(ofConstructor(tasks.get(i).className)));
+        }
+        bytecodeCreator.invokeStaticMethod(RUN_STARTUP_TASKS_METHOD, startupContext, taskArray,
+                bytecodeCreator.load(encodeTaskDependencies(tasks)));
+    }
+
+    /**
+     * Computes the dependencies of every task on the earlier tasks, omitting the dependencies that are implied by
+     * other ones, in the format expected by {@link StartupTaskExecutor#run(StartupContext, StartupTask[], String)}.
+     */
+    static String encodeTaskDependencies(List<RecordedTask> tasks) {
+        // all the tasks every task transitively depends on
+        BitSet[] ancestors = new BitSet[tasks.size()];
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < tasks.size(); i++) {
+            RecordedTask task = tasks.get(i);
+            BitSet direct = new BitSet();
+            for (int j = 0; j < i; j++) {
+                RecordedTask previous = tasks.get(j);
+                if (task.stepDependencies == null || previous.stepDependencies == null
+                        || task.stepDependencies.get(previous.stepIndex)) {
+                    direct.set(j);
+                }
+            }
+            BitSet implied = new BitSet();
+            for (int j = direct.nextSetBit(0); j >= 0; j = direct.nextSetBit(j + 1)) {
+                implied.or(ancestors[j]);
+            }
+            ancestors[i] = (BitSet) implied.clone();
+            ancestors[i].or(direct);
+            direct.andNot(implied);
+
+            if (i > 0) {
+                result.append(';');
+            }
+            boolean first = true;
+            for (int j = direct.nextSetBit(0); j >= 0; j = direct.nextSetBit(j + 1)) {
+                if (!first) {
+                    result.append(',');
+                }
+                result.append(j);
+                first = false;
+            }
+        }
+        return result.toString();
+    }
+
+    static final class RecordedTask {
+
+        final String className;
+        final int stepIndex;
+        // null if the build step is unknown
+        final BitSet stepDependencies;
+
+        RecordedTask(String className, int stepIndex, BitSet stepDependencies) {
+            this.className = className;
+            this.stepIndex = stepIndex;
+            this.stepDependencies = stepIndex < 0 ? null : stepDependencies;
+        }
     }
 
     /**
@@ -0,0 +1,70 @@
+package io.quarkus.deployment.steps;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.steps.MainClassBuildStep.RecordedTask;
+
+public class MainClassBuildStepTest {
+
+    @Test
+    void independentTasks() {
+        Assertions.assertEquals("", MainClassBuildStep.encodeTaskDependencies(Collections.emptyList()));
+        Assertions.assertEquals(";", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1))));
+    }
+
+    @Test
+    void directDependencies() {
+        Assertions.assertEquals(";0;", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1, 0), task("C", 2))));
+        Assertions.assertEquals(";;0,1", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1), task("C", 2, 0, 1))));
+    }
+
+    @Test
+    void impliedDependencies() {
+        // C depends on A through B
+        Assertions.assertEquals(";0;1", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1, 0), task("C", 2, 0, 1))));
+        // D depends on A through both B and C
+        Assertions.assertEquals(";0;0;1,2", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1, 0), task("C", 2, 0), task("D", 3, 0, 1, 2))));
+    }
+
+    @Test
+    void unknownStepIsBarrier() {
+        Assertions.assertEquals(";0;1", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), unknown("U"), task("B", 1))));
+        Assertions.assertEquals(";;0,1;2", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), task("B", 1), unknown("U"), task("C", 2))));
+        Assertions.assertEquals(";0", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                unknown("U"), task("A", 0))));
+    }
+
+    @Test
+    void dependencyAcrossBarrier() {
+        // C depends on A but the barrier already orders them
+        Assertions.assertEquals(";0;1", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), unknown("U"), task("C", 2, 0))));
+        // B is unrelated to C but still waits for the barrier
+        Assertions.assertEquals(";0;1;1", MainClassBuildStep.encodeTaskDependencies(Arrays.asList(
+                task("A", 0), unknown("U"), task("B", 1), task("C", 2, 0))));
+    }
+
+    private static RecordedTask task(String className, int stepIndex, int... dependencies) {
+        BitSet stepDependencies = new BitSet();
+        for (int dependency : dependencies) {
+            stepDependencies.set(dependency);
+        }
+        return new RecordedTask(className, stepIndex, stepDependencies);
+    }
+
+    private static RecordedTask unknown(String className) {
+        return new RecordedTask(className, -1, null);
+    }
+}
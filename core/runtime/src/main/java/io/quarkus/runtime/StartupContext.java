@@ -10,6 +10,11 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+/**
+ * The context passed to the startup tasks.
+ * <p>
+ * The startup tasks may be run concurrently, so this class is thread-safe.
+ */
 public class StartupContext implements Closeable {
 
     public static final String RAW_COMMAND_LINE_ARGS = StartupContext.class.getName() + ".raw-command-line-args";
@@ -17,24 +22,28 @@ public class StartupContext implements Closeable {
     private static final Logger LOG = Logger.getLogger(StartupContext.class);
 
     private final Map<String, Object> values = new HashMap<>();
-    private Object lastValue;
+    private volatile Object lastValue;
     // this is done to distinguish between the value never having been set and having been set as null
-    private boolean lastValueSet = false;
+    private volatile boolean lastValueSet = false;
     private final List<Runnable> shutdownTasks = new ArrayList<>();
     private final List<Runnable> lastShutdownTasks = new ArrayList<>();
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
-            shutdownTasks.add(runnable);
+            synchronized (shutdownTasks) {
+                shutdownTasks.add(runnable);
+            }
         }
 
         @Override
         public void addLastShutdownTask(Runnable runnable) {
-            lastShutdownTasks.add(runnable);
+            synchronized (lastShutdownTasks) {
+                lastShutdownTasks.add(runnable);
+            }
         }
     };
-    private String[] commandLineArgs;
-    private String currentBuildStepName;
+    private volatile String[] commandLineArgs;
+    private volatile String currentBuildStepName;
 
     public StartupContext() {
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -50,13 +59,17 @@ public class StartupContext implements Closeable {
     }
 
     public void putValue(String name, Object value) {
-        values.put(name, value);
+        synchronized (values) {
+            values.put(name, value);
+        }
         lastValueSet = true;
         this.lastValue = value;
     }
 
     public Object getValue(String name) {
-        return values.get(name);
+        synchronized (values) {
+            return values.get(name);
+        }
     }
 
     public Object getLastValue() {
@@ -70,13 +83,20 @@ public class StartupContext implements Closeable {
     @Override
     public void close() {
         runAllInReverseOrder(shutdownTasks);
-        shutdownTasks.clear();
+        synchronized (shutdownTasks) {
+            shutdownTasks.clear();
+        }
         runAllInReverseOrder(lastShutdownTasks);
-        lastShutdownTasks.clear();
+        synchronized (lastShutdownTasks) {
+            lastShutdownTasks.clear();
+        }
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (tasks) {
+            toClose = new ArrayList<>(tasks);
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -0,0 +1,195 @@
+package io.quarkus.runtime;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StartupTimeline;
+
+/**
+ * Runs startup tasks concurrently on a bounded pool of threads.
+ * <p>
+ * A task is only started once all the tasks it depends on have completed, so it observes their values and side effects
+ * just like when the tasks are run sequentially. When tasks fail, the tasks that come before the first failing task in
+ * the sequential order are still run, and the failure of that task is thrown with the other failures suppressed, so the
+ * reported failure does not depend on the scheduling.
+ * <p>
+ * This is used by the generated application class and should not be used directly.
+ */
+public final class StartupTaskExecutor {
+
+    private static final int MAX_THREADS = 8;
+
+    private final StartupContext context;
+    private final StartupTask[] tasks;
+    private final int[][] dependents;
+    private final Throwable[] failures;
+    // the following fields are guarded by this
+    private final int[] pendingDependencies;
+    private int firstFailure;
+    private int running;
+
+    private ExecutorService executor;
+
+    private StartupTaskExecutor(StartupContext context, StartupTask[] tasks, int[][] dependencies) {
+        this.context = context;
+        this.tasks = tasks;
+        this.failures = new Throwable[tasks.length];
+        this.pendingDependencies = new int[tasks.length];
+        this.firstFailure = tasks.length;
+        int[] dependentCounts = new int[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            pendingDependencies[i] = dependencies[i].length;
+            for (int dependency : dependencies[i]) {
+                dependentCounts[dependency]++;
+            }
+        }
+        this.dependents = new int[tasks.length][];
+        for (int i = 0; i < tasks.length; i++) {
+            dependents[i] = new int[dependentCounts[i]];
+            dependentCounts[i] = 0;
+        }
+        for (int i = 0; i < tasks.length; i++) {
+            for (int dependency : dependencies[i]) {
+                dependents[dependency][dependentCounts[dependency]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Runs the given tasks.
+     *
+     * @param context the startup context passed to the tasks
+     * @param tasks the tasks in the order in which they would be run sequentially
+     * @param dependencies for every task, the comma separated indexes of the tasks it depends on, separated by
+     *        {@code ;} - a task can only depend on tasks that come before it
+     */
+    public static void run(StartupContext context, StartupTask[] tasks, String dependencies) {
+        int threads = Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) {
+            for (StartupTask task : tasks) {
+                task.deploy(context);
+            }
+            return;
+        }
+        new StartupTaskExecutor(context, tasks, parseDependencies(dependencies, tasks.length)).run(threads);
+    }
+
+    static int[][] parseDependencies(String dependencies, int taskCount) {
+        int[][] result = new int[taskCount][];
+        String[] perTask = dependencies.split(";", -1);
+        if (perTask.length != taskCount) {
+            throw new IllegalArgumentException("Expected the dependencies of " + taskCount + " tasks: " + dependencies);
+        }
+        for (int i = 0; i < taskCount; i++) {
+            if (perTask[i].isEmpty()) {
+                result[i] = new int[0];
+                continue;
+            }
+            String[] indexes = perTask[i].split(",");
+            result[i] = new int[indexes.length];
+            for (int j = 0; j < indexes.length; j++) {
+                int index = Integer.parseInt(indexes[j]);
+                if (index >= i) {
+                    throw new IllegalArgumentException("Task " + i + " can not depend on task " + index);
+                }
+                result[i][j] = index;
+            }
+        }
+        return result;
+    }
+
+    private void run(int threads) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            }
+        });
+        try {
+            synchronized (this) {
+                for (int i = 0; i < tasks.length; i++) {
+                    if (pendingDependencies[i] == 0) {
+                        start(i);
+                    }
+                }
+                boolean interrupted = false;
+                while (running > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // the startup can not be abandoned halfway through
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (firstFailure < tasks.length) {
+            Throwable failure = failures[firstFailure];
+            for (int i = firstFailure + 1; i < tasks.length; i++) {
+                if (failures[i] != null) {
+                    failure.addSuppressed(failures[i]);
+                }
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new RuntimeException(failure);
+        }
+    }
+
+    // must be called while holding the lock
+    private void start(int index) {
+        running++;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                execute(index);
+            }
+        });
+    }
+
+    private void execute(int index) {
+        Throwable failure = null;
+        long start = System.nanoTime();
+        try {
+            tasks[index].deploy(context);
+        } catch (Throwable t) {
+            failure = t;
+        }
+        // the current build step name of the context is not meaningful when tasks overlap
+        StartupTimeline.record("step", tasks[index].getClass().getName(), start);
+        synchronized (this) {
+            running--;
+            if (failure != null) {
+                failures[index] = failure;
+                firstFailure = Math.min(firstFailure, index);
+            } else {
+                for (int dependent : dependents[index]) {
+                    // tasks after the first failure are not started, as they would not have run sequentially
+                    if (--pendingDependencies[dependent] == 0 && dependent < firstFailure) {
+                        start(dependent);
+                    }
+                }
+            }
+            if (running == 0) {
+                notifyAll();
+            }
+        }
+    }
+}
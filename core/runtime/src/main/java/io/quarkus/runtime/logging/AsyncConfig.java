@@ -24,4 +24,25 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * The implementation of the asynchronous handler.
+     * <p>
+     * With {@code ring-buffer}, the records are handed over to the consumer thread through a lock-free ring buffer,
+     * and plain log files without rotation are formatted into a reusable buffer and written in batches. The queue
+     * depth and the number of dropped records are exposed as metrics if log metrics are enabled.
+     */
+    @ConfigItem(defaultValue = "queue")
+    AsyncMode mode;
+
+    public enum AsyncMode {
+        /**
+         * The JBoss Log Manager async handler, backed by a blocking queue.
+         */
+        QUEUE,
+        /**
+         * A lock-free multi-producer ring buffer.
+         */
+        RING_BUFFER
+    }
 }
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -329,8 +330,22 @@ public class LoggingSetupRecorder {
 
     private static Handler configureFileHandler(final FileConfig config, final ErrorManager errorManager,
             final List<LogCleanupFilterElement> filterElements) {
-        FileHandler handler = new FileHandler();
         FileConfig.RotationConfig rotationConfig = config.rotation;
+        if (config.async.enable && config.async.mode == AsyncConfig.AsyncMode.RING_BUFFER
+                && !rotationConfig.maxFileSize.isPresent() && !rotationConfig.fileSuffix.isPresent()) {
+            // without rotation the async handler can write the file itself
+            try {
+                final RingBufferAsyncHandler asyncHandler = RingBufferAsyncHandler.createForFile(config.async.queueLength,
+                        config.async.overflow, config.path, new PatternFormatter(config.format));
+                asyncHandler.setErrorManager(errorManager);
+                asyncHandler.setLevel(config.level);
+                asyncHandler.setFilter(new LogCleanupFilter(filterElements));
+                return asyncHandler;
+            } catch (IOException e) {
+                // fall back to the regular file handler, which reports the failure itself
+            }
+        }
+        FileHandler handler = new FileHandler();
         if ((rotationConfig.maxFileSize.isPresent() || rotationConfig.rotateOnBoot)
                 && rotationConfig.fileSuffix.isPresent()) {
             PeriodicSizeRotatingFileHandler periodicSizeRotatingFileHandler = new PeriodicSizeRotatingFileHandler();
@@ -396,7 +411,13 @@ public class LoggingSetupRecorder {
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.mode == AsyncConfig.AsyncMode.RING_BUFFER) {
+            final RingBufferAsyncHandler asyncHandler = RingBufferAsyncHandler.create(asyncConfig.queueLength,
+                    asyncConfig.overflow, handler);
+            asyncHandler.setLevel(level);
+            return asyncHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -0,0 +1,326 @@
+package io.quarkus.runtime.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.FormatStep;
+import org.jboss.logmanager.formatters.MultistepFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler which hands the log records over to a single consumer thread through a bounded lock-free
+ * multi-producer ring buffer, so that logging threads never contend on a lock.
+ * <p>
+ * The consumer either publishes the records to a nested handler, or, for plain log files, formats them into a reusable
+ * buffer and writes them to the file in batches.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final int BATCH_BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    // the open handlers, used to expose the metrics
+    private static final List<RingBufferAsyncHandler> HANDLERS = new CopyOnWriteArrayList<>();
+
+    private final OverflowAction overflowAction;
+    private final ExtLogRecord[] records;
+    // the position a slot is available to producers at, or the position after the record it contains
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+
+    // only one of these is set, the nested handler or the file
+    private final Handler handler;
+    private final FileChannel channel;
+    // the following fields are only used by the consumer thread
+    private final MultistepFormatter formatter;
+    private final FormatStep[] steps;
+    private final StringBuilder builder = new StringBuilder(256);
+    private char[] chars = new char[256];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer;
+
+    private RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction, Handler handler, FileChannel channel,
+            MultistepFormatter formatter) {
+        this.overflowAction = overflowAction;
+        int capacity = Integer.highestOneBit(Math.max(2, queueLength) - 1) << 1;
+        this.records = new ExtLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.handler = handler;
+        this.channel = channel;
+        this.formatter = formatter;
+        if (channel != null) {
+            this.steps = formatter.getSteps();
+            this.encoder = Charset.defaultCharset().newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.buffer = ByteBuffer.allocateDirect(BATCH_BUFFER_SIZE);
+        } else {
+            this.steps = null;
+            this.encoder = null;
+            this.buffer = null;
+            // allows the nested handler to be discovered, like with the regular async handler
+            addHandler(handler);
+        }
+        this.consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "quarkus-async-log-" + THREAD_COUNT.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+        HANDLERS.add(this);
+    }
+
+    /**
+     * Creates a handler publishing the records to the given handler.
+     */
+    public static RingBufferAsyncHandler create(int queueLength, OverflowAction overflowAction, Handler handler) {
+        return new RingBufferAsyncHandler(queueLength, overflowAction, handler, null, null);
+    }
+
+    /**
+     * Creates a handler appending the records formatted with the given formatter to the given file.
+     */
+    public static RingBufferAsyncHandler createForFile(int queueLength, OverflowAction overflowAction, File file,
+            MultistepFormatter formatter) throws IOException {
+        Path path = file.toPath().toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        return new RingBufferAsyncHandler(queueLength, overflowAction, null, channel, formatter);
+    }
+
+    /**
+     * @return the number of records waiting to be processed by all the ring buffer handlers
+     */
+    public static long getTotalQueueDepth() {
+        long total = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            total += handler.getQueueDepth();
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of records dropped by all the ring buffer handlers because their queue was full
+     */
+    public static long getTotalDroppedCount() {
+        long total = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            total += handler.getDroppedCount();
+        }
+        return total;
+    }
+
+    public long getQueueDepth() {
+        return Math.max(0, producerPosition.get() - consumerPosition.get());
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        // the record is processed on another thread, so everything depending on the current thread is captured now
+        record.copyAll();
+        while (!offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD || closed) {
+                droppedCount.increment();
+                return;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        wakeUpConsumer();
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        for (;;) {
+            long position = producerPosition.get();
+            int slot = (int) position & mask;
+            long sequence = sequences.get(slot);
+            if (sequence == position) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    records[slot] = record;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                // the slot still contains the record from the previous round
+                return false;
+            }
+            // another producer claimed the slot, try the next one
+        }
+    }
+
+    private void wakeUpConsumer() {
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consume() {
+        long position = consumerPosition.get();
+        for (;;) {
+            int count = 0;
+            for (;;) {
+                int slot = (int) position & mask;
+                if (sequences.get(slot) != position + 1) {
+                    break;
+                }
+                ExtLogRecord record = records[slot];
+                records[slot] = null;
+                sequences.set(slot, position + records.length);
+                position++;
+                consumerPosition.lazySet(position);
+                process(record);
+                if (++count == records.length) {
+                    // make the batch visible regularly under a constant load
+                    break;
+                }
+            }
+            if (count > 0) {
+                endOfBatch();
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            consumerParked = true;
+            if (sequences.get((int) position & mask) != position + 1) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            consumerParked = false;
+        }
+    }
+
+    private void process(ExtLogRecord record) {
+        try {
+            if (channel == null) {
+                handler.publish(record);
+            } else {
+                write(record);
+            }
+        } catch (Exception e) {
+            reportError("Failed to publish the log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private void write(ExtLogRecord record) throws IOException {
+        builder.setLength(0);
+        for (FormatStep step : steps) {
+            step.render(formatter, builder, record);
+        }
+        int length = builder.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        builder.getChars(0, length, chars, 0);
+        charBuffer.clear();
+        charBuffer.limit(length);
+        encoder.reset();
+        for (;;) {
+            CoderResult result = encoder.encode(charBuffer, buffer, true);
+            if (!result.isOverflow()) {
+                break;
+            }
+            writeBuffer();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void endOfBatch() {
+        try {
+            if (channel == null) {
+                handler.flush();
+            } else {
+                writeBuffer();
+            }
+        } catch (Exception e) {
+            reportError("Failed to flush the log records", e, ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // the records are flushed by the consumer after every batch
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        HANDLERS.remove(this);
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (channel == null) {
+                handler.close();
+            } else {
+                channel.close();
+            }
+        } catch (Exception e) {
+            reportError("Failed to close the log handler", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.runtime.util;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+
+public class ClassLoadingProfileUtil {
+
+    /**
+     * This is never meant to be used in a regular application run.
+     * It is only referenced by the generated main during the training run of the class loading profile creation, once the
+     * static initialization is done, so that the application exits before any runtime initialization happens
+     */
+    public static void writeRecordedBootClasses() {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl instanceof RunnerClassLoader) {
+            ((RunnerClassLoader) cl).writeRecordedBootClasses();
+        } else {
+            System.err.println("Improperly configured class loading profile creation process launched");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.quarkus.runtime.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+
+/**
+ * Records how long the individual startup tasks take, and writes them as a JSON report once the application has
+ * started.
+ * <p>
+ * The report is only created if the {@value #STARTUP_REPORT} system property is set to the path of the report file.
+ * It contains an entry for every recorded startup task, as well as for the initialization of the ArC container and
+ * the notification of the startup event observers, and the number of classes loaded during startup.
+ */
+public final class StartupTimeline {
+
+    public static final String STARTUP_REPORT = "quarkus.debug.startup-report";
+
+    public static final String STATIC_INIT = "static-init";
+    public static final String RUNTIME_INIT = "runtime-init";
+
+    private static final Logger log = Logger.getLogger(StartupTimeline.class);
+
+    // kept as a string, as it may be set while building a native executable
+    private static volatile String reportFile;
+    private static volatile String currentPhase;
+    private static volatile long phaseStart;
+    // the end of the previous sequentially run task
+    private static volatile long lastMark;
+    // guarded by itself
+    private static final List<Entry> entries = new ArrayList<>();
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Called before the startup tasks of a phase are run.
+     */
+    public static void phaseStarted(String phase) {
+        String report = System.getProperty(STARTUP_REPORT);
+        reportFile = report == null || report.isEmpty() ? null : report;
+        if (reportFile == null) {
+            return;
+        }
+        if (RUNTIME_INIT.equals(phase) && ImageInfo.inImageRuntimeCode()) {
+            // static init ran while building the native executable, its timestamps are meaningless now
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+        currentPhase = phase;
+        phaseStart = System.nanoTime();
+        lastMark = phaseStart;
+    }
+
+    public static boolean isEnabled() {
+        return reportFile != null;
+    }
+
+    /**
+     * Records a startup task that was run sequentially, and therefore started when the previous one completed.
+     */
+    public static void stepCompleted(String name) {
+        if (reportFile == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        record("step", name, lastMark, now);
+        lastMark = now;
+    }
+
+    /**
+     * Records an operation that started at {@code start} and just completed, as returned by {@link System#nanoTime()}.
+     */
+    public static void record(String category, String name, long start) {
+        if (reportFile == null) {
+            return;
+        }
+        record(category, name, start, System.nanoTime());
+    }
+
+    private static void record(String category, String name, long start, long end) {
+        Entry entry = new Entry(currentPhase, category, name, Thread.currentThread().getName(), start, end);
+        synchronized (entries) {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Called once the application has started, writes the report.
+     */
+    public static void startupCompleted() {
+        String report = reportFile;
+        if (report == null) {
+            return;
+        }
+        Path file = Paths.get(report);
+        reportFile = null;
+        List<Entry> toWrite;
+        synchronized (entries) {
+            toWrite = new ArrayList<>(entries);
+            entries.clear();
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writeReport(writer, toWrite, System.nanoTime());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write the startup report to " + file, e);
+        }
+    }
+
+    private static void writeReport(Writer writer, List<Entry> entries, long end) throws IOException {
+        long origin = entries.isEmpty() ? phaseStart : entries.get(0).start;
+        for (Entry entry : entries) {
+            origin = Math.min(origin, entry.start);
+        }
+        writer.write("{\n  \"totalMs\": ");
+        writer.write(millis(end - origin));
+        writer.write(",\n  \"classLoading\": {");
+        ClassLoader classLoader = StartupTimeline.class.getClassLoader();
+        if (classLoader instanceof RunnerClassLoader) {
+            RunnerClassLoader runnerClassLoader = (RunnerClassLoader) classLoader;
+            writer.write("\n    \"definedClasses\": ");
+            writer.write(Long.toString(runnerClassLoader.getDefinedClassCount()));
+            writer.write(",\n    \"profiledClasses\": ");
+            writer.write(Integer.toString(runnerClassLoader.getBootClassCount()));
+            writer.write(",\n    \"preloadedClasses\": ");
+            writer.write(Long.toString(runnerClassLoader.getPreloadedClassCount()));
+            writer.write(",");
+        }
+        if (!ImageInfo.inImageRuntimeCode()) {
+            writer.write("\n    \"jvmLoadedClasses\": ");
+            writer.write(Integer.toString(ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()));
+        }
+        writer.write("\n  },\n  \"entries\": [");
+        boolean first = true;
+        for (Entry entry : entries) {
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+            writer.write("    {\"phase\": ");
+            writeString(writer, entry.phase);
+            writer.write(", \"category\": ");
+            writeString(writer, entry.category);
+            writer.write(", \"name\": ");
+            writeString(writer, entry.name);
+            writer.write(", \"thread\": ");
+            writeString(writer, entry.thread);
+            writer.write(", \"startMs\": ");
+            writer.write(millis(entry.start - origin));
+            writer.write(", \"durationMs\": ");
+            writer.write(millis(entry.end - entry.start));
+            writer.write("}");
+        }
+        writer.write("\n  ]\n}\n");
+    }
+
+    private static String millis(long nanos) {
+        return Long.toString(nanos / 1_000_000) + "." + String.format("%03d", (nanos / 1_000) % 1_000);
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    static final class Entry {
+
+        final String phase;
+        final String category;
+        final String name;
+        final String thread;
+        final long start;
+        final long end;
+
+        Entry(String phase, String category, String name, String thread, long start, long end) {
+            this.phase = phase;
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class StepTiming {
     }
 
     public static void printStepTime(StartupContext startupContext) {
+        StartupTimeline.stepCompleted(startupContext.getCurrentBuildStepName());
         if (!stepTimingEnabled) {
             return;
         }
@@ -0,0 +1,80 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTaskExecutorTest {
+
+    @Test
+    public void testParseDependencies() {
+        int[][] dependencies = StartupTaskExecutor.parseDependencies(";0;0;1,2", 4);
+        assertArrayEquals(new int[0], dependencies[0]);
+        assertArrayEquals(new int[] { 0 }, dependencies[1]);
+        assertArrayEquals(new int[] { 0 }, dependencies[2]);
+        assertArrayEquals(new int[] { 1, 2 }, dependencies[3]);
+
+        assertThrows(IllegalArgumentException.class, () -> StartupTaskExecutor.parseDependencies(";0", 3));
+        assertThrows(IllegalArgumentException.class, () -> StartupTaskExecutor.parseDependencies(";1", 2));
+    }
+
+    @Test
+    public void testDependenciesRunFirst() {
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        StartupContext context = new StartupContext();
+        StartupTask[] tasks = new StartupTask[6];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i;
+            tasks[i] = c -> {
+                c.putValue("task" + index, index);
+                completed.add(index);
+            };
+        }
+        // 3 reads the values of 1 and 2, 5 reads the value of 4
+        tasks[3] = c -> {
+            assertEquals(1, c.getValue("task1"));
+            assertEquals(2, c.getValue("task2"));
+            completed.add(3);
+        };
+        tasks[5] = c -> {
+            assertEquals(4, c.getValue("task4"));
+            completed.add(5);
+        };
+        StartupTaskExecutor.run(context, tasks, ";0;0;1,2;;4");
+
+        assertEquals(6, completed.size());
+        assertTrue(completed.indexOf(0) < completed.indexOf(1));
+        assertTrue(completed.indexOf(0) < completed.indexOf(2));
+        assertTrue(completed.indexOf(1) < completed.indexOf(3));
+        assertTrue(completed.indexOf(2) < completed.indexOf(3));
+        assertTrue(completed.indexOf(4) < completed.indexOf(5));
+    }
+
+    @Test
+    public void testFirstFailureIsReported() {
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        IllegalStateException first = new IllegalStateException("first");
+        StartupTask[] tasks = new StartupTask[] {
+                c -> completed.add(0),
+                c -> {
+                    throw first;
+                },
+                c -> completed.add(2),
+                c -> completed.add(3),
+        };
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> StartupTaskExecutor.run(new StartupContext(), tasks, ";0;1;0"));
+        assertSame(first, thrown);
+        // 2 depends on the failed task, 3 does not
+        assertFalse(completed.contains(2));
+        assertTrue(completed.contains(0));
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void shouldWriteAllRecordsToFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("logs").resolve("quarkus.log");
+        RingBufferAsyncHandler handler = RingBufferAsyncHandler.createForFile(16, OverflowAction.BLOCK, file.toFile(),
+                new PatternFormatter("%p %s%n"));
+        int threads = 4;
+        int recordsPerThread = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < recordsPerThread; j++) {
+                    handler.publish(new LogRecord(Level.INFO, "message-" + thread + "-" + j));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        handler.close();
+
+        List<String> lines = Files.readAllLines(file, Charset.defaultCharset());
+        assertEquals(threads * recordsPerThread, lines.size());
+        assertEquals(threads * recordsPerThread, new HashSet<>(lines).size());
+        assertTrue(lines.contains("INFO message-3-999"));
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(0, handler.getQueueDepth());
+    }
+
+    @Test
+    public void shouldCountDiscardedRecords() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> published = new HashSet<>();
+        Handler blocked = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                published.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        RingBufferAsyncHandler handler = RingBufferAsyncHandler.create(4, OverflowAction.DISCARD, blocked);
+        for (int i = 0; i < 20; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message-" + i));
+        }
+        // the consumer holds one record, the queue holds four
+        assertTrue(handler.getDroppedCount() >= 15);
+        release.countDown();
+        handler.close();
+        assertEquals(20, published.size() + handler.getDroppedCount());
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void testReport(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("startup-report.json");
+        System.setProperty(StartupTimeline.STARTUP_REPORT, report.toString());
+        try {
+            StartupTimeline.phaseStarted(StartupTimeline.STATIC_INIT);
+            assertTrue(StartupTimeline.isEnabled());
+            StartupTimeline.stepCompleted("io.quarkus.FirstProcessor.init");
+            StartupTimeline.phaseStarted(StartupTimeline.RUNTIME_INIT);
+            StartupTimeline.record("arc", "startup-\"event\"", System.nanoTime());
+            StartupTimeline.startupCompleted();
+            assertFalse(StartupTimeline.isEnabled());
+        } finally {
+            System.clearProperty(StartupTimeline.STARTUP_REPORT);
+        }
+
+        String json = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"totalMs\": "), json);
+        assertTrue(json.contains("\"jvmLoadedClasses\": "), json);
+        assertTrue(json.contains("{\"phase\": \"static-init\", \"category\": \"step\", \"name\": \"io.quarkus.FirstProcessor.init\""),
+                json);
+        assertTrue(json.contains("{\"phase\": \"runtime-init\", \"category\": \"arc\", \"name\": \"startup-\\\"event\\\"\""),
+                json);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        StartupTimeline.phaseStarted(StartupTimeline.STATIC_INIT);
+        assertFalse(StartupTimeline.isEnabled());
+    }
+}
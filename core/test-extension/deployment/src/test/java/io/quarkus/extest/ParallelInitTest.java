@@ -0,0 +1,39 @@
+package io.quarkus.extest;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.extest.runtime.config.TestRunTimeConfig;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Starts the test-extension with the recorded static init and runtime init tasks run concurrently.
+ */
+public class ParallelInitTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ConfiguredBean.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.startup.parallel-init", "true");
+
+    @Inject
+    ConfiguredBean configuredBean;
+
+    /**
+     * The recorded tasks ran and handed the configuration over to the bean
+     */
+    @Test
+    public void validateConfiguredBean() {
+        Assertions.assertNotNull(configuredBean.getBuildTimeConfig());
+        TestRunTimeConfig runTimeConfig = configuredBean.getRunTimeConfig();
+        Assertions.assertNotNull(runTimeConfig);
+        Assertions.assertEquals("rtStringOptValue", runTimeConfig.rtStringOpt);
+        Assertions.assertEquals("huhu", configuredBean.getFooRuntimeConfig().bar);
+    }
+}
@@ -11,6 +11,7 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.util.StartupTimeline;
 
 @Recorder
 public class ArcRecorder {
@@ -21,7 +22,9 @@ public class ArcRecorder {
     public static volatile Map<String, Supplier<?>> supplierMap;
 
     public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
+        long start = System.nanoTime();
         ArcContainer container = Arc.initialize();
+        StartupTimeline.record("arc", "container-init", start);
         shutdown.addShutdownTask(new Runnable() {
             @Override
             public void run() {
@@ -50,14 +53,18 @@ public class ArcRecorder {
         }
         BeanContainer beanContainer = new BeanContainerImpl(container);
         for (BeanContainerListener listener : listeners) {
+            long start = System.nanoTime();
             listener.created(beanContainer);
+            StartupTimeline.record("arc", listener.getClass().getName(), start);
         }
         return beanContainer;
     }
 
     public void handleLifecycleEvents(ShutdownContext context, BeanContainer beanContainer) {
         LifecycleEventRunner instance = beanContainer.instance(LifecycleEventRunner.class);
+        long start = System.nanoTime();
         instance.fireStartupEvent();
+        StartupTimeline.record("arc", "startup-event", start);
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
@@ -6,6 +6,8 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 
+import io.quarkus.cache.runtime.caffeine.CaffeineStorageMode;
+import io.quarkus.cache.runtime.tiered.RemoteWriteMode;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -60,6 +62,31 @@ public class CacheConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum total weight of the entries the cache may contain. The weight of each entry is computed by the `weigher`
+             * when the entry is stored in the cache. This property is useful when the cache values sizes vary a lot and cannot
+             * be combined with `maximum-size`. As with `maximum-size`, the cache may evict an entry before this limit is
+             * exceeded or temporarily exceed the threshold while evicting.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * Fully qualified name of the {@link io.quarkus.cache.CacheWeigher CacheWeigher} implementation used to compute
+             * the weight of the cache entries. It is required when `maximum-weight` is set unless the `off-heap` storage mode
+             * is used, in which case the default weight of an entry is the size in bytes of its serialized value.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
+            /**
+             * Where the cache values are stored. With `off-heap`, the values are serialized into direct byte buffers which
+             * reduces the Java heap usage of large caches. The values must then implement `java.io.Serializable` and each
+             * cache hit returns a new deserialized copy of the cached value.
+             */
+            @ConfigItem(defaultValue = "heap")
+            CaffeineStorageMode storageMode;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -73,6 +100,49 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be eligible for a refresh once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The first read of an eligible entry returns the current
+             * value immediately and triggers an asynchronous recomputation of that value. This duration should be shorter than
+             * the `expire-after-write` duration so that popular entries are refreshed before they expire.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the cache statistics (hits, misses, load latency, evictions...) should be recorded. If the
+             * Micrometer extension is present, the statistics are registered with the Micrometer meter registry using the
+             * cache name as the value of the `cache` tag. They are also displayed in the dev console.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean metricsEnabled;
+
+            /**
+             * Remote store configuration.
+             */
+            @ConfigItem
+            RemoteStoreConfig remoteStore;
+        }
+
+        @ConfigGroup
+        public static class RemoteStoreConfig {
+
+            /**
+             * Whether or not the Caffeine cache should be used as a near cache in front of a remote store shared by all the
+             * application instances. The remote store is provided by an application bean implementing
+             * {@link io.quarkus.cache.runtime.tiered.RemoteCacheStore RemoteCacheStore}. Invalidations are published to the
+             * other application instances through that bean.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean enabled;
+
+            /**
+             * How values computed on a cache miss are written to the remote store: either before they are returned to the
+             * caller (`write-through`) or asynchronously (`write-behind`).
+             */
+            @ConfigItem(defaultValue = "write-through")
+            RemoteWriteMode writeMode;
         }
     }
 }
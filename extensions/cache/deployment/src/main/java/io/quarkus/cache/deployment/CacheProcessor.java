@@ -16,6 +16,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -33,8 +34,10 @@ import org.jboss.jandex.Type;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
@@ -42,7 +45,9 @@ import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationExcept
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.CaffeineStorageMode;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -50,6 +55,9 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 class CacheProcessor {
 
@@ -63,6 +71,12 @@ class CacheProcessor {
         return new AutoInjectAnnotationBuildItem(CACHE_NAME);
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableRemoteCacheStore() {
+        // The remote store is looked up programmatically when the cache manager is created.
+        return UnremovableBeanBuildItem.beanTypes(RemoteCacheStore.class);
+    }
+
     @BuildStep
     AnnotationsTransformerBuildItem annotationsTransformer() {
         return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
@@ -186,14 +200,20 @@ class CacheProcessor {
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder) {
+            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
             switch (config.type) {
                 case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
                     Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
-                    cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos);
+                    validateEviction(cacheInfos);
+                    if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+                        cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplierWithMicrometerMetrics(cacheInfos);
+                    } else {
+                        cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplierWithoutMetrics(cacheInfos);
+                    }
                     break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
@@ -208,6 +228,34 @@ class CacheProcessor {
                 .done();
     }
 
+    private static void validateEviction(Set<CaffeineCacheInfo> cacheInfos) {
+        for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+            if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                throw new DeploymentException(
+                        "maximum-size and maximum-weight cannot be both configured for cache [" + cacheInfo.name + "]");
+            }
+            if (cacheInfo.weigherClassName != null && cacheInfo.maximumWeight == null) {
+                throw new DeploymentException("A weigher is configured for cache [" + cacheInfo.name
+                        + "] but maximum-weight is not configured");
+            }
+            if (cacheInfo.maximumWeight != null && cacheInfo.weigherClassName == null
+                    && cacheInfo.storageMode != CaffeineStorageMode.OFF_HEAP) {
+                throw new DeploymentException("maximum-weight is configured for cache [" + cacheInfo.name
+                        + "] but no weigher is configured");
+            }
+        }
+    }
+
+    @BuildStep
+    void registerWeighersForReflection(CacheConfig config, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // The weighers are instantiated by class name when the caches are created.
+        for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+            if (namespaceConfig.weigher.isPresent()) {
+                reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, namespaceConfig.weigher.get()));
+            }
+        }
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex) {
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
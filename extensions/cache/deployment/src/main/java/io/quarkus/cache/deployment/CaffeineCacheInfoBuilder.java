@@ -20,8 +20,15 @@ public class CaffeineCacheInfoBuilder {
                 if (namespaceConfig != null) {
                     namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                     namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                    namespaceConfig.maximumWeight.ifPresent(weight -> cacheInfo.maximumWeight = weight);
+                    namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigherClassName = weigher);
+                    cacheInfo.storageMode = namespaceConfig.storageMode;
                     namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                     namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                    namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                    cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
+                    cacheInfo.remoteStoreEnabled = namespaceConfig.remoteStore.enabled;
+                    cacheInfo.remoteWriteMode = namespaceConfig.remoteStore.writeMode;
                 }
                 return cacheInfo;
             }).collect(Collectors.toSet());
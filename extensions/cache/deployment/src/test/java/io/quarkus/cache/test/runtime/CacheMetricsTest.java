@@ -0,0 +1,102 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the registration of the Caffeine cache statistics with Micrometer.
+ */
+public class CacheMetricsTest {
+
+    private static final String MONITORED_CACHE = "monitored-cache";
+    private static final String UNMONITORED_CACHE = "unmonitored-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + MONITORED_CACHE + "\".metrics-enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    private static final SimpleMeterRegistry SIMPLE_REGISTRY = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(SIMPLE_REGISTRY);
+    }
+
+    @AfterAll
+    static void removeSimpleRegistry() {
+        Metrics.globalRegistry.remove(SIMPLE_REGISTRY);
+        SIMPLE_REGISTRY.close();
+    }
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    public void testMetrics() {
+        // STEP 1
+        // Action: two calls of a method cached in a cache with metrics enabled.
+        // Expected effect: one miss and one hit recorded.
+        // Verified by: Micrometer meters and cache statistics.
+        cachedService.monitored("foo");
+        cachedService.monitored("foo");
+        CaffeineCache monitoredCache = (CaffeineCache) cacheManager.getCache(MONITORED_CACHE).get();
+        assertEquals(1D, registry.get("cache.gets").tag("cache", MONITORED_CACHE).tag("result", "hit").functionCounter()
+                .count());
+        assertEquals(1D, registry.get("cache.gets").tag("cache", MONITORED_CACHE).tag("result", "miss").functionCounter()
+                .count());
+        assertTrue(monitoredCache.isStatsRecorded());
+        assertEquals(1L, monitoredCache.getStats().loadSuccessCount());
+
+        // STEP 2
+        // Action: call of a method cached in a cache with metrics disabled.
+        // Expected effect: no statistics recorded.
+        // Verified by: absence of Micrometer meter for that cache.
+        cachedService.unmonitored("foo");
+        assertNull(registry.find("cache.gets").tag("cache", UNMONITORED_CACHE).functionCounter());
+        CaffeineCache unmonitoredCache = (CaffeineCache) cacheManager.getCache(UNMONITORED_CACHE).get();
+        assertFalse(unmonitoredCache.isStatsRecorded());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = MONITORED_CACHE)
+        public String monitored(String key) {
+            return new String();
+        }
+
+        @CacheResult(cacheName = UNMONITORED_CACHE)
+        public String unmonitored(String key) {
+            return new String();
+        }
+    }
+}
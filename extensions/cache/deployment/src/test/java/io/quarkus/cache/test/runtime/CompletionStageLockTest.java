@@ -0,0 +1,127 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the lock on cache miss mechanism with methods returning a {@link CompletionStage}.
+ */
+public class CompletionStageLockTest {
+
+    private static final Object TIMEOUT_KEY = new Object();
+    private static final Object NO_TIMEOUT_KEY = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testConcurrentCacheAccessWithoutLockTimeout() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<CompletionStage<String>> future1 = CompletableFuture
+                    .supplyAsync(() -> cachedService.cachedMethod(NO_TIMEOUT_KEY, started, release), executorService);
+            started.await();
+
+            // The first invocation is still running, the second one must not block the calling thread.
+            CompletionStage<String> completionStage2 = cachedService.cachedMethod(NO_TIMEOUT_KEY, new CountDownLatch(1),
+                    new CountDownLatch(0));
+            assertFalse(completionStage2.toCompletableFuture().isDone());
+
+            release.countDown();
+            String value1 = future1.get().toCompletableFuture().get();
+            String value2 = completionStage2.toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertTrue(value1 == value2);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentCacheAccessWithLockTimeout() throws Exception {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("test-cache").get();
+        long lockTimeouts = cache.getLockTimeoutCount();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CompletableFuture<CompletionStage<String>> future1 = CompletableFuture
+                    .supplyAsync(() -> cachedService.cachedMethodWithLockTimeout(TIMEOUT_KEY, started, release),
+                            executorService);
+            started.await();
+
+            /*
+             * The first invocation is blocked until the end of the test, so the second one can only complete once its lock
+             * timeout is reached and the method is invoked again.
+             */
+            CompletionStage<String> completionStage2 = cachedService.cachedMethodWithLockTimeout(TIMEOUT_KEY,
+                    new CountDownLatch(1), new CountDownLatch(0));
+            String value2 = completionStage2.toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals(lockTimeouts + 1, cache.getLockTimeoutCount());
+
+            release.countDown();
+            String value1 = future1.get().toCompletableFuture().get();
+            assertNotEquals(value1, value2);
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = "test-cache")
+        public CompletionStage<String> cachedMethod(@CacheKey Object key, CountDownLatch started, CountDownLatch release) {
+            return slowCompletionStage(started, release);
+        }
+
+        @CacheResult(cacheName = "test-cache", lockTimeout = 100)
+        public CompletionStage<String> cachedMethodWithLockTimeout(@CacheKey Object key, CountDownLatch started,
+                CountDownLatch release) {
+            return slowCompletionStage(started, release);
+        }
+
+        private CompletionStage<String> slowCompletionStage(CountDownLatch started, CountDownLatch release) {
+            started.countDown();
+            try {
+                // The CompletionStage creation is slow, concurrent invocations will have to wait for it.
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return CompletableFuture.completedFuture(new String(Thread.currentThread().getName() + System.nanoTime()));
+        }
+    }
+}
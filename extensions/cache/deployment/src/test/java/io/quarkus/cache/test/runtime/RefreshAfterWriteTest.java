@@ -0,0 +1,113 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final Object KEY = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"test-cache\".refresh-after-write=PT0.2S"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CACHE_NAME).get();
+        assertEquals(Duration.ofMillis(200L), cache.getRefreshAfterWrite());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: STEP 2.
+        String value1 = cachedService.cachedMethod(KEY);
+
+        // STEP 2
+        // Action: same call as STEP 1 before the entry is eligible for a refresh.
+        // Expected effect: method not invoked and result coming from the cache.
+        // Verified by: same object reference between STEPS 1 and 2 results.
+        String value2 = cachedService.cachedMethod(KEY);
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: same call as STEP 2 until the entry is eligible for a refresh.
+        // Expected effect: stale value returned immediately and method invoked asynchronously, in a request context.
+        // Verified by: same object reference between STEPS 2 and 3 results while the refresh is blocked.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        do {
+            String value3 = cachedService.cachedMethod(KEY);
+            assertTrue(value2 == value3);
+        } while (!cachedService.refreshStarted.await(10L, TimeUnit.MILLISECONDS) && System.nanoTime() < deadline);
+        assertEquals(0L, cachedService.refreshStarted.getCount());
+        assertTrue(cachedService.refreshedInRequestContext);
+        assertTrue(value2 == cachedService.cachedMethod(KEY));
+
+        // STEP 4
+        // Action: same call as STEP 3 once the refresh is released.
+        // Expected effect: refreshed value eventually returned from the cache.
+        // Verified by: different objects references between STEPS 3 and 4 results.
+        cachedService.releaseRefresh.countDown();
+        String value4 = value2;
+        while (value4 == value2 && System.nanoTime() < deadline) {
+            Thread.yield();
+            value4 = cachedService.cachedMethod(KEY);
+        }
+        assertTrue(value2 != value4);
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        final CountDownLatch refreshStarted = new CountDownLatch(1);
+
+        final CountDownLatch releaseRefresh = new CountDownLatch(1);
+
+        volatile boolean refreshedInRequestContext;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(Object key) throws InterruptedException {
+            if (invocations.incrementAndGet() > 1) {
+                refreshedInRequestContext = Arc.container().requestContext().isActive();
+                refreshStarted.countDown();
+                releaseRefresh.await(5L, TimeUnit.SECONDS);
+            }
+            return new String();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
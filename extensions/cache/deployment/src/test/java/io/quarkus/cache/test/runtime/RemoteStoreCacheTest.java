@@ -0,0 +1,211 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
+import io.quarkus.cache.runtime.tiered.RemoteWriteMode;
+import io.quarkus.cache.runtime.tiered.TieredCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests a Caffeine cache used as a near cache in front of a remote store.
+ */
+public class RemoteStoreCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String KEY = "foo";
+    private static final String RACING_KEY = "bar";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"test-cache\".remote-store.enabled=true"),
+                    "application.properties")
+            .addClasses(CachedService.class, InMemoryRemoteCacheStore.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    InMemoryRemoteCacheStore remoteStore;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testNearCacheAndRemoteStore() {
+        TieredCache cache = (TieredCache) cacheManager.getCache(CACHE_NAME).get();
+        assertEquals(RemoteWriteMode.WRITE_THROUGH, cache.getWriteMode());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached in both the near cache and the remote store.
+        // Verified by: invocations count and remote store content.
+        int invocations = cachedService.getInvocations();
+        String value1 = cachedService.cachedMethod(KEY);
+        assertEquals(invocations + 1, cachedService.getInvocations());
+        assertTrue(value1 == remoteStore.get(CACHE_NAME, KEY).toCompletableFuture().join());
+
+        // STEP 2
+        // Action: near cache cleared (simulates another application instance), then same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the remote store.
+        // Verified by: invocations count and same object reference between STEPS 1 and 2 results.
+        cache.getNearCache().invalidateAll();
+        String value2 = cachedService.cachedMethod(KEY);
+        assertEquals(invocations + 1, cachedService.getInvocations());
+        assertTrue(value1 == value2);
+
+        // STEP 3
+        // Action: invalidation published by another application instance.
+        // Expected effect: entry removed from the near cache.
+        // Verified by: STEP 4.
+        remoteStore.invalidate(CACHE_NAME, KEY);
+
+        // STEP 4
+        // Action: same call as STEP 2.
+        // Expected effect: method invoked because of STEP 3 and result cached.
+        // Verified by: invocations count and different objects references between STEPS 2 and 4 results.
+        String value4 = cachedService.cachedMethod(KEY);
+        assertEquals(invocations + 2, cachedService.getInvocations());
+        assertTrue(value2 != value4);
+
+        // STEP 5
+        // Action: @CacheInvalidate-annotated method call.
+        // Expected effect: entry removed from both the near cache and the remote store.
+        // Verified by: remote store content.
+        cachedService.invalidate(KEY);
+        assertNull(remoteStore.get(CACHE_NAME, KEY).toCompletableFuture().join());
+    }
+
+    @Test
+    public void testInvalidationRacingWithLoad() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached in both the near cache and the remote store.
+        // Verified by: invocations count.
+        int invocations = cachedService.getInvocations();
+        String value1 = cachedService.cachedMethod(RACING_KEY);
+        assertEquals(invocations + 1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: @CacheInvalidate-annotated method call while the remote store is slow to apply the invalidation.
+        // Expected effect: the caller is not blocked by the remote store.
+        // Verified by: pending remote invalidation.
+        CompletableFuture<Void> remoteInvalidation = new CompletableFuture<>();
+        remoteStore.pendingInvalidation = remoteInvalidation;
+        cachedService.invalidate(RACING_KEY);
+        assertFalse(remoteInvalidation.isDone());
+
+        // STEP 3
+        // Action: same call as STEP 1 before the remote invalidation is applied.
+        // Expected effect: stale value loaded from the remote store.
+        // Verified by: invocations count and same object reference between STEPS 1 and 3 results.
+        String value3 = cachedService.cachedMethod(RACING_KEY);
+        assertEquals(invocations + 1, cachedService.getInvocations());
+        assertTrue(value1 == value3);
+
+        // STEP 4
+        // Action: remote invalidation applied, then same call as STEP 3.
+        // Expected effect: stale value removed from the near cache and method invoked.
+        // Verified by: invocations count and different objects references between STEPS 3 and 4 results.
+        remoteStore.applyPendingInvalidation(RACING_KEY);
+        String value4 = cachedService.cachedMethod(RACING_KEY);
+        assertEquals(invocations + 2, cachedService.getInvocations());
+        assertTrue(value3 != value4);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations++;
+            return new String();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+    }
+
+    @ApplicationScoped
+    static class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+        private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+        // When set, the next invalidation is only applied once applyPendingInvalidation is called.
+        volatile CompletableFuture<Void> pendingInvalidation;
+
+        @Override
+        public CompletionStage<Object> get(String cacheName, Object key) {
+            return CompletableFuture.completedFuture(values.get(key));
+        }
+
+        @Override
+        public CompletionStage<Void> put(String cacheName, Object key, Object value) {
+            values.put(key, value);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> invalidate(String cacheName, Object key) {
+            if (pendingInvalidation != null) {
+                return pendingInvalidation;
+            }
+            values.remove(key);
+            for (InvalidationListener listener : listeners) {
+                listener.onInvalidate(key);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> invalidateAll(String cacheName) {
+            values.clear();
+            for (InvalidationListener listener : listeners) {
+                listener.onInvalidateAll();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        void applyPendingInvalidation(Object key) {
+            CompletableFuture<Void> invalidation = pendingInvalidation;
+            pendingInvalidation = null;
+            values.remove(key);
+            invalidation.complete(null);
+        }
+
+        @Override
+        public void addInvalidationListener(String cacheName, InvalidationListener listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the caching of the items emitted by {@link Uni} and {@link Multi} returning methods.
+ */
+public class UniMultiReturnTypeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testUni() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call without subscription.
+        // Expected effect: method invoked but Uni item not computed.
+        // Verified by: item computations count.
+        Uni<String> uni1 = cachedService.cachedUni("foo");
+        assertEquals(0, cachedService.getUniComputations());
+
+        // STEP 2
+        // Action: subscription to the Uni from STEP 1.
+        // Expected effect: Uni item computed and cached.
+        // Verified by: item computations count.
+        String value2 = uni1.await().atMost(TIMEOUT);
+        assertEquals(1, cachedService.getUniComputations());
+
+        // STEP 3
+        // Action: same call as STEP 1 followed by a subscription.
+        // Expected effect: Uni item not computed and cached item returned.
+        // Verified by: item computations count and same object reference between STEPS 2 and 3 results.
+        String value3 = cachedService.cachedUni("foo").await().atMost(TIMEOUT);
+        assertEquals(1, cachedService.getUniComputations());
+        assertTrue(value2 == value3);
+    }
+
+    @Test
+    public void testConcurrentUniSubscriptions() {
+        // STEP 1
+        // Action: two subscriptions to a Uni whose item is not available yet.
+        // Expected effect: Uni item computed only once and both subscriptions pending.
+        // Verified by: item computations count and subscriptions state.
+        CompletableFuture<String> result1 = cachedService.pendingUni("bar").subscribeAsCompletionStage();
+        CompletableFuture<String> result2 = cachedService.pendingUni("bar").subscribeAsCompletionStage();
+        assertEquals(1, cachedService.getPendingComputations());
+        assertTrue(!result1.isDone() && !result2.isDone());
+
+        // STEP 2
+        // Action: Uni item emitted.
+        // Expected effect: both subscriptions completed with the same item.
+        // Verified by: same object reference between both results.
+        cachedService.completePending();
+        assertTrue(result1.join() == result2.join());
+    }
+
+    @Test
+    public void testUniFailure() {
+        // STEP 1
+        // Action: subscription to a failing Uni.
+        // Expected effect: failure propagated and not cached.
+        // Verified by: exception type and STEP 2.
+        assertThrows(IllegalStateException.class, () -> cachedService.failingUni("baz").await().atMost(TIMEOUT));
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: Uni item computed again.
+        // Verified by: item computations count.
+        assertThrows(IllegalStateException.class, () -> cachedService.failingUni("baz").await().atMost(TIMEOUT));
+        assertEquals(2, cachedService.getFailingComputations());
+    }
+
+    @Test
+    public void testMulti() {
+        // STEP 1
+        // Action: subscription to a Multi returned by a @CacheResult-annotated method.
+        // Expected effect: Multi items emitted and cached.
+        // Verified by: items and stream subscriptions count.
+        List<String> items1 = cachedService.cachedMulti("qux").collectItems().asList().await().atMost(TIMEOUT);
+        assertEquals(3, items1.size());
+        assertEquals(1, cachedService.getMultiSubscriptions());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: cached items replayed without subscribing to the original stream.
+        // Verified by: stream subscriptions count and same object references between STEPS 1 and 2 items.
+        List<String> items2 = cachedService.cachedMulti("qux").collectItems().asList().await().atMost(TIMEOUT);
+        assertEquals(1, cachedService.getMultiSubscriptions());
+        for (int i = 0; i < items1.size(); i++) {
+            assertTrue(items1.get(i) == items2.get(i));
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger uniComputations = new AtomicInteger();
+        private final AtomicInteger pendingComputations = new AtomicInteger();
+        private final AtomicInteger failingComputations = new AtomicInteger();
+        private final AtomicInteger multiSubscriptions = new AtomicInteger();
+        private final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        @CacheResult(cacheName = "uni-cache")
+        public Uni<String> cachedUni(@CacheKey String key) {
+            return Uni.createFrom().item(() -> {
+                uniComputations.incrementAndGet();
+                return new String();
+            });
+        }
+
+        @CacheResult(cacheName = "pending-cache")
+        public Uni<String> pendingUni(@CacheKey String key) {
+            return Uni.createFrom().completionStage(() -> {
+                pendingComputations.incrementAndGet();
+                return pending;
+            });
+        }
+
+        @CacheResult(cacheName = "failing-cache")
+        public Uni<String> failingUni(@CacheKey String key) {
+            return Uni.createFrom().item(() -> {
+                failingComputations.incrementAndGet();
+                throw new IllegalStateException();
+            });
+        }
+
+        @CacheResult(cacheName = "multi-cache")
+        public Multi<String> cachedMulti(@CacheKey String key) {
+            return Multi.createFrom().items(new String(), new String(), new String())
+                    .onSubscribe().invoke(subscription -> multiSubscriptions.incrementAndGet());
+        }
+
+        public void completePending() {
+            pending.complete(new String());
+        }
+
+        public int getUniComputations() {
+            return uniComputations.get();
+        }
+
+        public int getPendingComputations() {
+            return pendingComputations.get();
+        }
+
+        public int getFailingComputations() {
+            return failingComputations.get();
+        }
+
+        public int getMultiSubscriptions() {
+            return multiSubscriptions.get();
+        }
+    }
+}
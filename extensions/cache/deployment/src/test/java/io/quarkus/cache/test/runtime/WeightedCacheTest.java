@@ -0,0 +1,151 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineStorageMode;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the weight-based eviction and the off-heap storage mode.
+ */
+public class WeightedCacheTest {
+
+    private static final String WEIGHTED_CACHE = "weighted-cache";
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".maximum-weight", "100")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".weigher", LengthWeigher.class.getName())
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".maximum-weight", "1000000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".storage-mode", "off-heap")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class,
+                    LengthWeigher.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testWeightedEviction() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(WEIGHTED_CACHE).get();
+        assertEquals(100L, cache.getMaximumWeight());
+
+        // STEP 1
+        // Action: two entries weighing 60 each are cached.
+        // Expected effect: one of them is evicted because the maximum weight is exceeded.
+        // Verified by: size and weighted size of the cache (the eviction and the weight updates are asynchronous).
+        cachedService.weighted("foo", 60);
+        cachedService.weighted("bar", 60);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while ((cache.getSize() != 1L || cache.getWeightedSize() != 60L) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1L, cache.getSize());
+        assertEquals(60L, cache.getWeightedSize());
+    }
+
+    @Test
+    public void testOffHeapStorage() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(OFF_HEAP_CACHE).get();
+        assertEquals(CaffeineStorageMode.OFF_HEAP, cache.getStorageMode());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result serialized off-heap.
+        // Verified by: invocations count and weighted size (serialized size by default).
+        StringBuilder value1 = cachedService.offHeap("foo");
+        assertEquals(1, cachedService.getOffHeapInvocations());
+        assertTrue(cache.getWeightedSize() > 0L);
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and a deserialized copy of the result returned.
+        // Verified by: invocations count, equal content and different objects references between STEPS 1 and 2 results.
+        StringBuilder value2 = cachedService.offHeap("foo");
+        assertEquals(1, cachedService.getOffHeapInvocations());
+        assertEquals(value1.toString(), value2.toString());
+        assertFalse(value1 == value2);
+
+        // STEP 3
+        // Action: call of a method returning a value which cannot be serialized.
+        // Expected effect: exception thrown and nothing cached.
+        // Verified by: exception type.
+        assertThrows(IllegalArgumentException.class, () -> cachedService.notSerializable("bar"));
+    }
+
+    @Test
+    public void testOffHeapBuffersReuse() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(OFF_HEAP_CACHE).get();
+
+        // STEP 1
+        // Action: many values cached and invalidated one after the other.
+        // Expected effect: the buffers of the invalidated values are freed and reused.
+        // Verified by: direct memory allocated by the cache.
+        cachedService.offHeap("reused-0");
+        cache.invalidate("reused-0");
+        long slabBytes = cache.getOffHeapSlabBytes();
+        assertTrue(slabBytes > 0L);
+        for (int i = 1; i < 10_000; i++) {
+            assertEquals("value-reused-" + i, cachedService.offHeap("reused-" + i).toString());
+            assertEquals("value-reused-" + i, cachedService.offHeap("reused-" + i).toString());
+            cache.invalidate("reused-" + i);
+        }
+        assertEquals(slabBytes, cache.getOffHeapSlabBytes());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int offHeapInvocations;
+
+        @CacheResult(cacheName = WEIGHTED_CACHE)
+        public String weighted(String key, int length) {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                value.append('x');
+            }
+            return value.toString();
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public StringBuilder offHeap(String key) {
+            offHeapInvocations++;
+            return new StringBuilder("value-").append(key);
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public Object notSerializable(String key) {
+            return new Object();
+        }
+
+        public int getOffHeapInvocations() {
+            return offHeapInvocations;
+        }
+    }
+
+    public static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return ((String) value).length();
+        }
+    }
+}
@@ -22,7 +22,15 @@ import javax.interceptor.InterceptorBinding;
  * concurrent invocation will trigger the method invocation while the subsequent concurrent invocations will wait for the end
  * of the method invocation to get the cached result. The {@code lockTimeout} parameter can be used to interrupt the lock after
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
- * more details.
+ * more details. If the annotated method returns a {@link java.util.concurrent.CompletionStage CompletionStage}, the subsequent
+ * concurrent invocations do not block the calling thread: they immediately return a {@code CompletionStage} which is completed
+ * when the cached result becomes available or, if the lock timeout is reached first, with the result of a new invocation.
+ * <p>
+ * If the annotated method returns a {@link io.smallrye.mutiny.Uni Uni}, the item emitted by the {@code Uni} is cached instead
+ * of
+ * the {@code Uni} itself and the cache is only queried when the returned {@code Uni} is subscribed to. If the annotated method
+ * returns a {@link io.smallrye.mutiny.Multi Multi}, the emitted items are collected into a list which is cached and replayed
+ * to the subsequent subscribers. In both cases, a failure is never cached.
  * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
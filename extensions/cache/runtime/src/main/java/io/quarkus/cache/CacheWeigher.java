@@ -0,0 +1,21 @@
+package io.quarkus.cache;
+
+/**
+ * Computes the relative weight of a cache entry when the {@code maximum-weight} configuration property is set for a cache. An
+ * implementation is configured with the {@code weigher} property and must provide a public no-args constructor.
+ * <p>
+ * The weight is computed once when the entry is stored in the cache and is never recomputed afterwards. The implementation must
+ * therefore be fast and thread-safe.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. There is no unit for entry weights, the values only need to be consistent with the
+     * configured maximum weight (e.g. a number of bytes).
+     * 
+     * @param key cache key
+     * @param value cache value, possibly {@code null}
+     * @return a non-negative weight
+     */
+    int weigh(Object key, Object value);
+}
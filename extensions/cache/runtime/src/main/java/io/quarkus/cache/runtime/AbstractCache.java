@@ -4,6 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -29,7 +30,26 @@ public abstract class AbstractCache implements Cache {
 
     public abstract CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader);
 
+    /**
+     * Returns a lazy {@link Uni} emitting the cache value identified by {@code key}. On subscription, if {@code key} is not
+     * already associated with a value, the {@link Uni} returned by {@code valueLoader} is subscribed to and its item is
+     * stored in the cache. Concurrent subscriptions for the same key share a single {@code valueLoader} subscription and
+     * never block the calling thread.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a lazy {@link Uni} emitting the cache value
+     */
+    public abstract Uni<Object> getAsync(Object key, Function<Object, Uni<Object>> valueLoader);
+
     public abstract void invalidate(Object key);
 
     public abstract void invalidateAll();
+
+    /**
+     * Records that an invocation of a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} reached its lock
+     * timeout while waiting for the computation of a cache value. The default implementation does nothing.
+     */
+    public void recordLockTimeout() {
+    }
 }
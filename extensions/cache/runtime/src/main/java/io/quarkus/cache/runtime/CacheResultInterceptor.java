@@ -1,10 +1,18 @@
 package io.quarkus.cache.runtime;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -12,8 +20,12 @@ import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
+import org.reactivestreams.Publisher;
 
 import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -41,6 +53,23 @@ public class CacheResultInterceptor extends CacheInterceptor {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
         }
 
+        Class<?> returnType = invocationContext.getMethod().getReturnType();
+        if (returnType == Uni.class) {
+            return getUni(cache, key, binding.lockTimeout(), new Supplier<Uni<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Uni<Object> get() {
+                    try {
+                        return (Uni<Object>) invocationContext.proceed();
+                    } catch (Exception e) {
+                        return Uni.createFrom().failure(e);
+                    }
+                }
+            });
+        } else if (returnType == Multi.class) {
+            return getMulti(cache, key, binding.lockTimeout(), invocationContext);
+        }
+
         try {
 
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
@@ -54,7 +83,13 @@ public class CacheResultInterceptor extends CacheInterceptor {
                 }
             });
 
-            if (binding.lockTimeout() <= 0) {
+            if (!cacheValue.isDone() && returnsCompletionStage(returnType)) {
+                /*
+                 * The cache value is being computed by another invocation. Since the cached method is asynchronous, the current
+                 * thread (which may be an event loop thread) is never blocked while waiting for the end of that computation.
+                 */
+                return getAsync(cache, cacheValue, binding.lockTimeout(), invocationContext);
+            } else if (binding.lockTimeout() <= 0) {
                 return cacheValue.get();
             } else {
                 try {
@@ -64,7 +99,7 @@ public class CacheResultInterceptor extends CacheInterceptor {
                      */
                     return cacheValue.get(binding.lockTimeout(), TimeUnit.MILLISECONDS);
                 } catch (TimeoutException e) {
-                    // TODO: Add statistics here to monitor the timeout.
+                    cache.recordLockTimeout();
                     return invocationContext.proceed();
                 }
             }
@@ -93,4 +128,153 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
         }
     }
+
+    private static boolean returnsCompletionStage(Class<?> returnType) {
+        return returnType == CompletionStage.class || returnType == CompletableFuture.class;
+    }
+
+    /*
+     * The returned Uni is lazy: the cache is only queried when it is subscribed to and the item emitted by the cached method is
+     * stored in the cache, not the Uni instance itself. The subscribing thread is never blocked.
+     */
+    private static Uni<Object> getUni(AbstractCache cache, Object key, long lockTimeout, Supplier<Uni<Object>> invoker) {
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                // Set when this subscription is the one computing the cache value.
+                AtomicBoolean computing = new AtomicBoolean();
+                Function<Object, Uni<Object>> valueLoader = new Function<Object, Uni<Object>>() {
+                    @Override
+                    public Uni<Object> apply(Object k) {
+                        computing.set(true);
+                        return invoker.get();
+                    }
+                };
+                Uni<Object> cacheValue = cache.getAsync(key, valueLoader);
+                if (lockTimeout > 0) {
+                    cacheValue = cacheValue.ifNoItem().after(Duration.ofMillis(lockTimeout))
+                            .recoverWithUni(new Supplier<Uni<?>>() {
+                                @Override
+                                public Uni<?> get() {
+                                    if (computing.get()) {
+                                        // The lock timeout never interrupts the computation started by this subscription.
+                                        return cache.getAsync(key, valueLoader);
+                                    }
+                                    // The lock timeout was reached: the cached method is invoked and its result is not cached.
+                                    cache.recordLockTimeout();
+                                    return invoker.get();
+                                }
+                            });
+                }
+                return cacheValue.onFailure(CacheException.class).transform(new Function<Throwable, Throwable>() {
+                    @Override
+                    public Throwable apply(Throwable t) {
+                        return t.getCause() != null ? t.getCause() : t;
+                    }
+                });
+            }
+        });
+    }
+
+    /*
+     * The items emitted by the cached method are collected into a list which is stored in the cache and replayed to every
+     * subscriber. This is only suitable for finite streams.
+     */
+    @SuppressWarnings("unchecked")
+    private static Multi<Object> getMulti(AbstractCache cache, Object key, long lockTimeout,
+            InvocationContext invocationContext) {
+        Supplier<Uni<Object>> invoker = new Supplier<Uni<Object>>() {
+            @Override
+            public Uni<Object> get() {
+                try {
+                    return (Uni<Object>) (Uni<?>) ((Multi<Object>) invocationContext.proceed()).collectItems().asList();
+                } catch (Exception e) {
+                    return Uni.createFrom().failure(e);
+                }
+            }
+        };
+        return getUni(cache, key, lockTimeout, invoker).onItem().transformToMulti(new Function<Object, Publisher<?>>() {
+            @Override
+            public Publisher<?> apply(Object items) {
+                return Multi.createFrom().iterable((List<Object>) items);
+            }
+        });
+    }
+
+    private CompletableFuture<Object> getAsync(AbstractCache cache, CompletableFuture<Object> cacheValue, long lockTimeout,
+            InvocationContext invocationContext) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        // Either the lock timeout task or the cache value completion is responsible for the result completion, never both.
+        AtomicBoolean resultOwned = new AtomicBoolean();
+        ScheduledFuture<?> timeout;
+        if (lockTimeout > 0) {
+            // The cached method may have to be invoked later from another thread, as if it was invoked by the caller.
+            CallerContext callerContext = CallerContext.capture();
+            timeout = Infrastructure.getDefaultWorkerPool().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (!resultOwned.compareAndSet(false, true)) {
+                        return;
+                    }
+                    // The lock timeout was reached: the cached method is invoked and its result is not cached.
+                    cache.recordLockTimeout();
+                    callerContext.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                complete(result, invocationContext.proceed());
+                            } catch (Throwable t) {
+                                result.completeExceptionally(t);
+                            }
+                        }
+                    });
+                }
+            }, lockTimeout, TimeUnit.MILLISECONDS);
+        } else {
+            timeout = null;
+        }
+        cacheValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                if (!resultOwned.compareAndSet(false, true)) {
+                    // The lock timeout task is already running and will complete the result.
+                    return;
+                }
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                if (failure == null) {
+                    complete(result, value);
+                } else {
+                    Throwable cause = failure;
+                    if (cause instanceof CompletionException && cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+                    if (cause instanceof CacheException && cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+                    result.completeExceptionally(cause);
+                }
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(CompletableFuture<Object> result, Object completionStage) {
+        if (completionStage == null) {
+            result.complete(null);
+        } else {
+            ((CompletionStage<Object>) completionStage).whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    if (failure == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(failure);
+                    }
+                }
+            });
+        }
+    }
 }
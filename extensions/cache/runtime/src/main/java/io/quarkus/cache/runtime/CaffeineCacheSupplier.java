@@ -11,6 +11,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.tiered.TieredCache;
 
 public class CaffeineCacheSupplier implements Supplier<Collection<CaffeineCache>> {
 
@@ -23,6 +24,8 @@ public class CaffeineCacheSupplier implements Supplier<Collection<CaffeineCache>
             Optional<Cache> cache = cacheManager.getCache(name);
             if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
                 allCaches.add((CaffeineCache) cache.get());
+            } else if (cache.isPresent() && cache.get() instanceof TieredCache) {
+                allCaches.add(((TieredCache) cache.get()).getNearCache());
             }
         }
         allCaches.sort(Comparator.comparing(CaffeineCache::getName));
@@ -0,0 +1,117 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.Executor;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Captures the context of the thread invoking a cached method, so that the method can later be invoked from another
+ * thread as if it was invoked by the caller: on the caller's Vert.x context if there is one or on the default executor
+ * otherwise, with the caller's request context activated.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public final class CallerContext {
+
+    private static final boolean VERTX_PRESENT = isVertxPresent();
+
+    private final Executor executor;
+    private final ManagedContext requestContext;
+    private final ContextState requestContextState;
+
+    private CallerContext(Executor executor, ManagedContext requestContext, ContextState requestContextState) {
+        this.executor = executor;
+        this.requestContext = requestContext;
+        this.requestContextState = requestContextState;
+    }
+
+    /**
+     * Captures the context of the current thread. The tasks will be executed on the current Vert.x context if there is one,
+     * which must therefore not be blocked while waiting for them.
+     */
+    public static CallerContext capture() {
+        return capture(true);
+    }
+
+    /**
+     * Captures the context of the current thread. The tasks will always be executed on the default executor, so the current
+     * thread may block while waiting for them.
+     */
+    public static CallerContext captureForBlockingCaller() {
+        return capture(false);
+    }
+
+    private static CallerContext capture(boolean useVertxContext) {
+        Executor executor = useVertxContext && VERTX_PRESENT ? VertxContextExecutor.ofCurrentContext() : null;
+        if (executor == null) {
+            executor = Infrastructure.getDefaultExecutor();
+        }
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container != null ? container.requestContext() : null;
+        if (requestContext != null && requestContext.isActive()) {
+            return new CallerContext(executor, requestContext, requestContext.getState());
+        }
+        return new CallerContext(executor, null, null);
+    }
+
+    /**
+     * Runs the given task on the caller's executor, with the caller's request context activated.
+     */
+    public void execute(Runnable task) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (requestContextState == null) {
+                    task.run();
+                    return;
+                }
+                ContextState previousState = requestContext.isActive() ? requestContext.getState() : null;
+                requestContext.activate(requestContextState);
+                try {
+                    task.run();
+                } finally {
+                    if (previousState != null) {
+                        requestContext.activate(previousState);
+                    } else {
+                        requestContext.deactivate();
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isVertxPresent() {
+        try {
+            Class.forName("io.vertx.core.Vertx", false, CallerContext.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // This class must only be loaded if Vert.x is available.
+    private static class VertxContextExecutor {
+
+        static Executor ofCurrentContext() {
+            io.vertx.core.Context context = io.vertx.core.Vertx.currentContext();
+            if (context == null) {
+                return null;
+            }
+            return new Executor() {
+                @Override
+                public void execute(Runnable task) {
+                    context.runOnContext(new io.vertx.core.Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            task.run();
+                        }
+                    });
+                }
+            };
+        }
+    }
+}
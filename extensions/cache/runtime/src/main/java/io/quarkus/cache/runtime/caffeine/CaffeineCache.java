@@ -2,14 +2,37 @@ package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -17,6 +40,8 @@ import io.quarkus.cache.runtime.NullValueConverter;
  */
 public class CaffeineCache extends AbstractCache {
 
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
@@ -25,11 +50,36 @@ public class CaffeineCache extends AbstractCache {
 
     private Long maximumSize;
 
+    private Long maximumWeight;
+
+    private CacheWeigher weigher;
+
+    private CaffeineStorageMode storageMode = CaffeineStorageMode.HEAP;
+
+    // Only set in the off-heap storage mode.
+    private CaffeineOffHeapAllocator offHeapAllocator;
+
     private Duration expireAfterWrite;
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    /*
+     * Caffeine records the loads when the cached futures complete but not the hits and misses of the asMap() operations,
+     * these are recorded by this class.
+     */
+    private StatsCounter statsCounter;
+
+    private final LongAdder lockTimeoutCount = new LongAdder();
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
+        this(cacheInfo, new NoOpMetricsInitializer(false));
+    }
+
+    public CaffeineCache(CaffeineCacheInfo cacheInfo, CaffeineCacheMetricsInitializer metricsInitializer) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
@@ -40,6 +90,38 @@ public class CaffeineCache extends AbstractCache {
             this.maximumSize = cacheInfo.maximumSize;
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            this.maximumWeight = cacheInfo.maximumWeight;
+            if (cacheInfo.weigherClassName != null) {
+                this.weigher = newWeigher(cacheInfo.weigherClassName);
+            }
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    return weighCacheValue(key, value);
+                }
+            });
+        }
+        if (cacheInfo.storageMode != null) {
+            this.storageMode = cacheInfo.storageMode;
+        }
+        if (storageMode == CaffeineStorageMode.OFF_HEAP) {
+            this.offHeapAllocator = new CaffeineOffHeapAllocator();
+            // The buffers of the removed values are freed explicitly, on the thread removing them, so that they can be reused.
+            builder.executor(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    command.run();
+                }
+            });
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    releaseRemovedValue(key, value);
+                }
+            });
+        }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
@@ -48,7 +130,27 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+        }
+        if (metricsInitializer.recordStats()) {
+            StatsCounter counter = new ConcurrentStatsCounter();
+            this.statsCounter = counter;
+            builder.recordStats(new Supplier<StatsCounter>() {
+                @Override
+                public StatsCounter get() {
+                    return counter;
+                }
+            });
+        }
         cache = builder.buildAsync();
+        metricsInitializer.initialize(cache, name, new LongSupplier() {
+            @Override
+            public long getAsLong() {
+                return getLockTimeoutCount();
+            }
+        });
     }
 
     @Override
@@ -60,6 +162,10 @@ public class CaffeineCache extends AbstractCache {
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
      * {@link CompletableFuture} is immediately completed before being returned.
+     * <p>
+     * If refresh after write is enabled and the existing value is eligible for a refresh, that value is returned immediately
+     * while a new value is computed asynchronously with {@code valueLoader}. The new value replaces the existing one unless
+     * the entry was invalidated in the meantime.
      * 
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
@@ -74,20 +180,315 @@ public class CaffeineCache extends AbstractCache {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            recordMiss();
+            AtomicReference<Object> loadedValue = new AtomicReference<>();
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                loadedValue.set(value);
+                newCacheValue.complete(toCacheValue(key, value));
+                updateWeight(key, newCacheValue);
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
             }
-            return unwrapCacheValueOrThrowable(newCacheValue);
+            return unwrapCacheValueOrThrowable(newCacheValue, loadedValue);
+        } else {
+            recordHit();
+            if (refreshAfterWriteNanos > 0L) {
+                refreshIfNeeded(key, existingCacheValue, valueLoader);
+            }
+            CompletableFuture<Object> result = unwrapCacheValueOrThrowable(existingCacheValue, null);
+            if (offHeapAllocator != null) {
+                result = retryIfReleased(result, new Supplier<CompletableFuture<Object>>() {
+                    @Override
+                    public CompletableFuture<Object> get() {
+                        return CaffeineCache.this.get(key, valueLoader);
+                    }
+                });
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns a lazy {@link Uni} emitting the cache value identified by {@code key}, obtaining that value from the
+     * {@link Uni} returned by {@code valueLoader} if necessary. The calling thread is never blocked: if the value is being
+     * computed by another subscription, the returned {@link Uni} emits the value when that computation completes. A failed
+     * computation is not cached.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a lazy {@link Uni} emitting the cache value
+     */
+    @Override
+    public Uni<Object> getAsync(Object key, Function<Object, Uni<Object>> valueLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
+                CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+                if (existingCacheValue == null) {
+                    recordMiss();
+                    AtomicReference<Object> loadedValue = new AtomicReference<>();
+                    Uni<Object> value;
+                    try {
+                        value = valueLoader.apply(key);
+                    } catch (Throwable t) {
+                        value = Uni.createFrom().failure(t);
+                    }
+                    value.subscribe().with(new Consumer<Object>() {
+                        @Override
+                        public void accept(Object item) {
+                            Object cacheValue;
+                            loadedValue.set(item);
+                            try {
+                                cacheValue = toCacheValue(key, item);
+                            } catch (Throwable t) {
+                                cache.asMap().remove(key, newCacheValue);
+                                cacheValue = new CaffeineComputationThrowable(t);
+                            }
+                            newCacheValue.complete(cacheValue);
+                            updateWeight(key, newCacheValue);
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable t) {
+                            cache.asMap().remove(key, newCacheValue);
+                            newCacheValue.complete(new CaffeineComputationThrowable(t));
+                        }
+                    });
+                    // The shared future is never exposed, cancelling a subscription does not cancel the computation.
+                    return Uni.createFrom().completionStage(unwrapCacheValueOrThrowable(newCacheValue, loadedValue));
+                } else {
+                    recordHit();
+                    if (refreshAfterWriteNanos > 0L) {
+                        refreshAsyncIfNeeded(key, existingCacheValue, valueLoader);
+                    }
+                    CompletableFuture<Object> result = unwrapCacheValueOrThrowable(existingCacheValue, null);
+                    if (offHeapAllocator != null) {
+                        result = retryIfReleased(result, new Supplier<CompletableFuture<Object>>() {
+                            @Override
+                            public CompletableFuture<Object> get() {
+                                return getAsync(key, valueLoader).subscribe().asCompletionStage();
+                            }
+                        });
+                    }
+                    return Uni.createFrom().completionStage(result);
+                }
+            }
+        });
+    }
+
+    /*
+     * An entry inserted with an incomplete future weighs 0 and Caffeine does not weigh it again when the future completes. The
+     * entry is therefore replaced with itself, which triggers a new weight computation unless the entry was removed meanwhile.
+     */
+    private void updateWeight(Object key, CompletableFuture<Object> cacheValue) {
+        if (maximumWeight != null) {
+            cache.asMap().replace(key, cacheValue, cacheValue);
+        }
+    }
+
+    private CacheWeigher newWeigher(String className) {
+        try {
+            Class<?> weigherClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            return (CacheWeigher) weigherClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Unable to create the weigher of cache [" + name + "]: " + className, e);
+        }
+    }
+
+    /*
+     * Caffeine calls this method once the future holding the cache value is completed. The weight of an off-heap value is
+     * computed before its serialization.
+     */
+    private int weighCacheValue(Object key, Object value) {
+        if (value instanceof CaffeineRefreshableValue) {
+            value = ((CaffeineRefreshableValue) value).getValue();
+        }
+        if (value instanceof CaffeineOffHeapValue) {
+            return ((CaffeineOffHeapValue) value).getWeight();
+        } else if (value instanceof CaffeineComputationThrowable) {
+            // The entry is being removed from the cache.
+            return 0;
+        } else if (weigher != null) {
+            return weigher.weigh(key, NullValueConverter.fromCacheValue(value));
         } else {
-            return unwrapCacheValueOrThrowable(existingCacheValue);
+            // This can only happen with a null value in the off-heap storage mode.
+            return 0;
+        }
+    }
+
+    private void recordHit() {
+        if (statsCounter != null) {
+            statsCounter.recordHits(1);
         }
     }
 
-    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
+    private void recordMiss() {
+        if (statsCounter != null) {
+            statsCounter.recordMisses(1);
+        }
+    }
+
+    private Object toCacheValue(Object key, Object value) {
+        Object cacheValue;
+        if (storageMode == CaffeineStorageMode.OFF_HEAP && value != null) {
+            int weight = weigher != null ? weigher.weigh(key, value) : -1;
+            cacheValue = CaffeineOffHeapValue.of(value, weight, name, offHeapAllocator);
+        } else {
+            cacheValue = NullValueConverter.toCacheValue(value);
+        }
+        if (refreshAfterWriteNanos > 0L) {
+            return new CaffeineRefreshableValue(cacheValue, System.nanoTime());
+        } else {
+            return cacheValue;
+        }
+    }
+
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue, Function<Object, Object> valueLoader) {
+        // The refresh is only triggered from a value that is already known, a pending computation is never refreshed.
+        Object value = cacheValue.getNow(null);
+        if (value instanceof CaffeineRefreshableValue) {
+            CaffeineRefreshableValue refreshableValue = (CaffeineRefreshableValue) value;
+            if (refreshableValue.startRefresh(System.nanoTime(), refreshAfterWriteNanos)) {
+                /*
+                 * The value loader is invoked after the end of the invocation which triggered the refresh, so the refresh is
+                 * executed on the default executor with its own request context. The interceptor chain supports being
+                 * continued asynchronously and the invocation parameters are captured by the value loader.
+                 */
+                Infrastructure.getDefaultExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        ManagedContext requestContext = getInactiveRequestContext();
+                        if (requestContext != null) {
+                            requestContext.activate();
+                        }
+                        try {
+                            Object newValue = valueLoader.apply(key);
+                            replaceRefreshedValue(key, cacheValue, toCacheValue(key, newValue));
+                        } catch (Throwable t) {
+                            refreshableValue.refreshFailed();
+                            LOGGER.debugf(t, "Unable to refresh entry with key [%s] from cache [%s]", key, name);
+                        } finally {
+                            if (requestContext != null) {
+                                requestContext.terminate();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static ManagedContext getInactiveRequestContext() {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return null;
+        }
+        ManagedContext requestContext = container.requestContext();
+        return requestContext.isActive() ? null : requestContext;
+    }
+
+    private void refreshAsyncIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, Uni<Object>> valueLoader) {
+        Object value = cacheValue.getNow(null);
+        if (value instanceof CaffeineRefreshableValue) {
+            CaffeineRefreshableValue refreshableValue = (CaffeineRefreshableValue) value;
+            if (refreshableValue.startRefresh(System.nanoTime(), refreshAfterWriteNanos)) {
+                Uni<Object> newValue;
+                try {
+                    newValue = valueLoader.apply(key);
+                } catch (Throwable t) {
+                    newValue = Uni.createFrom().failure(t);
+                }
+                newValue.subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object item) {
+                        try {
+                            replaceRefreshedValue(key, cacheValue, toCacheValue(key, item));
+                        } catch (Throwable t) {
+                            refreshableValue.refreshFailed();
+                            LOGGER.debugf(t, "Unable to refresh entry with key [%s] from cache [%s]", key, name);
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        refreshableValue.refreshFailed();
+                        LOGGER.debugf(t, "Unable to refresh entry with key [%s] from cache [%s]", key, name);
+                    }
+                });
+            }
+        }
+    }
+
+    private void replaceRefreshedValue(Object key, CompletableFuture<Object> cacheValue, Object newCacheValue) {
+        // If the entry was invalidated or replaced during the refresh, the new value is discarded.
+        if (!cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(newCacheValue))) {
+            releaseOffHeapValue(newCacheValue);
+        }
+    }
+
+    private void releaseRemovedValue(Object key, Object cacheValue) {
+        CaffeineOffHeapValue offHeapValue = getOffHeapValue(cacheValue);
+        if (offHeapValue == null) {
+            return;
+        }
+        // An entry replaced with itself to update its weight is still in the cache.
+        CompletableFuture<Object> currentCacheValue = cache.asMap().get(key);
+        if (currentCacheValue != null && getOffHeapValue(currentCacheValue.getNow(null)) == offHeapValue) {
+            return;
+        }
+        offHeapValue.release();
+    }
+
+    private static void releaseOffHeapValue(Object cacheValue) {
+        CaffeineOffHeapValue offHeapValue = getOffHeapValue(cacheValue);
+        if (offHeapValue != null) {
+            offHeapValue.release();
+        }
+    }
+
+    private static CaffeineOffHeapValue getOffHeapValue(Object cacheValue) {
+        if (cacheValue instanceof CaffeineRefreshableValue) {
+            cacheValue = ((CaffeineRefreshableValue) cacheValue).getValue();
+        }
+        return cacheValue instanceof CaffeineOffHeapValue ? (CaffeineOffHeapValue) cacheValue : null;
+    }
+
+    /*
+     * An off-heap value read from the cache may be removed and released before it is deserialized. The value is then read
+     * from the cache again, or recomputed.
+     */
+    private static CompletableFuture<Object> retryIfReleased(CompletableFuture<Object> result,
+            Supplier<CompletableFuture<Object>> retry) {
+        return result.handle(new BiFunction<Object, Throwable, CompletableFuture<Object>>() {
+            @Override
+            public CompletableFuture<Object> apply(Object value, Throwable failure) {
+                if (failure != null && (failure instanceof CaffeineOffHeapValue.ReleasedException
+                        || failure.getCause() instanceof CaffeineOffHeapValue.ReleasedException)) {
+                    return retry.get();
+                }
+                return result;
+            }
+        }).thenCompose(new Function<CompletableFuture<Object>, CompletableFuture<Object>>() {
+            @Override
+            public CompletableFuture<Object> apply(CompletableFuture<Object> future) {
+                return future;
+            }
+        });
+    }
+
+    /*
+     * The loaded value is set when the current invocation computed the cache value. In the off-heap storage mode, it is then
+     * returned as is instead of a deserialized copy, which may also have been evicted and released already.
+     */
+    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue,
+            AtomicReference<Object> loadedValue) {
         return cacheValue.thenApply(new Function<Object, Object>() {
             @Override
             public Object apply(Object value) {
@@ -99,6 +500,15 @@ public class CaffeineCache extends AbstractCache {
                     } else {
                         throw new CacheException(cause);
                     }
+                }
+                if (value instanceof CaffeineRefreshableValue) {
+                    value = ((CaffeineRefreshableValue) value).getValue();
+                }
+                if (value instanceof CaffeineOffHeapValue) {
+                    if (loadedValue != null) {
+                        return loadedValue.get();
+                    }
+                    return ((CaffeineOffHeapValue) value).getValue();
                 } else {
                     return NullValueConverter.fromCacheValue(value);
                 }
@@ -129,6 +539,25 @@ public class CaffeineCache extends AbstractCache {
         return maximumSize;
     }
 
+    // For testing purposes only.
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // For testing purposes only.
+    public CaffeineStorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    // For testing purposes only.
+    public long getOffHeapSlabBytes() {
+        return offHeapAllocator != null ? offHeapAllocator.getSlabBytes() : 0L;
+    }
+
+    public long getWeightedSize() {
+        return cache.synchronous().policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
     // For testing purposes only.
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -139,7 +568,42 @@ public class CaffeineCache extends AbstractCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
+
+    public boolean isStatsRecorded() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics. All the statistics are equal to zero unless the metrics are enabled for this
+     * cache.
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    @Override
+    public void recordLockTimeout() {
+        lockTimeoutCount.increment();
+    }
+
+    /**
+     * Returns the number of cached method invocations which reached their lock timeout and were therefore invoked without
+     * using the cache.
+     */
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount.sum();
+    }
+
+    // Used by the dev console.
+    public double getAverageLoadPenaltyMillis() {
+        return getStats().averageLoadPenalty() / 1_000_000D;
+    }
 }
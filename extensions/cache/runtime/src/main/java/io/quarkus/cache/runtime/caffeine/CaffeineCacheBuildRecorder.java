@@ -5,13 +5,21 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.quarkus.cache.runtime.tiered.RemoteCacheStore;
+import io.quarkus.cache.runtime.tiered.TieredCache;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -19,7 +27,33 @@ public class CaffeineCacheBuildRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheBuildRecorder.class);
 
-    public Supplier<CacheManager> getCacheManagerSupplier(Set<CaffeineCacheInfo> cacheInfos) {
+    public Supplier<CacheManager> getCacheManagerSupplierWithMicrometerMetrics(Set<CaffeineCacheInfo> cacheInfos) {
+        Function<CaffeineCacheInfo, CaffeineCacheMetricsInitializer> metricsInitializerProvider = new Function<CaffeineCacheInfo, CaffeineCacheMetricsInitializer>() {
+            @Override
+            public CaffeineCacheMetricsInitializer apply(CaffeineCacheInfo cacheInfo) {
+                if (cacheInfo.metricsEnabled) {
+                    return new MicrometerMetricsInitializer();
+                } else {
+                    return new NoOpMetricsInitializer(false);
+                }
+            }
+        };
+        return getCacheManagerSupplier(cacheInfos, metricsInitializerProvider);
+    }
+
+    public Supplier<CacheManager> getCacheManagerSupplierWithoutMetrics(Set<CaffeineCacheInfo> cacheInfos) {
+        Function<CaffeineCacheInfo, CaffeineCacheMetricsInitializer> metricsInitializerProvider = new Function<CaffeineCacheInfo, CaffeineCacheMetricsInitializer>() {
+            @Override
+            public CaffeineCacheMetricsInitializer apply(CaffeineCacheInfo cacheInfo) {
+                // Without a metrics system, the statistics are still recorded so that they can be displayed in the dev console.
+                return new NoOpMetricsInitializer(cacheInfo.metricsEnabled);
+            }
+        };
+        return getCacheManagerSupplier(cacheInfos, metricsInitializerProvider);
+    }
+
+    private Supplier<CacheManager> getCacheManagerSupplier(Set<CaffeineCacheInfo> cacheInfos,
+            Function<CaffeineCacheInfo, CaffeineCacheMetricsInitializer> metricsInitializerProvider) {
         Objects.requireNonNull(cacheInfos);
         return new Supplier<CacheManager>() {
             @Override
@@ -32,16 +66,33 @@ public class CaffeineCacheBuildRecorder {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [metricsEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.metricsEnabled);
+                        }
+                        CaffeineCache cache = new CaffeineCache(cacheInfo, metricsInitializerProvider.apply(cacheInfo));
+                        if (cacheInfo.remoteStoreEnabled) {
+                            LOGGER.debugf("Using Caffeine cache [%s] as a near cache with [remoteWriteMode=%s]",
+                                    cacheInfo.name, cacheInfo.remoteWriteMode);
+                            caches.put(cacheInfo.name,
+                                    new TieredCache(cache, getRemoteCacheStore(cacheInfo.name), cacheInfo.remoteWriteMode));
+                        } else {
+                            caches.put(cacheInfo.name, cache);
                         }
-                        CaffeineCache cache = new CaffeineCache(cacheInfo);
-                        caches.put(cacheInfo.name, cache);
                     }
                     return new CacheManagerImpl(caches);
                 }
             }
         };
     }
+
+    private static RemoteCacheStore getRemoteCacheStore(String cacheName) {
+        InstanceHandle<RemoteCacheStore> remoteStore = Arc.container().instance(RemoteCacheStore.class);
+        if (!remoteStore.isAvailable()) {
+            throw new IllegalStateException("The remote store is enabled for cache [" + cacheName
+                    + "] but no bean implementing " + RemoteCacheStore.class.getName() + " is available");
+        }
+        return remoteStore.get();
+    }
 }
@@ -3,6 +3,8 @@ package io.quarkus.cache.runtime.caffeine;
 import java.time.Duration;
 import java.util.Objects;
 
+import io.quarkus.cache.runtime.tiered.RemoteWriteMode;
+
 public class CaffeineCacheInfo {
 
     public String name;
@@ -11,10 +13,24 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigherClassName;
+
+    public CaffeineStorageMode storageMode;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public boolean metricsEnabled;
+
+    public boolean remoteStoreEnabled;
+
+    public RemoteWriteMode remoteWriteMode;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -0,0 +1,86 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates the buffers of the off-heap values of a Caffeine cache. Small buffers are carved out of large direct memory slabs
+ * and their size is rounded up to the next power of two. The buffers are explicitly freed when the cache entries are removed
+ * and are then reused by the next values, so the direct memory usage does not depend on the garbage collection of the
+ * buffers. The slabs are never released.
+ * <p>
+ * Buffers larger than a slab are allocated individually and are only freed when they are garbage collected.
+ */
+class CaffeineOffHeapAllocator {
+
+    private static final int MIN_CHUNK_SHIFT = 6;
+    private static final int SLAB_SHIFT = 20;
+    static final int SLAB_SIZE = 1 << SLAB_SHIFT;
+
+    // The free chunks of each size class, indexed by the size shift minus MIN_CHUNK_SHIFT.
+    private final Queue<ByteBuffer>[] freeChunks;
+
+    private final AtomicLong slabBytes = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    CaffeineOffHeapAllocator() {
+        freeChunks = new Queue[SLAB_SHIFT - MIN_CHUNK_SHIFT + 1];
+        for (int i = 0; i < freeChunks.length; i++) {
+            freeChunks[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Returns a cleared buffer with a capacity of at least {@code size} bytes.
+     */
+    ByteBuffer allocate(int size) {
+        if (size > SLAB_SIZE) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        int shift = Math.max(MIN_CHUNK_SHIFT, 32 - Integer.numberOfLeadingZeros(size - 1));
+        Queue<ByteBuffer> free = freeChunks[shift - MIN_CHUNK_SHIFT];
+        ByteBuffer chunk = free.poll();
+        if (chunk == null) {
+            chunk = carveSlab(1 << shift, free);
+        }
+        chunk.clear();
+        return chunk;
+    }
+
+    /**
+     * Makes the given buffer, which must have been returned by {@link #allocate(int)}, available to the next allocations.
+     */
+    void free(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (capacity <= SLAB_SIZE) {
+            freeChunks[Integer.numberOfTrailingZeros(capacity) - MIN_CHUNK_SHIFT].offer(buffer);
+        }
+    }
+
+    /**
+     * Returns the size in bytes of the direct memory slabs allocated so far.
+     */
+    long getSlabBytes() {
+        return slabBytes.get();
+    }
+
+    // Returns the first chunk of a new slab, the other chunks are added to the free chunks.
+    private ByteBuffer carveSlab(int chunkSize, Queue<ByteBuffer> free) {
+        ByteBuffer slab = ByteBuffer.allocateDirect(SLAB_SIZE);
+        slabBytes.addAndGet(SLAB_SIZE);
+        ByteBuffer first = null;
+        for (int position = 0; position < SLAB_SIZE; position += chunkSize) {
+            slab.limit(position + chunkSize);
+            slab.position(position);
+            ByteBuffer chunk = slab.slice();
+            if (first == null) {
+                first = chunk;
+            } else {
+                free.offer(chunk);
+            }
+        }
+        return first;
+    }
+}
@@ -0,0 +1,208 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.cache.runtime.CacheException;
+
+/**
+ * This class is used to store a serialized cache value in a direct {@link ByteBuffer} when the off-heap storage mode is enabled
+ * for a Caffeine cache. Only the small buffer handle is kept in the Java heap.
+ * <p>
+ * The buffer comes from the {@link CaffeineOffHeapAllocator} of the cache and is freed by {@link #release()} when the entry
+ * is removed from the cache. Since the buffer is then reused, the reads are reference counted and a read fails with a
+ * {@link ReleasedException} if the value was released before it started.
+ */
+public class CaffeineOffHeapValue {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final CaffeineOffHeapAllocator allocator;
+
+    private final ByteBuffer buffer;
+
+    private final int weight;
+
+    // One reference is held by the cache entry and one by each ongoing read.
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private CaffeineOffHeapValue(CaffeineOffHeapAllocator allocator, ByteBuffer buffer, int weight) {
+        this.allocator = allocator;
+        this.buffer = buffer;
+        this.weight = weight;
+    }
+
+    /**
+     * Serializes {@code value} directly into a buffer obtained from {@code allocator}.
+     *
+     * @param value the value, which must implement {@link Serializable}
+     * @param weight the entry weight or a negative value if the serialized size has to be used as the weight
+     * @param cacheName cache name
+     * @param allocator allocator of the cache
+     * @throws CacheException if the value cannot be serialized
+     */
+    static CaffeineOffHeapValue of(Object value, int weight, String cacheName, CaffeineOffHeapAllocator allocator) {
+        if (!(value instanceof Serializable)) {
+            throw new CacheException(new IllegalArgumentException("Cache [" + cacheName
+                    + "] uses the off-heap storage mode but the value type does not implement java.io.Serializable: "
+                    + value.getClass().getName()));
+        }
+        BufferOutputStream bytes = new BufferOutputStream(allocator);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException | RuntimeException e) {
+            allocator.free(bytes.buffer);
+            throw new CacheException(e);
+        }
+        ByteBuffer buffer = bytes.buffer;
+        buffer.flip();
+        return new CaffeineOffHeapValue(allocator, buffer, weight < 0 ? buffer.remaining() : weight);
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns a new deserialized copy of the value.
+     *
+     * @throws ReleasedException if the value was removed from the cache and released
+     */
+    Object getValue() {
+        int count;
+        do {
+            count = references.get();
+            if (count <= 0) {
+                throw ReleasedException.INSTANCE;
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        try {
+            // Each reader gets its own view of the buffer so that concurrent reads do not share the buffer position.
+            try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new BufferInputStream(buffer.duplicate()))) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new CacheException(e);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Releases the reference held by the cache entry. The buffer is freed once the ongoing reads are completed.
+     */
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            allocator.free(buffer);
+        }
+    }
+
+    /**
+     * Thrown when a value is read after it was removed from the cache and released.
+     */
+    static final class ReleasedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final ReleasedException INSTANCE = new ReleasedException();
+
+        private ReleasedException() {
+            super("The off-heap cache value was released", null, false, false);
+        }
+    }
+
+    // Writes into a buffer of the allocator which is replaced with a larger one when it is full.
+    private static class BufferOutputStream extends OutputStream {
+
+        private final CaffeineOffHeapAllocator allocator;
+
+        ByteBuffer buffer;
+
+        BufferOutputStream(CaffeineOffHeapAllocator allocator) {
+            this.allocator = allocator;
+            this.buffer = allocator.allocate(INITIAL_BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(int b) {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureRemaining(len);
+            buffer.put(b, off, len);
+        }
+
+        private void ensureRemaining(int length) {
+            if (buffer.remaining() < length) {
+                ByteBuffer larger = allocator.allocate(Math.max(buffer.position() + length, buffer.capacity() * 2));
+                buffer.flip();
+                larger.put(buffer);
+                allocator.free(buffer);
+                buffer = larger;
+            }
+        }
+    }
+
+    private static class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    // The application classes may not be visible from the class loader of this class (e.g. in dev mode).
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
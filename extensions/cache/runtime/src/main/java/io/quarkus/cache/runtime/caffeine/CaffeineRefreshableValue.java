@@ -0,0 +1,40 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * This class is used to wrap the cache values when refresh after write is enabled for a Caffeine cache. It records when the
+ * value was written and guarantees that a single refresh is running at any time for a given value.
+ */
+public class CaffeineRefreshableValue {
+
+    private static final AtomicIntegerFieldUpdater<CaffeineRefreshableValue> REFRESHING_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(CaffeineRefreshableValue.class, "refreshing");
+
+    private final Object value;
+
+    private final long writeTime;
+
+    private volatile int refreshing;
+
+    public CaffeineRefreshableValue(Object value, long writeTime) {
+        this.value = value;
+        this.writeTime = writeTime;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns {@code true} if the value is older than {@code refreshAfterWriteNanos} and if no other thread started a refresh
+     * of this value. The caller is then responsible for the refresh and for calling {@link #refreshFailed()} if it fails.
+     */
+    boolean startRefresh(long now, long refreshAfterWriteNanos) {
+        return now - writeTime >= refreshAfterWriteNanos && REFRESHING_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    void refreshFailed() {
+        refreshing = 0;
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.cache.runtime.caffeine;
+
+public enum CaffeineStorageMode {
+
+    /**
+     * Values are stored as is in the Java heap.
+     */
+    HEAP,
+    /**
+     * Values are serialized into direct byte buffers, outside of the Java heap. Each read returns a new deserialized copy of
+     * the
+     * cached value.
+     */
+    OFF_HEAP
+}
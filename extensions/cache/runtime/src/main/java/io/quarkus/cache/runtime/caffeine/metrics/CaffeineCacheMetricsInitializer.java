@@ -0,0 +1,26 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+/**
+ * Registers the statistics of a Caffeine cache with a metrics system. The implementations must not be loaded unless the
+ * corresponding metrics system is available at run time.
+ */
+public interface CaffeineCacheMetricsInitializer {
+
+    /**
+     * Returns {@code true} if the Caffeine cache statistics have to be recorded.
+     */
+    boolean recordStats();
+
+    /**
+     * Registers the statistics of the given cache.
+     * 
+     * @param cache Caffeine cache
+     * @param cacheName cache name
+     * @param lockTimeoutCount supplies the number of invocations which reached the lock timeout of the cache
+     */
+    void initialize(AsyncCache<Object, Object> cache, String cacheName, LongSupplier lockTimeoutCount);
+}
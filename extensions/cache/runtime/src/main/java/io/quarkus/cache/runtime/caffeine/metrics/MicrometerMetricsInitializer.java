@@ -0,0 +1,38 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.arc.Arc;
+
+/**
+ * Registers the Caffeine cache statistics with the {@link MeterRegistry} bean of the application. This class must only be
+ * loaded if the Micrometer extension is present.
+ */
+public class MicrometerMetricsInitializer implements CaffeineCacheMetricsInitializer {
+
+    @Override
+    public boolean recordStats() {
+        return true;
+    }
+
+    @Override
+    public void initialize(AsyncCache<Object, Object> cache, String cacheName, LongSupplier lockTimeoutCount) {
+        MeterRegistry registry = Arc.container().instance(MeterRegistry.class).get();
+        // The cache name is used as the value of the "cache" tag of all the meters.
+        CaffeineCacheMetrics.monitor(registry, cache, cacheName);
+        FunctionCounter.builder("cache.lock.timeouts", lockTimeoutCount, new ToDoubleFunction<LongSupplier>() {
+            @Override
+            public double applyAsDouble(LongSupplier count) {
+                return count.getAsLong();
+            }
+        }).tag("cache", cacheName)
+                .description("The number of invocations which reached the lock timeout and were not cached")
+                .register(registry);
+    }
+}
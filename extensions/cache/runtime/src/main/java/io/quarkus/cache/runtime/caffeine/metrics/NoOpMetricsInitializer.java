@@ -0,0 +1,28 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+public class NoOpMetricsInitializer implements CaffeineCacheMetricsInitializer {
+
+    private final boolean recordStats;
+
+    /**
+     * @param recordStats {@code true} if the statistics have to be recorded even if they are not registered with a metrics
+     *        system, e.g. to be displayed in the dev console
+     */
+    public NoOpMetricsInitializer(boolean recordStats) {
+        this.recordStats = recordStats;
+    }
+
+    @Override
+    public boolean recordStats() {
+        return recordStats;
+    }
+
+    @Override
+    public void initialize(AsyncCache<Object, Object> cache, String cacheName, LongSupplier lockTimeoutCount) {
+        // Do nothing.
+    }
+}
@@ -3,8 +3,8 @@ package io.quarkus.cache.runtime.devconsole;
 import java.util.Optional;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CaffeineCacheSupplier;
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
 import io.quarkus.devconsole.runtime.spi.DevConsolePostHandler;
 import io.quarkus.devconsole.runtime.spi.FlashScopeUtil.FlashMessageStatus;
 import io.quarkus.runtime.annotations.Recorder;
@@ -21,8 +21,8 @@ public class CacheDevConsoleRecorder {
             protected void handlePost(RoutingContext event, MultiMap form) throws Exception {
                 String cacheName = form.get("name");
                 Optional<Cache> cache = CaffeineCacheSupplier.cacheManager().getCache(cacheName);
-                if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
-                    ((CaffeineCache) cache.get()).invalidateAll();
+                if (cache.isPresent() && cache.get() instanceof AbstractCache) {
+                    ((AbstractCache) cache.get()).invalidateAll();
                     // redirect to the same page so we can make sure we see the updated results
                     flashMessage(event, "Cache for " + cacheName + " cleared");
                     return;
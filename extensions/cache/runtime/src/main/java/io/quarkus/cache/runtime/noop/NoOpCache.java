@@ -2,8 +2,10 @@ package io.quarkus.cache.runtime.noop;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -30,6 +32,16 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public Uni<Object> getAsync(Object key, Function<Object, Uni<Object>> valueLoader) {
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return valueLoader.apply(key);
+            }
+        });
+    }
+
     @Override
     public void invalidate(Object key) {
     }
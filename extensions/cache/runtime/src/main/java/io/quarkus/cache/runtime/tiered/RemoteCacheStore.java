@@ -0,0 +1,69 @@
+package io.quarkus.cache.runtime.tiered;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A remote cache store shared by all the instances of an application (Redis, Infinispan...). When a cache is configured
+ * with {@code quarkus.cache.caffeine."cache-name".remote-store.enabled=true}, the local Caffeine cache is used as a near
+ * cache in front of the {@link RemoteCacheStore} bean available in the application.
+ * <p>
+ * Implementations are responsible for publishing the invalidations to the other application instances and for notifying
+ * the registered {@link InvalidationListener}s when an invalidation is received, including the invalidations that were
+ * published by the current instance.
+ * <p>
+ * This interface is an internal Quarkus SPI. The methods signatures may change without prior notice.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * Returns a {@link CompletionStage} holding the value associated with {@code key} in the remote store or {@code null} if
+     * there is no such value.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return a {@link CompletionStage} holding the remote value or {@code null}
+     */
+    CompletionStage<Object> get(String cacheName, Object key);
+
+    /**
+     * Stores {@code value} in the remote store. The value is never {@code null}.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @param value cache value
+     * @return a {@link CompletionStage} completed when the value is stored
+     */
+    CompletionStage<Void> put(String cacheName, Object key, Object value);
+
+    /**
+     * Removes the value associated with {@code key} from the remote store and publishes the invalidation.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @return a {@link CompletionStage} completed when the value is removed
+     */
+    CompletionStage<Void> invalidate(String cacheName, Object key);
+
+    /**
+     * Removes all the values of the given cache from the remote store and publishes the invalidation.
+     *
+     * @param cacheName cache name
+     * @return a {@link CompletionStage} completed when the values are removed
+     */
+    CompletionStage<Void> invalidateAll(String cacheName);
+
+    /**
+     * Registers a listener that will be notified whenever an invalidation is published for the given cache.
+     *
+     * @param cacheName cache name
+     * @param listener invalidation listener
+     */
+    void addInvalidationListener(String cacheName, InvalidationListener listener);
+
+    interface InvalidationListener {
+
+        void onInvalidate(Object key);
+
+        void onInvalidateAll();
+    }
+}
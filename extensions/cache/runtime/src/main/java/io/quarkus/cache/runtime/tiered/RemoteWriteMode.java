@@ -0,0 +1,14 @@
+package io.quarkus.cache.runtime.tiered;
+
+public enum RemoteWriteMode {
+
+    /**
+     * The computed value is stored in the remote store before it is returned to the caller.
+     */
+    WRITE_THROUGH,
+
+    /**
+     * The computed value is returned to the caller immediately and stored in the remote store asynchronously.
+     */
+    WRITE_BEHIND
+}
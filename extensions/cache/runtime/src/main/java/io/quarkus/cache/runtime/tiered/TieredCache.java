@@ -0,0 +1,334 @@
+package io.quarkus.cache.runtime.tiered;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CallerContext;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The local {@link CaffeineCache} is used as a near cache in front of a {@link RemoteCacheStore}. On a near cache miss, the
+ * remote store is queried before the value loader is invoked. The remote store failures are logged and never propagated to
+ * the caller: the cache then behaves as if only the near cache was configured. The calling thread is never blocked by the
+ * remote store.
+ */
+public class TieredCache extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TieredCache.class);
+
+    // Must be a power of two.
+    private static final int GENERATION_STRIPES = 64;
+
+    private final CaffeineCache nearCache;
+
+    private final RemoteCacheStore remoteStore;
+
+    private final RemoteWriteMode writeMode;
+
+    /*
+     * Incremented when an invalidation starts and when it completes. A value loaded while the generation of its key changed
+     * may have been read from the remote store before the invalidation was applied, so it is not kept in the near cache.
+     */
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public TieredCache(CaffeineCache nearCache, RemoteCacheStore remoteStore, RemoteWriteMode writeMode) {
+        this.nearCache = nearCache;
+        this.remoteStore = remoteStore;
+        this.writeMode = writeMode;
+        remoteStore.addInvalidationListener(nearCache.getName(), new RemoteCacheStore.InvalidationListener() {
+            @Override
+            public void onInvalidate(Object key) {
+                incrementGeneration(key);
+                nearCache.invalidate(key);
+            }
+
+            @Override
+            public void onInvalidateAll() {
+                generation.incrementAndGet();
+                nearCache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return nearCache.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return nearCache.getDefaultKey();
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}. The value is obtained from the
+     * near cache, then from the remote store and finally from {@code valueLoader} if necessary. A value computed by
+     * {@code valueLoader} is written to the remote store according to the configured {@link RemoteWriteMode}. {@code null}
+     * values are only cached in the near cache.
+     * <p>
+     * The returned {@link CompletableFuture} is not completed until the remote store has been queried. If the remote store
+     * does not answer immediately, {@code valueLoader} is invoked on the default executor with the caller's request context.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+        Thread caller = Thread.currentThread();
+        CallerContext callerContext = CallerContext.captureForBlockingCaller();
+        return load(key, new Function<Object, Uni<Object>>() {
+            @Override
+            public Uni<Object> apply(Object k) {
+                if (Thread.currentThread() == caller) {
+                    return Uni.createFrom().item(new Supplier<Object>() {
+                        @Override
+                        public Object get() {
+                            return valueLoader.apply(k);
+                        }
+                    });
+                }
+                return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Object>>() {
+                    @Override
+                    public void accept(UniEmitter<? super Object> emitter) {
+                        callerContext.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                Object value;
+                                try {
+                                    value = valueLoader.apply(k);
+                                } catch (Throwable t) {
+                                    emitter.fail(t);
+                                    return;
+                                }
+                                emitter.complete(value);
+                            }
+                        });
+                    }
+                });
+            }
+        }).subscribe().asCompletionStage();
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(Object, Function)}. The remote store is queried without blocking the calling thread
+     * and, in {@link RemoteWriteMode#WRITE_THROUGH} mode, the returned {@link Uni} only emits the computed value once it has
+     * been written to the remote store.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a lazy {@link Uni} emitting the cache value
+     */
+    @Override
+    public Uni<Object> getAsync(Object key, Function<Object, Uni<Object>> valueLoader) {
+        return load(key, valueLoader);
+    }
+
+    private Uni<Object> load(Object key, Function<Object, Uni<Object>> valueLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                long startGeneration = getGeneration(key);
+                // Set when this subscription is the one loading the near cache value.
+                AtomicBoolean loading = new AtomicBoolean();
+                Uni<Object> value = nearCache.getAsync(key, new Function<Object, Uni<Object>>() {
+                    @Override
+                    public Uni<Object> apply(Object k) {
+                        loading.set(true);
+                        return loadFromRemoteStore(k, valueLoader);
+                    }
+                });
+                return value.onItem().invoke(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object item) {
+                        if (loading.get() && getGeneration(key) != startGeneration) {
+                            // The key was invalidated during the load, the loaded value may be stale.
+                            nearCache.invalidate(key);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private Uni<Object> loadFromRemoteStore(Object key, Function<Object, Uni<Object>> valueLoader) {
+        return getRemoteValueAsync(key).onItem().transformToUni(new Function<Object, Uni<? extends Object>>() {
+            @Override
+            public Uni<? extends Object> apply(Object remoteValue) {
+                if (remoteValue != null) {
+                    return Uni.createFrom().item(remoteValue);
+                }
+                return valueLoader.apply(key).onItem().transformToUni(new Function<Object, Uni<? extends Object>>() {
+                    @Override
+                    public Uni<? extends Object> apply(Object value) {
+                        if (value == null) {
+                            return Uni.createFrom().nullItem();
+                        }
+                        return putRemoteValueAsync(key, value).onItem().transform(new Function<Void, Object>() {
+                            @Override
+                            public Object apply(Void ignored) {
+                                return value;
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
+
+    private Uni<Object> getRemoteValueAsync(Object key) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<? extends Object>>() {
+            @Override
+            public CompletionStage<? extends Object> get() {
+                return remoteStore.get(getName(), key);
+            }
+        }).onFailure().recoverWithItem(new Function<Throwable, Object>() {
+            @Override
+            public Object apply(Throwable t) {
+                LOGGER.warnf(t, "Unable to load entry with key [%s] from the remote store of cache [%s]", key, getName());
+                return null;
+            }
+        });
+    }
+
+    private Uni<Void> putRemoteValueAsync(Object key, Object value) {
+        Uni<Void> put = Uni.createFrom().completionStage(new Supplier<CompletionStage<? extends Void>>() {
+            @Override
+            public CompletionStage<? extends Void> get() {
+                return remoteStore.put(getName(), key, value);
+            }
+        }).onFailure().recoverWithItem(new Function<Throwable, Void>() {
+            @Override
+            public Void apply(Throwable t) {
+                logRemoteFailure("store", key, t);
+                return null;
+            }
+        });
+        if (writeMode == RemoteWriteMode.WRITE_THROUGH) {
+            return put;
+        } else {
+            put.subscribe().with(new Consumer<Void>() {
+                @Override
+                public void accept(Void ignored) {
+                }
+            });
+            return Uni.createFrom().nullItem();
+        }
+    }
+
+    /**
+     * Invalidates the entry identified by {@code key} in the near cache and in the remote store. The calling thread does not
+     * wait for the remote store invalidation.
+     */
+    @Override
+    public void invalidate(Object key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        incrementGeneration(key);
+        nearCache.invalidate(key);
+        CompletionStage<Void> invalidation;
+        try {
+            invalidation = remoteStore.invalidate(getName(), key);
+        } catch (Throwable t) {
+            incrementGeneration(key);
+            logRemoteFailure("invalidate", key, t);
+            return;
+        }
+        invalidation.whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(Void result, Throwable t) {
+                // A value read from the remote store before the invalidation was applied may have been cached meanwhile.
+                incrementGeneration(key);
+                nearCache.invalidate(key);
+                if (t != null) {
+                    logRemoteFailure("invalidate", key, t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Invalidates all the entries of the near cache and of the remote store. The calling thread does not wait for the remote
+     * store invalidation.
+     */
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        nearCache.invalidateAll();
+        CompletionStage<Void> invalidation;
+        try {
+            invalidation = remoteStore.invalidateAll(getName());
+        } catch (Throwable t) {
+            generation.incrementAndGet();
+            logRemoteInvalidateAllFailure(t);
+            return;
+        }
+        invalidation.whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(Void result, Throwable t) {
+                generation.incrementAndGet();
+                nearCache.invalidateAll();
+                if (t != null) {
+                    logRemoteInvalidateAllFailure(t);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void recordLockTimeout() {
+        nearCache.recordLockTimeout();
+    }
+
+    public CaffeineCache getNearCache() {
+        return nearCache;
+    }
+
+    // For testing purposes only.
+    public RemoteWriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    private void logRemoteFailure(String operation, Object key, Throwable t) {
+        LOGGER.warnf(t, "Unable to %s entry with key [%s] in the remote store of cache [%s]", operation, key, getName());
+    }
+
+    private void logRemoteInvalidateAllFailure(Throwable t) {
+        LOGGER.warnf(t, "Unable to invalidate all entries from the remote store of cache [%s]", getName());
+    }
+
+    private long getGeneration(Object key) {
+        // Both counters only increase, so their sum changes whenever one of them changes.
+        return keyGenerations.get(stripe(key)) + generation.get();
+    }
+
+    private void incrementGeneration(Object key) {
+        keyGenerations.incrementAndGet(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+}
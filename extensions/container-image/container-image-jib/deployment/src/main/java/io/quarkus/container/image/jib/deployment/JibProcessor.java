@@ -62,6 +62,7 @@ import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.AppCDSContainerImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageBuildItem;
@@ -113,6 +114,7 @@ public class JibProcessor {
             Optional<ContainerImagePushRequestBuildItem> pushRequest,
             List<ContainerImageLabelBuildItem> containerImageLabels,
             Optional<AppCDSResultBuildItem> appCDSResult,
+            @SuppressWarnings("unused") Optional<ClassLoadingProfileResultBuildItem> classLoadingProfileResult, // ensure the image is built after the class loading profile creation
             BuildProducer<ArtifactResultBuildItem> artifactResultProducer) {
 
         if (!containerImageConfig.build && !containerImageConfig.push && !buildRequest.isPresent()
@@ -0,0 +1,49 @@
+package io.quarkus.qute.deployment;
+
+import java.util.List;
+
+import org.jboss.jandex.AnnotationTarget;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Represents a type-safe expression that can be compiled, i.e. all parts of the expression but the first one are bound to
+ * Java members.
+ *
+ * @see io.quarkus.qute.CompiledExpression
+ */
+public final class CompiledExpressionBuildItem extends MultiBuildItem {
+
+    private final String templateId;
+    private final int generatedId;
+    private final String expression;
+    private final List<AnnotationTarget> members;
+
+    public CompiledExpressionBuildItem(String templateId, int generatedId, String expression, List<AnnotationTarget> members) {
+        this.templateId = templateId;
+        this.generatedId = generatedId;
+        this.expression = expression;
+        this.members = members;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public int getGeneratedId() {
+        return generatedId;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 
+     * @return the members bound to the parts of the expression, except the first one
+     */
+    public List<AnnotationTarget> getMembers() {
+        return members;
+    }
+
+}
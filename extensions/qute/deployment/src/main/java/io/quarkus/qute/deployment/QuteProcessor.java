@@ -103,6 +103,7 @@ import io.quarkus.qute.api.ResourcePath;
 import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
 import io.quarkus.qute.deployment.TypeCheckExcludeBuildItem.TypeCheck;
 import io.quarkus.qute.deployment.TypeInfos.Info;
+import io.quarkus.qute.generator.CompiledExpressionGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
@@ -430,7 +431,8 @@ public class QuteProcessor {
             List<TypeCheckExcludeBuildItem> excludes,
             BuildProducer<IncorrectExpressionBuildItem> incorrectExpressions,
             BuildProducer<ImplicitValueResolverBuildItem> implicitClasses,
-            BeanDiscoveryFinishedBuildItem beanDiscovery) {
+            BeanDiscoveryFinishedBuildItem beanDiscovery, QuteConfig config,
+            BuildProducer<CompiledExpressionBuildItem> compiledExpressions) {
 
         IndexView index = beanArchiveIndex.getIndex();
         Function<String, String> templateIdToPathFun = new Function<String, String>() {
@@ -467,11 +469,17 @@ public class QuteProcessor {
                         continue;
                     }
                 } else {
-                    generatedIdsToMatches.put(expression.getGeneratedId(),
-                            validateNestedExpressions(templateAnalysis, null, new HashMap<>(), templateExtensionMethods,
-                                    excludes,
-                                    incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
-                                    generatedIdsToMatches));
+                    Match match = validateNestedExpressions(templateAnalysis, null, new HashMap<>(), templateExtensionMethods,
+                            excludes,
+                            incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
+                            generatedIdsToMatches);
+                    generatedIdsToMatches.put(expression.getGeneratedId(), match);
+                    // Only the expressions of template files are compiled, i.e. the template id is the path
+                    if (config.compileExpressions && templateAnalysis.id == null && match.compiledMembers() != null
+                            && CompiledExpressionGenerator.isSupported(match.compiledMembers())) {
+                        compiledExpressions.produce(new CompiledExpressionBuildItem(templateAnalysis.path,
+                                expression.getGeneratedId(), expression.toOriginalString(), match.compiledMembers()));
+                    }
                 }
             }
         }
@@ -542,6 +550,9 @@ public class QuteProcessor {
         List<Info> parts = TypeInfos.create(expression, index, templateIdToPathFun);
         Iterator<Info> iterator = parts.iterator();
         Info root = iterator.next();
+        // The members bound to the parts of the expression; used to compile the expression
+        List<AnnotationTarget> compiledMembers = new ArrayList<>();
+        boolean compilable = true;
 
         if (rootClazz == null) {
             if (root.isTypeInfo()) {
@@ -559,6 +570,7 @@ public class QuteProcessor {
                             generatedIdsToMatches, incorrectExpressions)) {
                         // In some cases it's necessary to reset the iterator
                         iterator = parts.iterator();
+                        compilable = false;
                     }
                 } else {
                     // No type info available 
@@ -569,6 +581,7 @@ public class QuteProcessor {
         } else {
             // The first part is skipped, e.g. for {inject:foo.name} the first part is the name of the bean
             match.setValues(rootClazz, Type.create(rootClazz.name(), org.jboss.jandex.Type.Kind.CLASS));
+            compilable = false;
         }
 
         while (iterator.hasNext()) {
@@ -589,13 +602,16 @@ public class QuteProcessor {
                     if (member != null) {
                         membersUsed.add(member.asMethod().name());
                     }
+                    compilable = false;
                 } else if (info.isProperty()) {
                     member = findProperty(info.asProperty().name, match.clazz(), index);
                     if (member != null) {
                         membersUsed.add(member.kind() == Kind.FIELD ? member.asField().name() : member.asMethod().name());
+                        compiledMembers.add(member);
                     }
                 }
                 if (member == null) {
+                    compilable = false;
                     // Then try to find an etension method
                     member = findTemplateExtensionMethod(info, match.clazz(), templateExtensionMethods, expression,
                             index,
@@ -630,6 +646,10 @@ public class QuteProcessor {
                         clazz = index.getClassByName(type.name());
                     }
                     match.setValues(clazz, type);
+                    if (match.type() != type) {
+                        // CompletionStage<Item> => Item - the value is not available when the member is accessed
+                        compilable = false;
+                    }
                     if (info.isProperty()) {
                         String hint = info.asProperty().hint;
                         if (hint != null) {
@@ -651,6 +671,9 @@ public class QuteProcessor {
                 break;
             }
         }
+        if (compilable && compiledMembers.size() == parts.size() - 1) {
+            match.compiledMembers = compiledMembers;
+        }
         results.put(expression.toOriginalString(), match);
         return match;
     }
@@ -919,6 +942,28 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void generateCompiledExpressions(BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            List<CompiledExpressionBuildItem> compiledExpressions,
+            BuildProducer<GeneratedCompiledExpressionBuildItem> generatedCompiledExpressions,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (compiledExpressions.isEmpty()) {
+            return;
+        }
+        // Compiled expressions are derived from the application templates
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(classOutput);
+        for (CompiledExpressionBuildItem compiledExpression : compiledExpressions) {
+            generator.generate(compiledExpression.getTemplateId(), compiledExpression.getGeneratedId(),
+                    compiledExpression.getExpression(), compiledExpression.getMembers());
+        }
+        LOGGER.debugf("Generated compiled expressions: %s", generator.getGeneratedTypes());
+        for (String generatedType : generator.getGeneratedTypes()) {
+            generatedCompiledExpressions.produce(new GeneratedCompiledExpressionBuildItem(generatedType));
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, generatedType));
+        }
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchivesBuildItem,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedPaths,
@@ -1053,7 +1098,8 @@ public class QuteProcessor {
     @Record(value = STATIC_INIT)
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
-            Optional<TemplateVariantsBuildItem> templateVariants) {
+            Optional<TemplateVariantsBuildItem> templateVariants,
+            List<GeneratedCompiledExpressionBuildItem> generatedCompiledExpressions) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1076,7 +1122,8 @@ public class QuteProcessor {
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        tags, variants, generatedCompiledExpressions.stream()
+                                .map(GeneratedCompiledExpressionBuildItem::getClassName).collect(Collectors.toList())))
                 .done());
     }
 
@@ -1302,6 +1349,8 @@ public class QuteProcessor {
         private final IndexView index;
         private ClassInfo clazz;
         private Type type;
+        // The members bound to all parts of the expression but the first one, or null if the expression cannot be compiled
+        private List<AnnotationTarget> compiledMembers;
 
         Match(IndexView index) {
             this.index = index;
@@ -1324,6 +1373,10 @@ public class QuteProcessor {
             return type;
         }
 
+        List<AnnotationTarget> compiledMembers() {
+            return compiledMembers;
+        }
+
         boolean isPrimitive() {
             return type != null && type.kind() == org.jboss.jandex.Type.Kind.PRIMITIVE;
         }
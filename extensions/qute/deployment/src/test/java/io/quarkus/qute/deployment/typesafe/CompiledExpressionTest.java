@@ -0,0 +1,93 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.api.CheckedTemplate;
+import io.quarkus.qute.generator.CompiledExpressionGenerator;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledExpressionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Templates.class, Item.class, Owner.class)
+                    .addAsResource(new StringAsset("{#for item in items}{item.name}:{item.price}:{item.owner.name} {/for}"
+                            + "{head.name}:{head.owner.nickname ?: 'none'}"), "templates/CompiledExpressionTest/items.html"));
+
+    @Test
+    public void testCompiledExpressions() {
+        List<Item> items = Arrays.asList(new Item("foo", 1, new Owner("Lu", null)), new Item("bar", 2, new Owner("Jo", "J")));
+        assertEquals("foo:1:Lu bar:2:Jo baz:none", Templates.items(items, new Item("baz", 3, null)).render());
+        // item.name and head.name are compiled
+        assertEquals(3, Item.COMPILED.get());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(List<Item> items, Item head);
+
+    }
+
+    public static class Item {
+
+        static final AtomicInteger COMPILED = new AtomicInteger();
+
+        public final int price;
+
+        public final Owner owner;
+
+        private final String name;
+
+        public Item(String name, int price, Owner owner) {
+            this.name = name;
+            this.price = price;
+            this.owner = owner;
+        }
+
+        public String getName() {
+            for (StackTraceElement element : new Exception().getStackTrace()) {
+                if (element.getClassName().endsWith(CompiledExpressionGenerator.SUFFIX)) {
+                    COMPILED.incrementAndGet();
+                    break;
+                }
+            }
+            return name;
+        }
+
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        private final String nickname;
+
+        public Owner(String name, String nickname) {
+            this.name = name;
+            this.nickname = nickname;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledExpression;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.HtmlEscaper;
@@ -122,6 +123,20 @@ public class EngineProducer {
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled expressions
+        for (String compiledExpressionClass : context.getCompiledExpressionClasses()) {
+            CompiledExpression compiledExpression = createCompiledExpression(compiledExpressionClass);
+            builder.addCompiledExpression(compiledExpression);
+            // Templates and tags are usually loaded without the suffix, e.g. "items" for "items.html"
+            String templateId = compiledExpression.getTemplateId();
+            for (String suffix : suffixes) {
+                if (templateId.endsWith("." + suffix)) {
+                    builder.addCompiledExpression(templateId.substring(0, templateId.length() - suffix.length() - 1),
+                            compiledExpression);
+                    break;
+                }
+            }
+        }
         // Add tags
         for (String tag : tags) {
             // Strip suffix, item.html -> item
@@ -168,6 +183,19 @@ public class EngineProducer {
         }
     }
 
+    private CompiledExpression createCompiledExpression(String className) {
+        try {
+            Class<?> clazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(className);
+            if (CompiledExpression.class.isAssignableFrom(clazz)) {
+                return (CompiledExpression) clazz.newInstance();
+            }
+            throw new IllegalStateException("Not a compiled expression: " + className);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to create compiled expression: " + className, e);
+        }
+    }
+
     /**
      * @param path
      * @return the optional reader
@@ -44,4 +44,11 @@ public class QuteConfig {
     @ConfigItem
     public Optional<List<String>> typeCheckExcludes;
 
+    /**
+     * If set to {@code true} then the type-safe expressions whose parts are bound to Java members at build time are
+     * compiled, i.e. the members are accessed directly instead of the value resolvers.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean compileExpressions;
+
 }
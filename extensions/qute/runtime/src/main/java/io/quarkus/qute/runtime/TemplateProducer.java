@@ -20,6 +20,7 @@ import javax.inject.Singleton;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.qute.BytesConsumer;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Template;
@@ -170,6 +171,11 @@ public class TemplateProducer {
             return templateInstance().consume(consumer);
         }
 
+        @Override
+        public CompletionStage<Void> consumeBytes(BytesConsumer consumer) {
+            return templateInstance().consumeBytes(consumer);
+        }
+
         private TemplateInstance templateInstance() {
             TemplateInstance instance = template().instance();
             instance.data(data());
@@ -34,4 +34,26 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "true")
     @Experimental("This flag has a high probability of going away in the future")
     public boolean defaultProduces;
+
+    /**
+     * If enabled, the server reuses the request context of a completed request for subsequent requests handled by
+     * the same event loop instead of allocating a new one for every request.
+     * <p>
+     * A context is only reused if no object that application code may keep a reference to, such as {@code UriInfo},
+     * {@code AsyncResponse} or the entity streams, has been created while processing the request. In dev and test mode
+     * any use of a context that has already been returned to the pool fails.
+     */
+    @ConfigItem(defaultValue = "false")
+    @Experimental("Request context pooling is experimental and may change or go away in the future")
+    public boolean poolRequestContexts;
+
+    /**
+     * If enabled, consecutive handlers of a resource method that are known to never suspend the request, such as the
+     * extraction of path or query parameters, are batched and run as a single step of the handler chain. A handler
+     * class is generated for every resource method, so that the handlers of its batches are invoked from call sites
+     * dedicated to this resource method and can be inlined by the JIT.
+     */
+    @ConfigItem(defaultValue = "false")
+    @Experimental("Handler chain batching is experimental and may change or go away in the future")
+    public boolean batchHandlerChains;
 }
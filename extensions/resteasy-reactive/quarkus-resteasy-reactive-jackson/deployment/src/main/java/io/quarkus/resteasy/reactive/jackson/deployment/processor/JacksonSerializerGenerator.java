@@ -0,0 +1,322 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
+import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.COMPLETION_STAGE;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OBJECT;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.STRING;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.UNI;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.arc.Unremovable;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonMessageBodyWriter;
+
+/**
+ * Generates {@link GeneratedJacksonMessageBodyWriter} implementations for plain Java classes returned from resource
+ * methods.
+ */
+final class JacksonSerializerGenerator {
+
+    private static final DotName SERIALIZABLE = DotName.createSimple(Serializable.class.getName());
+    private static final DotName COMPLETABLE_FUTURE = DotName
+            .createSimple(java.util.concurrent.CompletableFuture.class.getName());
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson.";
+    private static final String GENERATED_CLASS_SUFFIX = "$quarkusjacksonwriter";
+
+    private static final int SYNTHETIC = 0x1000;
+    private static final int BRIDGE = 0x0040;
+    private static final int ENUM = 0x4000;
+
+    private static final MethodDescriptor WRITE_START_OBJECT = ofMethod(JsonGenerator.class, "writeStartObject",
+            void.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = ofMethod(JsonGenerator.class, "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_FIELD_NAME = ofMethod(JsonGenerator.class, "writeFieldName", void.class,
+            String.class);
+    private static final MethodDescriptor WRITE_STRING = ofMethod(JsonGenerator.class, "writeString", void.class,
+            String.class);
+    private static final MethodDescriptor WRITE_STRING_FIELD = ofMethod(JsonGenerator.class, "writeStringField",
+            void.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN_FIELD = ofMethod(JsonGenerator.class, "writeBooleanField",
+            void.class, String.class, boolean.class);
+    private static final MethodDescriptor WRITE_INT_FIELD = ofMethod(JsonGenerator.class, "writeNumberField",
+            void.class, String.class, int.class);
+    private static final MethodDescriptor WRITE_LONG_FIELD = ofMethod(JsonGenerator.class, "writeNumberField",
+            void.class, String.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT_FIELD = ofMethod(JsonGenerator.class, "writeNumberField",
+            void.class, String.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE_FIELD = ofMethod(JsonGenerator.class, "writeNumberField",
+            void.class, String.class, double.class);
+    private static final MethodDescriptor WRITE_OBJECT_FIELD = ofMethod(JsonGenerator.class, "writeObjectField",
+            void.class, String.class, Object.class);
+    private static final MethodDescriptor STRING_VALUE_OF_CHAR = ofMethod(String.class, "valueOf", String.class,
+            char.class);
+
+    private JacksonSerializerGenerator() {
+    }
+
+    /**
+     * Returns the type of the entity a resource method with the given return type produces, or {@code null} if that
+     * type is not a candidate for a generated writer.
+     */
+    static DotName entityType(Type returnType) {
+        if (returnType.kind() == Type.Kind.CLASS) {
+            return returnType.name();
+        }
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            ParameterizedType parameterizedType = returnType.asParameterizedType();
+            DotName name = parameterizedType.name();
+            if ((name.equals(UNI) || name.equals(COMPLETION_STAGE) || name.equals(COMPLETABLE_FUTURE))
+                    && (parameterizedType.arguments().size() == 1)
+                    && (parameterizedType.arguments().get(0).kind() == Type.Kind.CLASS)) {
+                return parameterizedType.arguments().get(0).name();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the properties Jackson would serialize for the given class with its default configuration, in the same
+     * order, or {@code null} if the class can't be handled by a generated writer. The values are either a
+     * {@link FieldInfo} or a {@link MethodInfo} representing the getter.
+     */
+    static Map<String, Object> properties(ClassInfo classInfo) {
+        if (Modifier.isInterface(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())
+                || ((classInfo.flags() & ENUM) != 0)) {
+            return null;
+        }
+        if ((classInfo.superName() == null) || !classInfo.superName().equals(OBJECT)) {
+            return null;
+        }
+        // interfaces like Iterable or Map completely change the way Jackson serializes the class
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!interfaceName.equals(SERIALIZABLE)) {
+                return null;
+            }
+        }
+        for (DotName annotationName : classInfo.annotations().keySet()) {
+            if (annotationName.toString().startsWith(JACKSON_PACKAGE_PREFIX)) {
+                return null;
+            }
+        }
+
+        // Jackson orders the properties backed by a field, visible or not, as the fields are declared
+        List<String> fieldNames = new ArrayList<>();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.fields()) {
+            if (Modifier.isStatic(field.flags())) {
+                continue;
+            }
+            if (Modifier.isTransient(field.flags())) {
+                return null;
+            }
+            fieldNames.add(field.name());
+            if (Modifier.isPublic(field.flags())) {
+                properties.put(field.name(), field);
+            }
+        }
+        Map<String, MethodInfo> isGetters = new LinkedHashMap<>();
+        for (MethodInfo method : classInfo.methods()) {
+            short flags = method.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || ((flags & (SYNTHETIC | BRIDGE)) != 0)
+                    || !method.parameters().isEmpty() || (method.returnType().kind() == Type.Kind.VOID)) {
+                continue;
+            }
+            String name = method.name();
+            if (name.startsWith("get")) {
+                String propertyName = propertyName(name, 3);
+                if (propertyName != null) {
+                    properties.put(propertyName, method);
+                }
+            } else if (name.startsWith("is") && method.returnType().kind() == Type.Kind.PRIMITIVE
+                    && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                String propertyName = propertyName(name, 2);
+                if (propertyName != null) {
+                    isGetters.put(propertyName, method);
+                }
+            }
+        }
+        // Jackson prefers regular getters to "is" getters
+        for (Map.Entry<String, MethodInfo> entry : isGetters.entrySet()) {
+            Object existing = properties.get(entry.getKey());
+            if (!(existing instanceof MethodInfo)) {
+                properties.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (properties.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            Object property = properties.remove(fieldName);
+            if (property != null) {
+                ordered.put(fieldName, property);
+            }
+        }
+        ordered.putAll(properties);
+        return ordered;
+    }
+
+    /**
+     * Mirrors the default name mangling of Jackson, i.e. all leading upper case characters are converted to lower case.
+     */
+    static String propertyName(String methodName, int offset) {
+        int end = methodName.length();
+        if (end == offset) {
+            return null;
+        }
+        char c = methodName.charAt(offset);
+        char d = Character.toLowerCase(c);
+        if (c == d) {
+            return methodName.substring(offset);
+        }
+        StringBuilder sb = new StringBuilder(end - offset);
+        sb.append(d);
+        for (int i = offset + 1; i < end; ++i) {
+            c = methodName.charAt(i);
+            d = Character.toLowerCase(c);
+            if (c == d) {
+                sb.append(methodName, i, end);
+                break;
+            }
+            sb.append(d);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generates a writer for the given class and returns its name. The properties must have been obtained from
+     * {@link #properties(ClassInfo)}.
+     * <p>
+     * An example of the generated code is:
+     *
+     * <pre>
+     *
+     * &#64;Singleton
+     * &#64;Unremovable
+     * public class Person$quarkusjacksonwriter extends GeneratedJacksonMessageBodyWriter {
+     *
+     *     &#64;Inject
+     *     public Person$quarkusjacksonwriter(ObjectMapper mapper) {
+     *         super(Person.class, mapper);
+     *     }
+     *
+     *     protected void writeValue(Object value, JsonGenerator generator) throws IOException {
+     *         Person person = (Person) value;
+     *         generator.writeStartObject();
+     *         generator.writeStringField("first", person.getFirst());
+     *         generator.writeNumberField("age", person.getAge());
+     *         generator.writeObjectField("address", person.getAddress());
+     *         generator.writeEndObject();
+     *     }
+     * }
+     *
+     * </pre>
+     */
+    static String generate(ClassInfo classInfo, Map<String, Object> properties, ClassOutput classOutput) {
+        String entityClassName = classInfo.name().toString();
+        String generatedClassName = entityClassName + GENERATED_CLASS_SUFFIX;
+        try (ClassCreator cc = ClassCreator.builder().classOutput(classOutput)
+                .className(generatedClassName)
+                .superClass(GeneratedJacksonMessageBodyWriter.class)
+                .build()) {
+            cc.addAnnotation(Singleton.class);
+            cc.addAnnotation(Unremovable.class);
+
+            MethodCreator ctor = cc.getMethodCreator("<init>", void.class, ObjectMapper.class);
+            ctor.setModifiers(Modifier.PUBLIC);
+            ctor.addAnnotation(Inject.class);
+            ctor.invokeSpecialMethod(ofConstructor(GeneratedJacksonMessageBodyWriter.class, Class.class, ObjectMapper.class),
+                    ctor.getThis(), ctor.loadClass(entityClassName), ctor.getMethodParam(0));
+            ctor.returnValue(null);
+
+            MethodCreator writeValue = cc.getMethodCreator("writeValue", void.class, Object.class, JsonGenerator.class);
+            writeValue.setModifiers(Modifier.PROTECTED);
+            writeValue.addException(IOException.class);
+            ResultHandle entity = writeValue.checkCast(writeValue.getMethodParam(0), entityClassName);
+            ResultHandle generator = writeValue.getMethodParam(1);
+            writeValue.invokeVirtualMethod(WRITE_START_OBJECT, generator);
+            for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                Type type;
+                ResultHandle value;
+                if (entry.getValue() instanceof FieldInfo) {
+                    FieldInfo field = (FieldInfo) entry.getValue();
+                    type = field.type();
+                    value = writeValue.readInstanceField(FieldDescriptor.of(field), entity);
+                } else {
+                    MethodInfo getter = (MethodInfo) entry.getValue();
+                    type = getter.returnType();
+                    value = writeValue.invokeVirtualMethod(MethodDescriptor.of(getter), entity);
+                }
+                writeProperty(writeValue, generator, writeValue.load(entry.getKey()), type, value);
+            }
+            writeValue.invokeVirtualMethod(WRITE_END_OBJECT, generator);
+            writeValue.returnValue(null);
+        }
+        return generatedClassName;
+    }
+
+    private static void writeProperty(MethodCreator method, ResultHandle generator, ResultHandle name, Type type,
+            ResultHandle value) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    method.invokeVirtualMethod(WRITE_BOOLEAN_FIELD, generator, name, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    method.invokeVirtualMethod(WRITE_INT_FIELD, generator, name, value);
+                    return;
+                case LONG:
+                    method.invokeVirtualMethod(WRITE_LONG_FIELD, generator, name, value);
+                    return;
+                case FLOAT:
+                    method.invokeVirtualMethod(WRITE_FLOAT_FIELD, generator, name, value);
+                    return;
+                case DOUBLE:
+                    method.invokeVirtualMethod(WRITE_DOUBLE_FIELD, generator, name, value);
+                    return;
+                case CHAR:
+                    method.invokeVirtualMethod(WRITE_FIELD_NAME, generator, name);
+                    method.invokeVirtualMethod(WRITE_STRING, generator, method.invokeStaticMethod(STRING_VALUE_OF_CHAR, value));
+                    return;
+                default:
+                    throw new IllegalStateException("Unsupported primitive type " + type);
+            }
+        }
+        if (type.name().equals(STRING)) {
+            // a null value is written as null
+            method.invokeVirtualMethod(WRITE_STRING_FIELD, generator, name, value);
+        } else {
+            // everything else, including null values, is handled by the ObjectMapper
+            method.invokeVirtualMethod(WRITE_OBJECT_FIELD, generator, name, value);
+        }
+    }
+}
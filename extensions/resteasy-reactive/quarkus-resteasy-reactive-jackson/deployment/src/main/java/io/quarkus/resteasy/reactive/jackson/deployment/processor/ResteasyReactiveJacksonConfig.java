@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "rest.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If set to {@code true} a dedicated message body writer is generated for every plain Java class returned by a
+     * resource method. The generated writers serialize the properties of the class without reflection, so Jackson does
+     * not need to build a serializer when the first response is written.
+     * <p>
+     * Classes that use Jackson annotations, extend another class or declare transient fields are not handled and
+     * neither is an {@code ObjectMapper} configured with a naming strategy, a non default inclusion or mix-ins - these
+     * are always serialized by Jackson itself. The generated writers may write the properties in a different order.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean generateSerializers;
+
+}
@@ -3,6 +3,7 @@ package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -12,17 +13,22 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.scanning.ResourceScanningResult;
 
 import com.fasterxml.jackson.annotation.JsonView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
 import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
@@ -86,6 +92,47 @@ public class ResteasyReactiveJacksonProcessor {
                         Collections.singletonList(MediaType.APPLICATION_JSON)));
     }
 
+    @BuildStep
+    void generateSerializers(ResteasyReactiveJacksonConfig config,
+            Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedBeanBuildItem> generatedBeans,
+            BuildProducer<MessageBodyWriterBuildItem> additionalWriters) {
+        if (!config.generateSerializers || !resourceScanningResultBuildItem.isPresent()) {
+            return;
+        }
+        ResourceScanningResult result = resourceScanningResultBuildItem.get().getResult();
+        Set<DotName> httpAnnotations = result.getHttpAnnotationToMethod().keySet();
+        Set<DotName> entityTypes = new HashSet<>();
+        for (ClassInfo resourceClass : result.getScannedResources().values()) {
+            for (MethodInfo method : resourceClass.methods()) {
+                for (DotName httpAnnotation : httpAnnotations) {
+                    if (method.hasAnnotation(httpAnnotation)) {
+                        DotName entityType = JacksonSerializerGenerator.entityType(method.returnType());
+                        if (entityType != null) {
+                            entityTypes.add(entityType);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(generatedBeans);
+        for (DotName entityType : entityTypes) {
+            ClassInfo entityClass = index.getIndex().getClassByName(entityType);
+            if (entityClass == null) {
+                continue;
+            }
+            Map<String, Object> properties = JacksonSerializerGenerator.properties(entityClass);
+            if (properties == null) {
+                continue;
+            }
+            String writerClassName = JacksonSerializerGenerator.generate(entityClass, properties, classOutput);
+            additionalWriters.produce(new MessageBodyWriterBuildItem(writerClassName, entityType.toString(),
+                    Collections.singletonList(MediaType.APPLICATION_JSON)));
+        }
+    }
+
     @BuildStep
     void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
             CombinedIndexBuildItem index,
@@ -0,0 +1,84 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class GeneratedSerializersCustomizerTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(ProductResource.class, Product.class, ProductSerializerCustomizer.class)
+                            .addAsResource(new StringAsset("quarkus.rest.jackson.generate-serializers=true"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    public void testCustomSerializerIsUsed() {
+        RestAssured.get("/product")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("custom", Matchers.equalTo("foo"))
+                .body("name", Matchers.nullValue());
+    }
+
+    @Path("/product")
+    public static class ProductResource {
+
+        @GET
+        public Product get() {
+            Product product = new Product();
+            product.name = "foo";
+            return product;
+        }
+    }
+
+    public static class Product {
+
+        public String name;
+    }
+
+    @Singleton
+    public static class ProductSerializerCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            SimpleModule module = new SimpleModule();
+            module.addSerializer(Product.class, new StdSerializer<Product>(Product.class) {
+                @Override
+                public void serialize(Product value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                    gen.writeStartObject();
+                    gen.writeStringField("custom", value.name);
+                    gen.writeEndObject();
+                }
+            });
+            objectMapper.registerModule(module);
+        }
+    }
+}
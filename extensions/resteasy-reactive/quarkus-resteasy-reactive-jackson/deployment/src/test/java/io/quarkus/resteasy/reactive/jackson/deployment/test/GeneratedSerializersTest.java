@@ -0,0 +1,190 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(OrderResource.class, Order.class, SpecialOrder.class, Person.class)
+                            .addAsResource(new StringAsset("quarkus.rest.jackson.generate-serializers=true"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    public void testGeneratedWriterIsSelected() throws ClassNotFoundException {
+        Class<?> writerClass = Class.forName(Order.class.getName() + "$quarkusjacksonwriter", false,
+                Thread.currentThread().getContextClassLoader());
+
+        // the writers registered for the entity class are tried before the generic writer registered for Object
+        List<ResourceWriter> writers = ResteasyReactiveRecorder.getCurrentDeployment().getSerialisers().getWriters()
+                .get(Order.class);
+        assertNotNull(writers);
+        assertEquals(1, writers.size());
+        ServerMessageBodyWriter<?> writer = (ServerMessageBodyWriter<?>) writers.get(0).instance();
+        assertEquals(writerClass, writer.getClass());
+        assertTrue(writer.isWriteable(Order.class, Order.class, (ResteasyReactiveResourceInfo) null,
+                MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    public void testGeneratedWriter() {
+        // the properties are written in the order Jackson uses, i.e. the ones backed by a field first
+        RestAssured.get("/order")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("{\"id\":42,\"label\":\"été\",\"comment\":null,"
+                        + "\"customer\":{\"first\":\"Bob\",\"last\":\"Builder\"},\"code\":\"x\",\"urgent\":true,"
+                        + "\"total\":12.5}"));
+
+        RestAssured.get("/order")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .header("transfer-encoding", nullValue())
+                .header("content-length", notNullValue())
+                .body("id", Matchers.equalTo(42))
+                .body("code", Matchers.equalTo("x"))
+                .body("urgent", Matchers.equalTo(true))
+                .body("total", Matchers.equalTo(12.5f))
+                .body("label", Matchers.equalTo("été"))
+                .body("comment", nullValue())
+                .body("customer.first", Matchers.equalTo("Bob"))
+                .body("customer.last", Matchers.equalTo("Builder"))
+                .body("secret", nullValue());
+    }
+
+    @Test
+    public void testAsync() {
+        RestAssured.get("/order/async")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("id", Matchers.equalTo(42))
+                .body("customer.first", Matchers.equalTo("Bob"));
+    }
+
+    @Test
+    public void testSubclassIsSerializedByJackson() {
+        RestAssured.get("/order/special")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("id", Matchers.equalTo(42))
+                .body("discount", Matchers.equalTo(3));
+    }
+
+    @Path("/order")
+    public static class OrderResource {
+
+        @GET
+        public Order get() {
+            return populate(new Order());
+        }
+
+        @GET
+        @Path("async")
+        public Uni<Order> async() {
+            return Uni.createFrom().item(get());
+        }
+
+        @GET
+        @Path("special")
+        public Order special() {
+            return populate(new SpecialOrder());
+        }
+
+        private static Order populate(Order order) {
+            order.id = 42;
+            order.setLabel("été");
+            Person customer = new Person();
+            customer.setFirst("Bob");
+            customer.setLast("Builder");
+            order.setCustomer(customer);
+            return order;
+        }
+    }
+
+    public static class Order {
+
+        public long id;
+        private String label;
+        private String comment;
+        private Person customer;
+        private String secret = "secret";
+
+        public char getCode() {
+            return 'x';
+        }
+
+        public boolean isUrgent() {
+            return true;
+        }
+
+        public double getTotal() {
+            return 12.5;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public Person getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Person customer) {
+            this.customer = customer;
+        }
+
+        void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+
+    public static class SpecialOrder extends Order {
+
+        public int getDiscount() {
+            return 3;
+        }
+    }
+}
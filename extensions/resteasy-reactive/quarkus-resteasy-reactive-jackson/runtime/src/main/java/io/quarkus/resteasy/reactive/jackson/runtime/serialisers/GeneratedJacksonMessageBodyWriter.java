@@ -0,0 +1,174 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import static org.jboss.resteasy.reactive.server.vertx.providers.serialisers.json.JsonMessageBodyWriterUtil.setContentTypeIfNecessary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.SerializerFactoryConfig;
+import com.fasterxml.jackson.databind.ser.BasicSerializerFactory;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
+
+/**
+ * Base class of the writers generated at build time for the types returned by resource methods.
+ * <p>
+ * The generated subclasses write the properties of the entity directly to the {@link JsonGenerator}, so Jackson
+ * does not need to introspect the type. A generated writer only ever handles the exact type it was generated for
+ * and only as long as the {@link ObjectMapper} uses the defaults the generated code relies on and has no custom serializer
+ * for the type - everything else is left to {@link JacksonMessageBodyWriter}.
+ */
+public abstract class GeneratedJacksonMessageBodyWriter implements ServerMessageBodyWriter<Object> {
+
+    private static final String JSON_VIEW_NAME = JsonView.class.getName();
+    private static final String CUSTOM_SERIALIZATION = CustomSerialization.class.getName();
+
+    private final Class<?> type;
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final JacksonMessageBodyWriter.SizeHint sizeHint = new JacksonMessageBodyWriter.SizeHint();
+
+    protected GeneratedJacksonMessageBodyWriter(Class<?> type, ObjectMapper mapper) {
+        this.type = type;
+        this.mapper = mapper;
+        this.enabled = (mapper.mixInCount() == 0) && usesDefaults(mapper.getSerializationConfig())
+                && !hasCustomSerializer(type, mapper);
+    }
+
+    /**
+     * Writes the given entity, which is always an instance of the type the writer was generated for.
+     */
+    protected abstract void writeValue(Object value, JsonGenerator generator) throws IOException;
+
+    /**
+     * A custom serializer may be registered for the type, e.g. by a module added by an {@code ObjectMapperCustomizer}.
+     * Only the custom {@link Serializers} of the mapper are queried, so the type is not introspected by Jackson.
+     */
+    private static boolean hasCustomSerializer(Class<?> type, ObjectMapper mapper) {
+        SerializerFactory factory = mapper.getSerializerFactory();
+        if (!(factory instanceof BasicSerializerFactory)) {
+            return true;
+        }
+        SerializerFactoryConfig factoryConfig = ((BasicSerializerFactory) factory).getFactoryConfig();
+        if (!factoryConfig.hasSerializers()) {
+            return false;
+        }
+        SerializationConfig config = mapper.getSerializationConfig();
+        JavaType javaType = config.constructType(type);
+        for (Serializers serializers : factoryConfig.serializers()) {
+            try {
+                if (serializers.findSerializer(config, javaType, null) != null) {
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                // the lookup relies on the bean description, which is what we want to avoid building
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean usesDefaults(SerializationConfig config) {
+        if (config.getPropertyNamingStrategy() != null) {
+            return false;
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion().getValueInclusion();
+        if ((inclusion != JsonInclude.Include.ALWAYS) && (inclusion != JsonInclude.Include.USE_DEFAULTS)) {
+            return false;
+        }
+        return config.isEnabled(MapperFeature.AUTO_DETECT_GETTERS) && config.isEnabled(MapperFeature.AUTO_DETECT_IS_GETTERS)
+                && config.isEnabled(MapperFeature.AUTO_DETECT_FIELDS)
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !config.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)
+                && !config.isEnabled(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        if (!enabled || (type != this.type)) {
+            return false;
+        }
+        if (target != null) {
+            Set<String> methodAnnotationNames = target.getMethodAnnotationNames();
+            return !methodAnnotationNames.contains(JSON_VIEW_NAME) && !methodAnnotationNames.contains(CUSTOM_SERIALIZATION);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (!enabled || (type != this.type)) {
+            return false;
+        }
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                if (JsonView.class.equals(annotation.annotationType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void writeResponse(Object o, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        setContentTypeIfNecessary(context);
+        ServerHttpResponse response = context.serverResponse();
+        if (response instanceof VertxResteasyReactiveRequestContext) {
+            JacksonMessageBodyWriter.writeBuffer(sizeHint, (VertxResteasyReactiveRequestContext) response,
+                    new JacksonMessageBodyWriter.EntityWriter() {
+                        @Override
+                        public void write(OutputStream stream) throws IOException {
+                            GeneratedJacksonMessageBodyWriter.this.write(o, stream);
+                        }
+                    });
+            return;
+        }
+        OutputStream stream = context.getOrCreateOutputStream();
+        write(o, stream);
+        // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
+        stream.close();
+    }
+
+    @Override
+    public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        setContentTypeIfNecessary(httpHeaders);
+        write(o, entityStream);
+    }
+
+    private void write(Object o, OutputStream stream) throws IOException {
+        JsonGenerator generator = mapper.getFactory().createGenerator(stream);
+        // closing and flushing the stream is handled by the caller
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        // properties that are not handled by the generated code are serialized by the mapper
+        generator.setCodec(mapper);
+        writeValue(o, generator);
+        generator.close();
+    }
+}
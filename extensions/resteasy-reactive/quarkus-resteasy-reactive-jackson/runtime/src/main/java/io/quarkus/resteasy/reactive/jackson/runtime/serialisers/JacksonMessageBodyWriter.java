@@ -19,8 +19,10 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.core.JsonFactory;
@@ -28,16 +30,27 @@ import com.fasterxml.jackson.core.JsonGenerator.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
 
 public class JacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
 
     private static final String JSON_VIEW_NAME = JsonView.class.getName();
     private static final String CUSTOM_SERIALIZATION = CustomSerialization.class.getName();
+    private static final Function<ResteasyReactiveResourceInfo, SizeHint> SIZE_HINT_FUNCTION = new Function<ResteasyReactiveResourceInfo, SizeHint>() {
+        @Override
+        public SizeHint apply(ResteasyReactiveResourceInfo resourceInfo) {
+            return new SizeHint();
+        }
+    };
 
     private final ObjectMapper originalMapper;
     private final ObjectWriter defaultWriter;
     private final ConcurrentMap<Method, ObjectWriter> perMethodWriter = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ResteasyReactiveResourceInfo, SizeHint> sizeHints = new ConcurrentHashMap<>();
+    private final SizeHint defaultSizeHint = new SizeHint();
 
     @Inject
     public JacksonMessageBodyWriter(ObjectMapper mapper) {
@@ -86,46 +99,82 @@ public class JacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteab
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
         setContentTypeIfNecessary(context);
-        OutputStream stream = context.getOrCreateOutputStream();
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+            OutputStream stream = context.getOrCreateOutputStream();
             stream.write(((String) o).getBytes());
-        } else {
-            // First test the names to see if JsonView is used. We do this to avoid doing reflection for the common case
-            // where JsonView is not used
-            ResteasyReactiveResourceInfo resourceInfo = context.getResteasyReactiveResourceInfo();
-            if (resourceInfo != null) {
-                Set<String> methodAnnotationNames = resourceInfo.getMethodAnnotationNames();
-                if (methodAnnotationNames.contains(CUSTOM_SERIALIZATION)) {
-                    Method method = resourceInfo.getMethod();
-                    if (handleCustomSerialization(method, o, genericType, stream)) {
-                        return;
-                    }
-                } else if (methodAnnotationNames.contains(JSON_VIEW_NAME)) {
-                    Method method = resourceInfo.getMethod();
-                    if (handleJsonView(method.getAnnotation(JsonView.class), o, stream)) {
-                        return;
-                    }
+            stream.close();
+            return;
+        }
+        ObjectWriter writer = defaultWriter;
+        // First test the names to see if JsonView is used. We do this to avoid doing reflection for the common case
+        // where JsonView is not used
+        ResteasyReactiveResourceInfo resourceInfo = context.getResteasyReactiveResourceInfo();
+        if (resourceInfo != null) {
+            Set<String> methodAnnotationNames = resourceInfo.getMethodAnnotationNames();
+            if (methodAnnotationNames.contains(CUSTOM_SERIALIZATION)) {
+                ObjectWriter customWriter = getCustomSerializationWriter(resourceInfo.getMethod(), genericType);
+                if (customWriter != null) {
+                    writer = customWriter;
+                }
+            } else if (methodAnnotationNames.contains(JSON_VIEW_NAME)) {
+                JsonView jsonView = resourceInfo.getMethod().getAnnotation(JsonView.class);
+                if ((jsonView != null) && (jsonView.value().length > 0)) {
+                    writer = defaultWriter.withView(jsonView.value()[0]);
                 }
             }
-            defaultWriter.writeValue(stream, o);
         }
+        ServerHttpResponse response = context.serverResponse();
+        if (response instanceof VertxResteasyReactiveRequestContext) {
+            writeBuffer(writer, o, resourceInfo, (VertxResteasyReactiveRequestContext) response);
+            return;
+        }
+        OutputStream stream = context.getOrCreateOutputStream();
+        writer.writeValue(stream, o);
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
     }
 
+    private void writeBuffer(ObjectWriter writer, Object o, ResteasyReactiveResourceInfo resourceInfo,
+            VertxResteasyReactiveRequestContext response) throws IOException {
+        SizeHint sizeHint = resourceInfo != null ? sizeHints.computeIfAbsent(resourceInfo, SIZE_HINT_FUNCTION)
+                : defaultSizeHint;
+        writeBuffer(sizeHint, response, new EntityWriter() {
+            @Override
+            public void write(OutputStream stream) throws IOException {
+                writer.writeValue(stream, o);
+            }
+        });
+    }
+
+    /**
+     * Serializes the entity into a single pooled direct buffer which is then handed over to Vert.x, i.e. the output of
+     * Jackson is only copied once. The initial capacity of the buffer is derived from the sizes of the previous responses
+     * of the same endpoint.
+     */
+    static void writeBuffer(SizeHint sizeHint, VertxResteasyReactiveRequestContext response, EntityWriter entityWriter)
+            throws IOException {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(sizeHint.get());
+        try {
+            entityWriter.write(new ByteBufOutputStream(buffer));
+        } catch (Throwable t) {
+            // nothing was written yet - the exception mapping can still write the response
+            buffer.release();
+            throw t;
+        }
+        sizeHint.update(buffer.readableBytes());
+        response.end(buffer);
+    }
+
     // TODO: this can definitely be made faster if necessary by optimizing the use of the map and also by moving the creation of the
     //  biFunction to build time
-    private boolean handleCustomSerialization(Method method, Object o, Type genericType, OutputStream stream)
-            throws IOException {
+    private ObjectWriter getCustomSerializationWriter(Method method, Type genericType) {
         CustomSerialization customSerialization = method.getAnnotation(CustomSerialization.class);
         if ((customSerialization == null)) {
-            return false;
+            return null;
         }
         Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>> biFunctionClass = customSerialization.value();
-        ObjectWriter objectWriter = perMethodWriter.computeIfAbsent(method,
+        return perMethodWriter.computeIfAbsent(method,
                 new MethodObjectWriterFunction(biFunctionClass, genericType, originalMapper));
-        objectWriter.writeValue(stream, o);
-        return true;
     }
 
     private boolean handleJsonView(JsonView jsonView, Object o, OutputStream stream) throws IOException {
@@ -136,6 +185,33 @@ public class JacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteab
         return false;
     }
 
+    /**
+     * The expected size of a response body, i.e. the moving average of the previous sizes. Updates are racy but an
+     * inaccurate value only means that the buffer is resized.
+     */
+    static final class SizeHint {
+
+        static final int MIN = 256;
+
+        private volatile int size = MIN;
+
+        int get() {
+            return size;
+        }
+
+        void update(int written) {
+            int current = size;
+            // Leave some room so that slightly larger responses do not need to resize the buffer
+            int next = current - (current >> 3) + ((written + (written >> 3)) >> 3);
+            size = Math.max(MIN, next);
+        }
+    }
+
+    interface EntityWriter {
+
+        void write(OutputStream stream) throws IOException;
+    }
+
     private static class MethodObjectWriterFunction implements Function<Method, ObjectWriter> {
         private final Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>> clazz;
         private final Type genericType;
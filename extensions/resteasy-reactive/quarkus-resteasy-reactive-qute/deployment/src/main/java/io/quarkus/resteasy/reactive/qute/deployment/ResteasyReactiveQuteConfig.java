@@ -0,0 +1,18 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "rest.qute")
+public class ResteasyReactiveQuteConfig {
+
+    /**
+     * If set to {@code true} the {@code TemplateInstance} returned from a resource method is streamed to the response
+     * as the template is rendered. The response uses the chunked transfer encoding and the output is never fully
+     * materialized in memory. By default, the template is rendered first and then the whole output is written to the
+     * response.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean streaming;
+
+}
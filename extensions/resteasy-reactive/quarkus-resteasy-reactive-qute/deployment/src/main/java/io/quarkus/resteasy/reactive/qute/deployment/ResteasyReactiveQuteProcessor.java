@@ -1,14 +1,22 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Collections;
+
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamingTemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateInstanceMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -18,8 +26,16 @@ public class ResteasyReactiveQuteProcessor {
     }
 
     @BuildStep
-    CustomContainerResponseFilterBuildItem registerProviders() {
-        return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
+    void registerProviders(ResteasyReactiveQuteConfig config,
+            BuildProducer<CustomContainerResponseFilterBuildItem> filters,
+            BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (config.streaming) {
+            filters.produce(new CustomContainerResponseFilterBuildItem(StreamingTemplateResponseFilter.class.getName()));
+            writers.produce(new MessageBodyWriterBuildItem(TemplateInstanceMessageBodyWriter.class.getName(),
+                    TemplateInstance.class.getName(), Collections.singletonList(MediaType.WILDCARD)));
+        } else {
+            filters.produce(new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName()));
+        }
     }
 
     @BuildStep
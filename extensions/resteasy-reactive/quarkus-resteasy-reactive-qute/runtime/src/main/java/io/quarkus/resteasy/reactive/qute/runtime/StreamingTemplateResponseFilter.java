@@ -0,0 +1,29 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Unlike {@link TemplateResponseFilter} this filter does not render the template. It only selects the variant and the
+ * template instance is then streamed to the response by {@link TemplateInstanceMessageBodyWriter}.
+ */
+public class StreamingTemplateResponseFilter {
+
+    @ServerResponseFilter
+    public void filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object entity = responseContext.getEntity();
+        if (!(entity instanceof TemplateInstance)) {
+            return;
+        }
+        TemplateInstance instance = (TemplateInstance) entity;
+        MediaType mediaType = TemplateResponseFilter.selectMediaType(requestContext, responseContext, instance);
+        if (mediaType != null) {
+            responseContext.setEntity(instance, null, mediaType);
+        }
+    }
+}
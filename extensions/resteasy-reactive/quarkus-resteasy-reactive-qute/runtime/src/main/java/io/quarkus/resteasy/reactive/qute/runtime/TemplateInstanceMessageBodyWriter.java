@@ -0,0 +1,125 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Streams the chunks of a rendered template to the response. The next chunk is only requested once the previous one
+ * was written, i.e. the rendering is driven by the speed of the client.
+ * 
+ * @see TemplateInstance#createMulti()
+ */
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    private static final Logger LOG = Logger.getLogger(TemplateInstanceMessageBodyWriter.class);
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // Writer interceptors are present - the output is written to the stream of the interceptor context
+        entityStream.write(instance.render().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        requestContext.suspend();
+        requestContext.serverResponse().setChunked(true);
+        instance.createMulti().subscribe().withSubscriber(new ChunkSubscriber(requestContext));
+    }
+
+    static class ChunkSubscriber implements Subscriber<String> {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private volatile Subscription subscription;
+        private volatile boolean done;
+
+        ChunkSubscriber(ResteasyReactiveRequestContext requestContext) {
+            this.requestContext = requestContext;
+            requestContext.serverResponse().addCloseHandler(() -> {
+                // The client went away - stop rendering
+                Subscription s = subscription;
+                if (!done && s != null) {
+                    s.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(String chunk) {
+            requestContext.serverResponse().write(chunk.getBytes(StandardCharsets.UTF_8)).whenComplete((v, t) -> {
+                if (t != null) {
+                    // The failure did not come from the Multi
+                    subscription.cancel();
+                    handleFailure(t);
+                } else {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            handleFailure(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            requestContext.serverResponse().end();
+            requestContext.resume();
+        }
+
+        private void handleFailure(Throwable t) {
+            done = true;
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.headWritten()) {
+                // Part of the template was already sent - the only option is to close the connection
+                LOG.error("Unable to render the template, the response is incomplete", t);
+                requestContext.serverRequest().closeConnection();
+                requestContext.resume();
+            } else {
+                // Nothing was sent yet - go through the abort chain
+                requestContext.resume(t);
+            }
+        }
+
+    }
+
+}
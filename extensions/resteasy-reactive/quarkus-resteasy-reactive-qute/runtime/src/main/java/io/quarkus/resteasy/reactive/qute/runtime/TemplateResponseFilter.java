@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -16,7 +17,6 @@ import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseFilter {
 
-    @SuppressWarnings("unchecked")
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
@@ -24,8 +24,34 @@ public class TemplateResponseFilter {
             return null;
         }
 
-        MediaType mediaType;
         TemplateInstance instance = (TemplateInstance) entity;
+        MediaType mediaType = selectMediaType(requestContext, responseContext, instance);
+
+        if (mediaType != null) {
+            // The static text of the template is already encoded - render the bytes directly
+            return Uni.createFrom().completionStage(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                return instance.consumeBytes(out::write).thenApply(v -> out.toByteArray());
+            }).chain(r -> {
+                responseContext.setEntity(r, null, mediaType);
+                return Uni.createFrom().nullItem();
+            });
+        }
+        return instance.createUni().chain(r -> {
+            responseContext.setEntity(r);
+            return Uni.createFrom().nullItem();
+        });
+    }
+
+    /**
+     * Selects the variant of the template instance if multiple variants exist.
+     * 
+     * @return the media type of the response or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static MediaType selectMediaType(ResteasyReactiveContainerRequestContext requestContext,
+            ContainerResponseContext responseContext, TemplateInstance instance) {
+        MediaType mediaType;
         Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
         if (variantsAttr != null) {
             List<javax.ws.rs.core.Variant> variants = new ArrayList<>();
@@ -53,14 +79,6 @@ public class TemplateResponseFilter {
         } else {
             mediaType = responseContext.getMediaType();
         }
-
-        return instance.createUni().chain(r -> {
-            if (mediaType != null) {
-                responseContext.setEntity(r, null, mediaType);
-            } else {
-                responseContext.setEntity(r);
-            }
-            return Uni.createFrom().nullItem();
-        });
+        return mediaType;
     }
 }
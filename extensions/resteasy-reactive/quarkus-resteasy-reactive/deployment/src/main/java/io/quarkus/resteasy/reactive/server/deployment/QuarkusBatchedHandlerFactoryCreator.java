@@ -0,0 +1,107 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ResourceMethod;
+import org.jboss.resteasy.reactive.common.processor.HashUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
+import org.jboss.resteasy.reactive.server.processor.BatchedHandlerFactoryCreator;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+
+/**
+ * Generates a {@link BatchedHandler} subclass for every endpoint, in which each handler of the first batches of the
+ * endpoint is invoked from a dedicated call site. The call sites only ever see the handlers of a single endpoint, so the
+ * JIT can inline them, which is not possible for the loop of {@link BatchedHandler} that is shared by all the endpoints.
+ * <p>
+ * The number and the size of the batches are only known once the handler chains are built at runtime, so the generated
+ * code selects the call sites of a batch from its index and size.
+ */
+public class QuarkusBatchedHandlerFactoryCreator implements BatchedHandlerFactoryCreator {
+
+    private static final FieldDescriptor HANDLERS = FieldDescriptor.of(BatchedHandler.class, "handlers",
+            ServerRestHandler[].class);
+    private static final FieldDescriptor SIZE = FieldDescriptor.of(BatchedHandler.class, "size", int.class);
+    private static final FieldDescriptor INDEX = FieldDescriptor.of(BatchedHandler.class, "index", int.class);
+    private static final MethodDescriptor HANDLE = MethodDescriptor.ofMethod(ServerRestHandler.class, "handle", void.class,
+            ResteasyReactiveRequestContext.class);
+    private static final MethodDescriptor HANDLE_FROM = MethodDescriptor.ofMethod(BatchedHandler.class, "handleFrom",
+            void.class, ResteasyReactiveRequestContext.class, int.class);
+
+    final BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer;
+    final ResteasyReactiveRecorder recorder;
+
+    public QuarkusBatchedHandlerFactoryCreator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            ResteasyReactiveRecorder recorder) {
+        this.generatedClassBuildItemBuildProducer = generatedClassBuildItemBuildProducer;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Supplier<BatchedHandler.Factory> create(ResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
+        StringBuilder sigBuilder = new StringBuilder();
+        sigBuilder.append(method.getName())
+                .append(method.getReturnType());
+        for (MethodParameter t : method.getParameters()) {
+            sigBuilder.append(t);
+        }
+        String baseName = currentClassInfo.name() + "$quarkusrestbatch$" + method.getName() + "_"
+                + HashUtil.sha1(sigBuilder.toString());
+        String factoryName = baseName + "$factory";
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true);
+
+        try (ClassCreator classCreator = new ClassCreator(classOutput, baseName, null, BatchedHandler.class.getName())) {
+            MethodCreator ctor = classCreator.getMethodCreator("<init>", void.class, ServerRestHandler[].class, int.class);
+            ctor.setModifiers(Modifier.PUBLIC);
+            ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(BatchedHandler.class, ServerRestHandler[].class, int.class),
+                    ctor.getThis(), ctor.getMethodParam(0), ctor.getMethodParam(1));
+            ctor.returnValue(null);
+
+            MethodCreator handle = classCreator.getMethodCreator("handle", void.class, ResteasyReactiveRequestContext.class);
+            handle.setModifiers(Modifier.PUBLIC);
+            handle.addException(Exception.class);
+            ResultHandle requestContext = handle.getMethodParam(0);
+            ResultHandle handlers = handle.readInstanceField(HANDLERS, handle.getThis());
+            ResultHandle size = handle.readInstanceField(SIZE, handle.getThis());
+            ResultHandle index = handle.readInstanceField(INDEX, handle.getThis());
+            for (int i = 0; i < BatchedHandler.MAX_GENERATED_BATCHES; i++) {
+                BytecodeCreator batch = handle.ifIntegerEqual(index, handle.load(i)).trueBranch();
+                for (int j = 0; j < BatchedHandler.MAX_GENERATED_HANDLERS; j++) {
+                    batch.ifIntegerEqual(size, batch.load(j)).trueBranch().returnValue(null);
+                    batch.invokeInterfaceMethod(HANDLE, batch.readArrayValue(handlers, j), requestContext);
+                }
+                batch.invokeVirtualMethod(HANDLE_FROM, batch.getThis(), requestContext,
+                        batch.load(BatchedHandler.MAX_GENERATED_HANDLERS));
+                batch.returnValue(null);
+            }
+            // the next batches share the loop of the superclass
+            handle.invokeVirtualMethod(HANDLE_FROM, handle.getThis(), requestContext, handle.load(0));
+            handle.returnValue(null);
+        }
+
+        try (ClassCreator classCreator = new ClassCreator(classOutput, factoryName, null, Object.class.getName(),
+                BatchedHandler.Factory.class.getName())) {
+            MethodCreator create = classCreator.getMethodCreator("create", BatchedHandler.class, ServerRestHandler[].class,
+                    int.class);
+            MethodDescriptor ctor = MethodDescriptor.ofConstructor(baseName, ServerRestHandler[].class, int.class);
+            create.returnValue(create.newInstance(ctor, create.getMethodParam(0), create.getMethodParam(1)));
+        }
+        return recorder.batchedHandlerFactory(factoryName);
+    }
+}
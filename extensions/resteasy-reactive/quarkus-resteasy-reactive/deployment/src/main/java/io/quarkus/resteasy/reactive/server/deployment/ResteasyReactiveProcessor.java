@@ -307,7 +307,8 @@ public class ResteasyReactiveProcessor {
                     .setBytecodeTransformerBuildProducer(bytecodeTransformerBuildItemBuildProducer)
                     .setExistingConverters(existingConverters).setScannedResourcePaths(scannedResourcePaths)
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces))
+                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces,
+                            config.batchHandlerChains))
                     .setAdditionalReaders(additionalReaders)
                     .setHttpAnnotationToMethod(result.getHttpAnnotationToMethod())
                     .setInjectableBeans(injectableBeans)
@@ -374,6 +375,10 @@ public class ResteasyReactiveProcessor {
                 serverEndpointIndexerBuilder
                         .setDefaultProducesHandler(new DefaultProducesHandler.DelegatingDefaultProducesHandler(handlers));
             }
+            if (config.batchHandlerChains) {
+                serverEndpointIndexerBuilder.setBatchedHandlerFactoryCreator(
+                        new QuarkusBatchedHandlerFactoryCreator(generatedClassBuildItemBuildProducer, recorder));
+            }
             serverEndpointIndexer = serverEndpointIndexerBuilder.build();
 
             for (ClassInfo i : scannedResources.values()) {
@@ -484,7 +489,8 @@ public class ResteasyReactiveProcessor {
             RuntimeValue<Deployment> deployment = recorder.createDeployment(new DeploymentInfo()
                     .setInterceptors(interceptors.sort())
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces))
+                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces,
+                            config.batchHandlerChains))
                     .setExceptionMapping(exceptionMapping)
                     .setCtxResolvers(contextResolvers)
                     .setFeatures(feats)
@@ -499,7 +505,7 @@ public class ResteasyReactiveProcessor {
                     .setParamConverterProviders(paramConverterProviders),
                     beanContainerBuildItem.getValue(), shutdownContext, vertxConfig,
                     requestContextFactoryBuildItem.map(RequestContextFactoryBuildItem::getFactory).orElse(null),
-                    initClassFactory);
+                    initClassFactory, config.poolRequestContexts);
 
             quarkusRestDeploymentBuildItemBuildProducer
                     .produce(new ResteasyReactiveDeploymentBuildItem(deployment, deploymentPath));
@@ -0,0 +1,150 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+
+public class BatchedHandlerChainTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(BatchedResource.class, Filters.class)
+                            .addAsResource(new StringAsset("quarkus.rest.batch-handler-chains=true"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    public void testParameters() {
+        RestAssured.given().header("h", "header").get("/batched/path/1?q=query")
+                .then().statusCode(200).header("filtered", "true").body(Matchers.equalTo("1-query-header"));
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.get("/batched/blocking/1")
+                .then().statusCode(200).header("filtered", "true").body(Matchers.equalTo("blocking-1"));
+    }
+
+    @Test
+    public void testAsync() {
+        RestAssured.get("/batched/uni/1")
+                .then().statusCode(200).header("filtered", "true").body(Matchers.equalTo("uni-1"));
+    }
+
+    @Test
+    public void testBody() {
+        RestAssured.with().body("body").post("/batched/echo")
+                .then().statusCode(200).body(Matchers.equalTo("body"));
+    }
+
+    @Test
+    public void testException() {
+        RestAssured.get("/batched/fail/1")
+                .then().statusCode(409).header("filtered", "true").body(Matchers.equalTo("failed-1"));
+    }
+
+    @Test
+    public void testGeneratedHandler() {
+        RestAssured.get("/batched/handlers/1")
+                .then().statusCode(200)
+                .body(Matchers.startsWith(BatchedResource.class.getName() + "$quarkusrestbatch$handlers_"));
+    }
+
+    @Test
+    public void testNotAcceptable() {
+        RestAssured.given().accept("application/xml").get("/batched/path/1")
+                .then().statusCode(406);
+    }
+
+    @Path("batched")
+    public static class BatchedResource {
+
+        @ServerExceptionMapper
+        public Response handle(IllegalStateException e) {
+            return Response.status(409).entity(e.getMessage()).build();
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("path/{value}")
+        public String path(@PathParam("value") String value, @QueryParam("q") String query, @HeaderParam("h") String header) {
+            return value + "-" + query + "-" + header;
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking/{value}")
+        public String blocking(@PathParam("value") String value) {
+            return "blocking-" + value;
+        }
+
+        @GET
+        @Path("uni/{value}")
+        public Uni<String> uni(@PathParam("value") String value) {
+            return Uni.createFrom().item("uni-" + value);
+        }
+
+        @POST
+        @Path("echo")
+        public String echo(String body) {
+            return body;
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("handlers/{value}")
+        public String handlers(@PathParam("value") String value) {
+            for (ServerRestHandler handler : CurrentRequestManager.get().getTarget().getHandlerChain()) {
+                if (handler instanceof BatchedHandler) {
+                    return handler.getClass().getName();
+                }
+            }
+            return "none";
+        }
+
+        @GET
+        @Path("fail/{value}")
+        public String fail(@PathParam("value") String value) {
+            throw new IllegalStateException("failed-" + value);
+        }
+    }
+
+    public static class Filters {
+
+        @ServerResponseFilter
+        public void filter(ContainerResponseContext responseContext) {
+            responseContext.getHeaders().add("filtered", "true");
+        }
+    }
+}
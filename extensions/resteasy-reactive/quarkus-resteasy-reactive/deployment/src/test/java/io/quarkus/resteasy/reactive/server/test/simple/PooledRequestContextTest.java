@@ -0,0 +1,167 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+
+public class PooledRequestContextTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PooledResource.class)
+                            .addAsResource(new StringAsset("quarkus.rest.pool-request-contexts=true\n"
+                                    // a single event loop, and therefore a single pool, serves all the requests
+                                    + "quarkus.http.io-threads=1"),
+                                    "application.properties");
+                }
+            });
+
+    @Test
+    public void testStateIsNotSharedBetweenRequests() {
+        // interleave different kinds of requests so that every kind of request is processed by a recycled context
+        for (int i = 0; i < 50; i++) {
+            RestAssured.get("/pooled/path/" + i)
+                    .then().statusCode(200).body(Matchers.equalTo("path-" + i));
+            RestAssured.get("/pooled/query?q=" + i)
+                    .then().statusCode(200).body(Matchers.equalTo("query-" + i));
+            RestAssured.get("/pooled/query")
+                    .then().statusCode(200).body(Matchers.equalTo("query-null"));
+            RestAssured.get("/pooled/blocking/" + i)
+                    .then().statusCode(200).body(Matchers.equalTo("blocking-" + i));
+            RestAssured.get("/pooled/uni/" + i)
+                    .then().statusCode(200).body(Matchers.equalTo("uni-" + i));
+            RestAssured.with().body("body-" + i).post("/pooled/echo")
+                    .then().statusCode(200).body(Matchers.equalTo("body-" + i));
+            RestAssured.get("/pooled/uri/" + i)
+                    .then().statusCode(200).body(Matchers.endsWith("/pooled/uri/" + i));
+            RestAssured.get("/pooled/fail/" + i)
+                    .then().statusCode(409).body(Matchers.equalTo("failed-" + i));
+        }
+    }
+
+    @Test
+    public void testContextIsReusedAndReset() throws InterruptedException {
+        RestAssured.get("/pooled/context/first")
+                .then().statusCode(200).body(Matchers.equalTo("previous-null"));
+        ResteasyReactiveRequestContext first = PooledResource.lastContext;
+        assertNotNull(first);
+
+        // the context is returned to the pool once the response has been written, any use of it then fails in test mode
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!isRecycled(first)) {
+            assertTrue(System.currentTimeMillis() < deadline, "The request context was not recycled");
+            Thread.sleep(10);
+        }
+        assertThrows(IllegalStateException.class, first::serverResponse);
+        assertThrows(IllegalStateException.class, first::run);
+
+        // the next request on the same connection reuses the pooled instance without the state of the previous request
+        RestAssured.get("/pooled/context/second")
+                .then().statusCode(200).body(Matchers.equalTo("previous-null"));
+        assertSame(first, PooledResource.lastContext);
+    }
+
+    private static boolean isRecycled(ResteasyReactiveRequestContext context) {
+        try {
+            context.serverRequest();
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+
+    @Path("pooled")
+    public static class PooledResource {
+
+        static volatile ResteasyReactiveRequestContext lastContext;
+
+        @GET
+        @Path("context/{value}")
+        public String context(@PathParam("value") String value) {
+            ResteasyReactiveRequestContext context = CurrentRequestManager.get();
+            Object previous = context.getProperty("value");
+            context.setProperty("value", value);
+            lastContext = context;
+            return "previous-" + previous;
+        }
+
+        @ServerExceptionMapper
+        public Response handle(IllegalStateException e) {
+            return Response.status(409).entity(e.getMessage()).build();
+        }
+
+        @GET
+        @Path("path/{value}")
+        public String path(@PathParam("value") String value) {
+            return "path-" + value;
+        }
+
+        @GET
+        @Path("query")
+        public String query(@QueryParam("q") String value) {
+            return "query-" + value;
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking/{value}")
+        public String blocking(@PathParam("value") String value) {
+            return "blocking-" + value;
+        }
+
+        @GET
+        @Path("uni/{value}")
+        public Uni<String> uni(@PathParam("value") String value) {
+            return Uni.createFrom().item("uni-" + value);
+        }
+
+        @POST
+        @Path("echo")
+        public String echo(String body) {
+            return body;
+        }
+
+        @GET
+        @Path("uri/{value}")
+        public String uri(@Context UriInfo uriInfo) {
+            return uriInfo.getPath();
+        }
+
+        @GET
+        @Path("fail/{value}")
+        public String fail(@PathParam("value") String value) {
+            throw new IllegalStateException("failed-" + value);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A request context that is returned to the pool of the event loop that created it once the request is done.
+ * <p>
+ * The context is only recycled once it has been closed and the response has been completely written, and only if it is
+ * {@link #isRecyclable() recyclable}. Otherwise it is simply left to the garbage collector.
+ * <p>
+ * If {@code checkRecycled} is enabled (dev and test mode) any attempt to process or resume a context that has been
+ * returned to the pool fails, which exposes code that keeps a reference to the context beyond the request.
+ */
+final class PooledRequestContext extends QuarkusResteasyReactiveRequestContext {
+
+    private final Deque<PooledRequestContext> pool;
+    private final int maxPoolSize;
+    private final boolean checkRecycled;
+    private final Thread owner;
+    private final Executor ownerExecutor;
+    /**
+     * The number of events that need to happen before the context can be recycled, i.e. the end of the response and
+     * the context being closed.
+     */
+    private final AtomicInteger pendingEvents = new AtomicInteger(2);
+    private final Handler<Void> bodyEndHandler = new Handler<Void>() {
+        @Override
+        public void handle(Void event) {
+            eventDone();
+        }
+    };
+    private final Runnable recycleTask = new Runnable() {
+        @Override
+        public void run() {
+            recycle();
+        }
+    };
+    private boolean closed;
+    private volatile boolean recycled;
+
+    PooledRequestContext(Deployment deployment, ProvidersImpl providers, RoutingContext context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain,
+            CurrentIdentityAssociation currentIdentityAssociation, Deque<PooledRequestContext> pool, int maxPoolSize,
+            boolean checkRecycled) {
+        super(deployment, providers, context, requestContext, handlerChain, abortHandlerChain, currentIdentityAssociation);
+        this.pool = pool;
+        this.maxPoolSize = maxPoolSize;
+        this.checkRecycled = checkRecycled;
+        this.owner = Thread.currentThread();
+        this.ownerExecutor = getEventLoop();
+        context.addBodyEndHandler(bodyEndHandler);
+    }
+
+    @Override
+    public void reuse(RoutingContext context, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super.reuse(context, handlerChain, abortHandlerChain);
+        closed = false;
+        recycled = false;
+        pendingEvents.set(2);
+        context.addBodyEndHandler(bodyEndHandler);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        super.close();
+        eventDone();
+    }
+
+    private void eventDone() {
+        if (pendingEvents.decrementAndGet() == 0) {
+            // the pool is only ever accessed by the event loop that owns it
+            if (Thread.currentThread() == owner) {
+                recycle();
+            } else {
+                ownerExecutor.execute(recycleTask);
+            }
+        }
+    }
+
+    private void recycle() {
+        if (!isRecyclable() || (pool.size() >= maxPoolSize)) {
+            return;
+        }
+        // drop all references to the previous request while the context is pooled
+        reset(null, null);
+        context = null;
+        request = null;
+        response = null;
+        recycled = true;
+        pool.push(this);
+    }
+
+    private void checkNotRecycled() {
+        if (checkRecycled && recycled) {
+            throw new IllegalStateException("The request context was used after the request completed and the context"
+                    + " was returned to the pool. A reference to the context, or to an object obtained from it, must not be"
+                    + " kept once the response has been written.");
+        }
+    }
+
+    @Override
+    public void run() {
+        checkNotRecycled();
+        super.run();
+    }
+
+    @Override
+    public synchronized void resume(Executor executor) {
+        checkNotRecycled();
+        super.resume(executor);
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        checkNotRecycled();
+        return super.serverRequest();
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        checkNotRecycled();
+        return super.serverResponse();
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.vertx.core.Context;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Reuses the request contexts of completed requests instead of allocating a new context for each request. Every event
+ * loop has its own pool, so no synchronization is needed to obtain a context.
+ */
+final class PooledRequestContextFactory implements RequestContextFactory {
+
+    static final int MAX_POOL_SIZE = 256;
+
+    private final CurrentIdentityAssociation currentIdentityAssociation;
+    private final boolean checkRecycled;
+    private final FastThreadLocal<Deque<PooledRequestContext>> pools = new FastThreadLocal<Deque<PooledRequestContext>>() {
+        @Override
+        protected Deque<PooledRequestContext> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    PooledRequestContextFactory(CurrentIdentityAssociation currentIdentityAssociation, boolean checkRecycled) {
+        this.currentIdentityAssociation = currentIdentityAssociation;
+        this.checkRecycled = checkRecycled;
+    }
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment, ProvidersImpl providers, Object context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        RoutingContext routingContext = (RoutingContext) context;
+        if (!Context.isOnEventLoopThread()) {
+            // pools are bound to event loops
+            return new QuarkusResteasyReactiveRequestContext(deployment, providers, routingContext, requestContext,
+                    handlerChain, abortHandlerChain, currentIdentityAssociation);
+        }
+        Deque<PooledRequestContext> pool = pools.get();
+        PooledRequestContext pooled = pool.poll();
+        if (pooled == null) {
+            return new PooledRequestContext(deployment, providers, routingContext, requestContext, handlerChain,
+                    abortHandlerChain, currentIdentityAssociation, pool, MAX_POOL_SIZE, checkRecycled);
+        }
+        pooled.reuse(routingContext, handlerChain, abortHandlerChain);
+        return pooled;
+    }
+}
@@ -23,6 +23,7 @@ import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.startup.RuntimeDeploymentManager;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
 import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
 import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
 import org.jboss.resteasy.reactive.server.model.ContextResolvers;
@@ -71,7 +72,8 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder {
             BeanContainer beanContainer,
             ShutdownContext shutdownContext, HttpBuildTimeConfig vertxConfig,
             RequestContextFactory contextFactory,
-            BeanFactory<ResteasyReactiveInitialiser> initClassFactory) {
+            BeanFactory<ResteasyReactiveInitialiser> initClassFactory,
+            boolean poolRequestContexts) {
 
         CurrentRequestManager
                 .setCurrentRequestInstance(new QuarkusCurrentRequest(beanContainer.instance(CurrentVertxRequest.class)));
@@ -91,7 +93,10 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder {
         };
         CurrentIdentityAssociation currentIdentityAssociation = Arc.container().instance(CurrentIdentityAssociation.class)
                 .get();
-        if (contextFactory == null) {
+        if (contextFactory == null && poolRequestContexts) {
+            contextFactory = new PooledRequestContextFactory(currentIdentityAssociation,
+                    LaunchMode.current() != LaunchMode.NORMAL);
+        } else if (contextFactory == null) {
             contextFactory = new RequestContextFactory() {
                 @Override
                 public ResteasyReactiveRequestContext createContext(Deployment deployment,
@@ -195,6 +200,19 @@ public class ResteasyReactiveRecorder extends ResteasyReactiveCommonRecorder {
         };
     }
 
+    public Supplier<BatchedHandler.Factory> batchedHandlerFactory(String className) {
+        return new Supplier<BatchedHandler.Factory>() {
+            @Override
+            public BatchedHandler.Factory get() {
+                try {
+                    return (BatchedHandler.Factory) loadClass(className).newInstance();
+                } catch (IllegalAccessException | InstantiationException e) {
+                    throw new RuntimeException("Unable to create the batched handler factory", e);
+                }
+            }
+        };
+    }
+
     public Function<Class<?>, BeanFactory<?>> factoryCreator(BeanContainer container) {
         return new Function<Class<?>, BeanFactory<?>>() {
             @Override
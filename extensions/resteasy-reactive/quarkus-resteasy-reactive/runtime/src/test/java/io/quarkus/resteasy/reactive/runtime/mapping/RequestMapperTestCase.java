@@ -35,6 +35,38 @@ public class RequestMapperTestCase {
 
     }
 
+    @Test
+    public void testSharedPrefixes() {
+        RequestMapper<String> mapper = mapper("/api/{id}", "/api/bar", "/api/{id}/items", "/api/{id}/items/{item}",
+                "/api/{id}/{num:\\d+}", "/api/{id}/orders");
+
+        Assertions.assertEquals("/api/bar", mapper.map("/api/bar").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/api/baz");
+        Assertions.assertEquals("/api/{id}", result.value);
+        Assertions.assertEquals("baz", result.pathParamValues[0]);
+        result = mapper.map("/api/foo/items/12");
+        Assertions.assertEquals("/api/{id}/items/{item}", result.value);
+        Assertions.assertEquals("foo", result.pathParamValues[0]);
+        Assertions.assertEquals("12", result.pathParamValues[1]);
+        result = mapper.map("/api/foo%20bar/orders");
+        Assertions.assertEquals("/api/{id}/orders", result.value);
+        Assertions.assertEquals("foo bar", result.pathParamValues[0]);
+        result = mapper.map("/api/foo/42");
+        Assertions.assertEquals("/api/{id}/{num:\\d+}", result.value);
+        Assertions.assertEquals("foo", result.pathParamValues[0]);
+        Assertions.assertEquals("42", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/api/foo/bar/baz"));
+    }
+
+    @Test
+    public void testLiteralMismatchBeforeRegex() {
+        RequestMapper<String> mapper = mapper("/{p}/api/{num:\\d+}");
+        Assertions.assertNull(mapper.map("/a/55/14/93"));
+        RequestMapper.RequestMatch<String> result = mapper.map("/a/api/14");
+        Assertions.assertEquals("a", result.pathParamValues[0]);
+        Assertions.assertEquals("14", result.pathParamValues[1]);
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
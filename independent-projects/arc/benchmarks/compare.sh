@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+#
+# Runs the ArC benchmarks for two commits and prints the relative difference of the scores.
+#
+# Usage: ./compare.sh <base commit> [<commit>] [<JMH arguments>]
+#
+# The second commit defaults to HEAD. JMH arguments can be used to select a subset of benchmarks, e.g.
+# ./compare.sh main HEAD "InterceptionBenchmark -f 2"
+#
+# Requires git, Maven and jq.
+
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+    echo "Usage: $0 <base commit> [<commit>] [<JMH arguments>]"
+    exit 1
+fi
+
+BASE=$1
+HEAD=${2:-HEAD}
+JMH_ARGS=${3:-}
+RESULTS=$(pwd)/target/compare
+mkdir -p "$RESULTS"
+
+run() {
+    local commit=$1
+    local sha
+    sha=$(git rev-parse --short "$commit")
+    local worktree="$RESULTS/worktree-$sha"
+    if [ ! -f "$RESULTS/$sha.json" ]; then
+        git worktree add --force --detach "$worktree" "$sha" > /dev/null
+        (cd "$worktree/independent-projects/arc" && mvn -B -q install -Dbenchmarks -DskipTests -Dno-format \
+            && cd benchmarks && mvn -B -q exec:exec@run -Dbenchmarks -Djmh.result="$RESULTS/$sha.json" -Djmh.args="$JMH_ARGS")
+        git worktree remove --force "$worktree"
+    fi
+    echo "$RESULTS/$sha.json"
+}
+
+BASE_RESULT=$(run "$BASE" | tail -n 1)
+HEAD_RESULT=$(run "$HEAD" | tail -n 1)
+
+scores() {
+    jq -r '.[] | [.benchmark, .primaryMetric.score, .primaryMetric.scoreUnit] | @tsv' "$1" | sort
+}
+
+printf "%-80s %15s %15s %8s\n" "Benchmark" "$BASE" "$HEAD" "Diff"
+join -t $'\t' <(scores "$BASE_RESULT") <(scores "$HEAD_RESULT") \
+    | awk -F '\t' '{ printf "%-80s %15.3f %15.3f %+7.1f%% %s\n", $1, $2, $4, ($4 - $2) * 100 / $2, $3 }'
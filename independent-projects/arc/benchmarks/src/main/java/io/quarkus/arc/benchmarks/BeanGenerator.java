@@ -0,0 +1,68 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates the beans of the {@code io.quarkus.arc.benchmarks.beans} package into the given output directory so that
+ * the benchmarks run against the same generated classes as a Quarkus application.
+ */
+public class BeanGenerator {
+
+    static final String BEANS_PACKAGE = "io/quarkus/arc/benchmarks/beans";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BeanGenerator <classes directory>");
+        }
+        File outputDirectory = new File(args[0]);
+
+        Indexer indexer = new Indexer();
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(outputDirectory.toPath().resolve(BEANS_PACKAGE))) {
+            classFiles = files.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            try (InputStream in = Files.newInputStream(classFile)) {
+                indexer.index(in);
+            }
+        }
+        Index index = indexer.complete();
+
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName("ArcBenchmarks")
+                .setBeanArchiveIndex(BeanArchives.buildBeanArchiveIndex(BeanGenerator.class.getClassLoader(),
+                        new ConcurrentHashMap<>(), index))
+                .setOutput(new ResourceOutput() {
+
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(outputDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                resource.writeTo(new File(outputDirectory, "META-INF/services"));
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build();
+        beanProcessor.process();
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedBean;
+import io.quarkus.arc.benchmarks.beans.SimpleBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Delegation of a client proxy to the contextual instance, compared to a direct invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedBean proxy;
+    private SimpleBean singleton;
+
+    @Setup
+    public void setup(ContainerState state) {
+        proxy = state.container.instance(ApplicationScopedBean.class).get();
+        singleton = state.container.instance(SimpleBean.class).get();
+    }
+
+    @Benchmark
+    public int clientProxy() {
+        return proxy.ping();
+    }
+
+    @Benchmark
+    public int noClientProxy() {
+        return singleton.ping();
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts the container with the beans generated by {@link BeanGenerator} once per benchmark trial.
+ */
+@State(Scope.Benchmark)
+public class ContainerState {
+
+    ArcContainer container;
+
+    @Setup
+    public void start() {
+        container = Arc.initialize();
+    }
+
+    @TearDown
+    public void stop() {
+        Arc.shutdown();
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.benchmarks.beans.DependentBean;
+import io.quarkus.arc.benchmarks.beans.InstanceHolder;
+import io.quarkus.arc.benchmarks.beans.SimpleBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean resolution through {@code ArcContainer#instance()} and injected {@code Instance}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstanceBenchmark {
+
+    private InstanceHolder holder;
+
+    @Setup
+    public void setup(ContainerState state) {
+        holder = state.container.instance(InstanceHolder.class).get();
+    }
+
+    @Benchmark
+    public SimpleBean containerInstanceSingleton(ContainerState state) {
+        return state.container.instance(SimpleBean.class).get();
+    }
+
+    @Benchmark
+    public int containerInstanceDependent(ContainerState state) {
+        try (InstanceHandle<DependentBean> handle = state.container.instance(DependentBean.class)) {
+            return handle.get().ping();
+        }
+    }
+
+    @Benchmark
+    public SimpleBean injectedInstanceSingleton() {
+        return holder.getSingleton().get();
+    }
+
+    @Benchmark
+    public int injectedInstanceDependent() {
+        DependentBean bean = holder.getDependent().get();
+        int result = bean.ping();
+        holder.getDependent().destroy(bean);
+        return result;
+    }
+
+    @Benchmark
+    public SimpleBean injectedInstanceSelect() {
+        return holder.getAny().select(SimpleBean.class).get();
+    }
+
+}
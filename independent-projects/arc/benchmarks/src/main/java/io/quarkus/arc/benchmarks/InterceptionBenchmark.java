@@ -0,0 +1,49 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.InterceptedBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invocation of business methods through the generated subclass and the around invoke interceptor chain.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterceptionBenchmark {
+
+    private InterceptedBean bean;
+
+    @Setup
+    public void setup(ContainerState state) {
+        bean = state.container.instance(InterceptedBean.class).get();
+    }
+
+    @Benchmark
+    public int notIntercepted() {
+        return bean.notIntercepted();
+    }
+
+    @Benchmark
+    public int oneInterceptor() {
+        return bean.oneInterceptor();
+    }
+
+    @Benchmark
+    public int threeInterceptors() {
+        return bean.threeInterceptors();
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.RequestScopedBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Activation and termination of the request context, with and without a request scoped bean instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedBean bean;
+
+    @Setup
+    public void setup(ContainerState state) {
+        requestContext = state.container.requestContext();
+        bean = state.container.instance(RequestScopedBean.class).get();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseBeanTerminate() {
+        requestContext.activate();
+        try {
+            return bean.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
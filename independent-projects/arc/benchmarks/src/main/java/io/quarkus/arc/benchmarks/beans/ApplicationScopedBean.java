@@ -0,0 +1,14 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApplicationScopedBean {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
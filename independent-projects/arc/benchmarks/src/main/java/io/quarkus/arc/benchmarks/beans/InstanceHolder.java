@@ -0,0 +1,31 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
+public class InstanceHolder {
+
+    @Inject
+    Instance<DependentBean> dependent;
+
+    @Inject
+    Instance<SimpleBean> singleton;
+
+    @Inject
+    Instance<Object> any;
+
+    public Instance<DependentBean> getDependent() {
+        return dependent;
+    }
+
+    public Instance<SimpleBean> getSingleton() {
+        return singleton;
+    }
+
+    public Instance<Object> getAny() {
+        return any;
+    }
+
+}
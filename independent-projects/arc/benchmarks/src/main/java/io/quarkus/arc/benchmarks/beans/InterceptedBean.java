@@ -0,0 +1,26 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.inject.Singleton;
+
+@Singleton
+public class InterceptedBean {
+
+    private int counter;
+
+    public int notIntercepted() {
+        return ++counter;
+    }
+
+    @Binding1
+    public int oneInterceptor() {
+        return ++counter;
+    }
+
+    @Binding1
+    @Binding2
+    @Binding3
+    public int threeInterceptors() {
+        return ++counter;
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Binding2
+@Priority(2)
+@Interceptor
+public class Interceptor2 {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Binding3
+@Priority(3)
+@Interceptor
+public class Interceptor3 {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedBean {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
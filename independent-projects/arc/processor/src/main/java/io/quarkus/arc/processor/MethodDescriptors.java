@@ -163,6 +163,11 @@ public final class MethodDescriptors {
             Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
             Set.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_METADATA = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performAroundInvoke",
+            Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "aroundConstruct",
@@ -226,6 +231,10 @@ public final class MethodDescriptors {
             InterceptedMethodMetadata.class,
             List.class, Method.class, Set.class);
 
+    public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            InterceptedMethodMetadata.class,
+            List.class, Method.class, Set.class, Function.class);
+
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
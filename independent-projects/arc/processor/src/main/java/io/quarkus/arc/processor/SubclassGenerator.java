@@ -22,7 +22,6 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -62,13 +61,7 @@ public class SubclassGenerator extends AbstractGenerator {
     static final String DESTROY_METHOD_NAME = "arc$destroy";
 
     protected static final String FIELD_NAME_PREDESTROYS = "preDestroys";
-    protected static final String FIELD_NAME_METADATA = "metadata";
-    protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(InterceptedMethodMetadata.class, "method",
-            Method.class);
-    protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(InterceptedMethodMetadata.class, "chain",
-            List.class);
-    protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(InterceptedMethodMetadata.class,
-            "bindings", Set.class);
+    protected static final String FIELD_NAME_METADATA_PREFIX = "arc$";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final ReflectionRegistration reflectionRegistration;
@@ -202,21 +195,6 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // Init intercepted methods and interceptor chains
-        // private final Map<String,SubclassMethodMetadata> metadata
-        // metadata = new HashMap<>()
-        int metadataMapCapacity = bean.getInterceptedMethods().size();
-        if (metadataMapCapacity < 3) {
-            metadataMapCapacity++;
-        } else {
-            metadataMapCapacity = (int) ((float) metadataMapCapacity / 0.75F + 1.0F);
-        }
-        FieldCreator metadataField = subclass.getFieldCreator(FIELD_NAME_METADATA, Map.class.getName())
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
-        ResultHandle metadataHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class, int.class),
-                constructor.load(metadataMapCapacity));
-        constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(),
-                metadataHandle);
-
         // Shared interceptor bindings literals
         Map<BindingKey, ResultHandle> bindingsLiterals = new HashMap<>();
         Function<BindingKey, ResultHandle> bindingsLiteralFun = new Function<SubclassGenerator.BindingKey, ResultHandle>() {
@@ -281,7 +259,6 @@ public class SubclassGenerator extends AbstractGenerator {
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
             String methodId = "m" + methodIdx++;
             MethodInfo method = entry.getKey();
-            ResultHandle methodIdHandle = constructor.load(methodId);
             InterceptionInfo interceptedMethod = entry.getValue();
 
             // 1. Interceptor chain
@@ -309,29 +286,57 @@ public class SubclassGenerator extends AbstractGenerator {
             ResultHandle bindingsHandle = bindings.computeIfAbsent(
                     interceptedMethod.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+            // 4. Forwarding function - created once per instance so that no lambda is allocated per invocation
+            ResultHandle forwardHandle = createForwardingFunction(constructor, method, providerTypeName);
+
             // Now create metadata for the given intercepted method
+            // private final InterceptedMethodMetadata arc$m1
+            // this.arc$m1 = new InterceptedMethodMetadata(...)
+            // Each intercepted method has its own field so that no map lookup is needed per invocation
+            FieldCreator metadataField = subclass.getFieldCreator(FIELD_NAME_METADATA_PREFIX + methodId,
+                    InterceptedMethodMetadata.class.getName())
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
             ResultHandle methodMetadataHandle = constructor.newInstance(
-                    MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
-            // metadata.put("m1", new SubclassMethodMetadata(...))
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
+                    MethodDescriptors.INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR,
+                    chainHandle, methodHandle, bindingsHandle, forwardHandle);
+            constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(), methodMetadataHandle);
 
             // Needed when running on native image
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
-                    metadataField.getFieldDescriptor(),
-                    interceptedMethod);
+            createForwardingMethod(classOutput, bean, method, subclass, providerTypeName,
+                    metadataField.getFieldDescriptor(), interceptedMethod);
         }
 
         constructor.returnValue(null);
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
-    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
-            ClassCreator subclass,
-            String providerTypeName, FieldDescriptor metadataField,
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = constructor.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                constructor.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
+    }
+
+    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method,
+            ClassCreator subclass, String providerTypeName, FieldDescriptor metadataField,
             InterceptionInfo interceptedMethod) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
@@ -344,9 +349,9 @@ public class SubclassGenerator extends AbstractGenerator {
             forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
         }
 
-        // if(!this.bean == null) return super.foo()
-        BytecodeCreator notConstructed = forwardMethod
-                .ifNull(forwardMethod.readInstanceField(metadataField, forwardMethod.getThis())).trueBranch();
+        // if(this.arc$m1 == null) return super.foo()
+        ResultHandle methodMetadataHandle = forwardMethod.readInstanceField(metadataField, forwardMethod.getThis());
+        BytecodeCreator notConstructed = forwardMethod.ifNull(methodMetadataHandle).trueBranch();
         ResultHandle[] params = new ResultHandle[method.parameters().size()];
         for (int i = 0; i < method.parameters().size(); ++i) {
             params[i] = notConstructed.getMethodParam(i);
@@ -361,25 +366,6 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -413,16 +399,10 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
-        ResultHandle methodIdHandle = tryCatch.load(methodId);
-        ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+        // InvocationContexts.performAroundInvoke(this, params, this.arc$m1)
+        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_METADATA,
+                tryCatch.getThis(), paramsHandle, methodMetadataHandle);
+        tryCatch.returnValue(method.returnType().kind() != Type.Kind.VOID ? ret : null);
     }
 
     /**
@@ -0,0 +1,91 @@
+package io.quarkus.arc;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Notification options that enable the ordered delivery of asynchronous events fired with
+ * {@link Event#fireAsync(Object, NotificationOptions)}.
+ *
+ * <p>
+ * By default, each asynchronous event is scheduled individually on the executor. If any of the options defined in this
+ * class is set, the event is put in a queue shared by all the events of the same type, qualifiers and ordering key
+ * instead:
+ * </p>
+ * <ul>
+ * <li>the events with the same {@link #ORDERING_KEY} are delivered sequentially, in the order in which they were fired
+ * (events fired without a key are not ordered and are spread over several queues),</li>
+ * <li>the number of pending events of a given type and qualifiers, whatever their ordering key, is limited by
+ * {@link #QUEUE_CAPACITY} - if the capacity is exceeded, the returned
+ * {@link java.util.concurrent.CompletionStage} is completed exceptionally with a
+ * {@link java.util.concurrent.RejectedExecutionException},</li>
+ * <li>up to {@link #BATCH_SIZE} pending events are drained in a single executor task and the asynchronous observers of
+ * {@code List<T>} with the same qualifiers are notified once per drained batch.</li>
+ * </ul>
+ *
+ * <h2>Example</h2>
+ *
+ * <pre>
+ * <code>
+ *  class OrderService {
+ *
+ *     {@literal @Inject}
+ *     Event&lt;OrderUpdated&gt; event;
+ *
+ *     void update(Order order) {
+ *        event.fireAsync(new OrderUpdated(order), AsyncDeliveryOptions.ordered(order.getId()).set(AsyncDeliveryOptions.BATCH_SIZE, 64).build());
+ *     }
+ *  }
+ *
+ *  class OrderObserver {
+ *
+ *     void onBatch({@literal @ObservesAsync} List&lt;OrderUpdated&gt; events) {
+ *        // events with the same order id are received in the order in which they were fired
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ */
+public final class AsyncDeliveryOptions {
+
+    /**
+     * The key of the events that must be delivered sequentially, in the order in which they were fired.
+     */
+    public static final String ORDERING_KEY = "io.quarkus.arc.async.ordering-key";
+
+    /**
+     * The maximum number of pending events of a given type and qualifiers, an {@link Integer}. The limit applies to the
+     * events of all the ordering keys together.
+     */
+    public static final String QUEUE_CAPACITY = "io.quarkus.arc.async.queue-capacity";
+
+    /**
+     * The maximum number of pending events drained in a single executor task, an {@link Integer}.
+     */
+    public static final String BATCH_SIZE = "io.quarkus.arc.async.batch-size";
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    public static final int DEFAULT_BATCH_SIZE = 1;
+
+    private AsyncDeliveryOptions() {
+    }
+
+    /**
+     *
+     * @return a builder of options that enable the ordered delivery of events without any ordering key
+     */
+    public static NotificationOptions.Builder ordered() {
+        return NotificationOptions.builder().set(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     *
+     * @param orderingKey
+     * @return a builder of options that enable the ordered delivery of events with the given ordering key
+     */
+    public static NotificationOptions.Builder ordered(Object orderingKey) {
+        return ordered().set(ORDERING_KEY, orderingKey);
+    }
+
+}
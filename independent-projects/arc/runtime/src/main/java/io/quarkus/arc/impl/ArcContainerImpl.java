@@ -84,6 +84,9 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
+    // Notifiers for event runtime types without type variables, shared by all Event instances
+    private final ComputingCache<NotifierKey, EventImpl.Notifier<?>> notifiers;
+
     private final List<ResourceReferenceProvider> resourceProviders;
 
     final InstanceImpl<Object> instance;
@@ -102,11 +105,8 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new HashMap<>();
-        putContext(requestContext);
-        putContext(applicationContext);
-        putContext(singletonContext);
+        List<InjectableContext> customContexts = new ArrayList<>();
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -129,7 +129,7 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
@@ -137,11 +137,22 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        // The request context needs to know all the request scoped beans upfront
+        requestContext = new RequestContext(beans);
+        putContext(requestContext);
+        putContext(applicationContext);
+        putContext(singletonContext);
+        for (InjectableContext context : customContexts) {
+            putContext(context);
+        }
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        notifiers = new ComputingCache<>(
+                key -> EventImpl.createNotifier(key.runtimeType, key.runtimeType, key.qualifiers, this));
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -375,6 +386,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            notifiers.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -669,6 +681,11 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
+    @SuppressWarnings("unchecked")
+    <T> EventImpl.Notifier<T> getNotifier(Class<?> runtimeType, Set<Annotation> qualifiers) {
+        return (EventImpl.Notifier<T>) notifiers.getValue(new NotifierKey(runtimeType, qualifiers));
+    }
+
     @SuppressWarnings("unchecked")
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         Qualifiers.verify(eventQualifiers);
@@ -785,6 +802,36 @@ public class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    private static final class NotifierKey {
+
+        final Class<?> runtimeType;
+
+        final Set<Annotation> qualifiers;
+
+        NotifierKey(Class<?> runtimeType, Set<Annotation> qualifiers) {
+            this.runtimeType = runtimeType;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * runtimeType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            return runtimeType.equals(other.runtimeType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Set<Type> BUILT_IN_TYPES = new HashSet<>(Arrays.asList(Event.class, Instance.class));
@@ -24,13 +24,16 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The first context of the chain holds the context data shared by all interceptors, null if this is the first context
+    private final AroundInvokeInvocationContext first;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext first, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, null, parameters, interceptorBindings, chain);
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.first = first;
     }
 
     static Object perform(Object target, Method method,
@@ -42,13 +45,19 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
                 parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        return first != null ? first.getContextData() : super.getContextData();
+    }
+
     @Override
     public Object proceed() throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, first != null ? first : this, interceptorBindings, position + 1, chain,
+                        aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
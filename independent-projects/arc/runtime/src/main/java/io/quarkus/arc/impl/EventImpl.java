@@ -3,9 +3,11 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -52,7 +54,8 @@ class EventImpl<T> implements Event<T> {
     private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    // Only used for runtime types with type variables, other notifiers are shared by the container
+    private volatile ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
@@ -61,7 +64,14 @@ class EventImpl<T> implements Event<T> {
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        if (isFinalType(this.eventType)) {
+            // The runtime type of the event is always the required type so the notifier can be resolved upfront
+            ArcContainer container = Arc.container();
+            if (container != null) {
+                this.lastNotifier = ArcContainerImpl.unwrap(container).getNotifier((Class<?>) this.eventType,
+                        this.qualifiers);
+            }
+        }
     }
 
     @Override
@@ -86,6 +96,14 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
+        if (OrderedEventDelivery.isOrdered(options)) {
+            OrderedEventDelivery<U> orderedDelivery = notifier.getOrderedDelivery();
+            if (orderedDelivery.isEmpty()) {
+                return AsyncEventDeliveryStage.completed(event, executor);
+            }
+            return new AsyncEventDeliveryStage<>(orderedDelivery.deliver(event, options, executor), executor);
+        }
+
         if (notifier.isEmpty()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
@@ -106,10 +124,33 @@ class EventImpl<T> implements Event<T> {
 
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
-        if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
+        if (notifier != null && notifier.runtimeType == runtimeType) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        if (Types.containsTypeVariable(runtimeType)) {
+            // The event type depends on the required type of this Event instance
+            ConcurrentMap<Class<?>, Notifier<? super T>> notifiers = this.notifiers;
+            if (notifiers == null) {
+                synchronized (this) {
+                    notifiers = this.notifiers;
+                    if (notifiers == null) {
+                        this.notifiers = notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+                    }
+                }
+            }
+            notifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        } else {
+            notifier = ArcContainerImpl.unwrap(Arc.container()).getNotifier(runtimeType, qualifiers);
+        }
+        return this.lastNotifier = notifier;
+    }
+
+    private static boolean isFinalType(Type type) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            return Modifier.isFinal(clazz.getModifiers()) && clazz.getTypeParameters().length == 0;
+        }
+        return false;
     }
 
     @Override
@@ -184,33 +225,58 @@ class EventImpl<T> implements Event<T> {
     }
 
     private void handleExceptions(ObserverExceptionHandler handler) {
-        List<Throwable> handledExceptions = handler.getHandledExceptions();
-        if (!handledExceptions.isEmpty()) {
-            CompletionException exception = null;
-            if (handledExceptions.size() == 1) {
-                exception = new CompletionException(handledExceptions.get(0));
-            } else {
-                exception = new CompletionException(null);
-                for (Throwable handledException : handledExceptions) {
-                    exception.addSuppressed(handledException);
-                }
-            }
+        CompletionException exception = toCompletionException(handler.getHandledExceptions());
+        if (exception != null) {
             throw exception;
         }
     }
 
+    static CompletionException toCompletionException(List<Throwable> handledExceptions) {
+        if (handledExceptions.isEmpty()) {
+            return null;
+        }
+        CompletionException exception = null;
+        if (handledExceptions.size() == 1) {
+            exception = new CompletionException(handledExceptions.get(0));
+        } else {
+            exception = new CompletionException(null);
+            for (Throwable handledException : handledExceptions) {
+                exception.addSuppressed(handledException);
+            }
+        }
+        return exception;
+    }
+
     static class Notifier<T> {
 
+        private static final Predicate<ObserverMethod<?>> NOT_TX_OBSERVER = Notifier::isNotTxObserver;
+        private static final Predicate<ObserverMethod<?>> NOT_AFTER_SUCCESS = Notifier::isNotAfterSuccess;
+
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // Observers are split upfront so that no filtering is needed when an event is fired
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
+        private volatile OrderedEventDelivery<T> orderedDelivery;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
-            this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
+            this.hasTxObservers = observerMethods.stream().anyMatch(Notifier::isTxObserver);
+            List<ObserverMethod<? super T>> syncObserverMethods = new ArrayList<>();
+            List<ObserverMethod<? super T>> asyncObserverMethods = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    asyncObserverMethods.add(observerMethod);
+                } else {
+                    syncObserverMethods.add(observerMethod);
+                }
+            }
+            this.syncObserverMethods = syncObserverMethods.isEmpty() ? Collections.emptyList() : syncObserverMethods;
+            this.asyncObserverMethods = asyncObserverMethods.isEmpty() ? Collections.emptyList() : asyncObserverMethods;
         }
 
         void notify(T event) {
@@ -219,9 +285,11 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            List<ObserverMethod<? super T>> observers = async ? asyncObserverMethods : syncObserverMethods;
+            if (!observers.isEmpty()) {
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync : this::isSyncObserver;
+                // A null predicate means that all the observers are notified
+                Predicate<ObserverMethod<?>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -247,11 +315,11 @@ class EventImpl<T> implements Event<T> {
                         try {
                             registry.registerInterposedSynchronization(sync);
                             // registration succeeded, notify all non-tx observers synchronously
-                            predicate = predicate.and(this::isNotTxObserver);
+                            predicate = NOT_TX_OBSERVER;
                         } catch (Exception e) {
                             if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                                 // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                predicate = predicate.and(this::isNotAfterSuccess);
+                                predicate = NOT_AFTER_SUCCESS;
                             }
                         }
                     }
@@ -260,11 +328,11 @@ class EventImpl<T> implements Event<T> {
                 // Sync notifications
                 ManagedContext requestContext = Arc.container().requestContext();
                 if (requestContext.isActive()) {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(event, exceptionHandler, observers, predicate);
                 } else {
                     try {
                         requestContext.activate();
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(event, exceptionHandler, observers, predicate);
                     } finally {
                         requestContext.terminate();
                     }
@@ -274,10 +342,10 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                List<ObserverMethod<? super T>> observers, Predicate<ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable e) {
@@ -287,26 +355,71 @@ class EventImpl<T> implements Event<T> {
             }
         }
 
+        /**
+         * Notifies the async observers of each event and then the async observers of the whole batch, if any. The request
+         * context is activated only once for the batch.
+         */
+        void notifyAsync(List<T> events, List<ObserverExceptionHandler> exceptionHandlers, Notifier<List<T>> batchNotifier,
+                ObserverExceptionHandler batchExceptionHandler) {
+            ManagedContext requestContext = Arc.container().requestContext();
+            boolean activate = !requestContext.isActive();
+            if (activate) {
+                requestContext.activate();
+            }
+            try {
+                if (!asyncObserverMethods.isEmpty()) {
+                    for (int i = 0; i < events.size(); i++) {
+                        notifyObservers(events.get(i), exceptionHandlers.get(i), asyncObserverMethods, null);
+                    }
+                }
+                if (!batchNotifier.isAsyncEmpty()) {
+                    batchNotifier.notifyObservers(Collections.unmodifiableList(events), batchExceptionHandler,
+                            batchNotifier.asyncObserverMethods, null);
+                }
+            } finally {
+                if (activate) {
+                    requestContext.terminate();
+                }
+            }
+        }
+
+        OrderedEventDelivery<T> getOrderedDelivery() {
+            OrderedEventDelivery<T> delivery = this.orderedDelivery;
+            if (delivery == null) {
+                synchronized (this) {
+                    delivery = this.orderedDelivery;
+                    if (delivery == null) {
+                        // Observers of List<T> are notified once per drained batch
+                        Type batchType = new ParameterizedTypeImpl(List.class, eventMetadata.getType());
+                        Notifier<List<T>> batchNotifier = createNotifier(List.class, batchType,
+                                eventMetadata.getQualifiers(), ArcContainerImpl.unwrap(Arc.container()));
+                        this.orderedDelivery = delivery = new OrderedEventDelivery<>(this, batchNotifier);
+                    }
+                }
+            }
+            return delivery;
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
-        private boolean isTxObserver(ObserverMethod<?> observer) {
+        boolean isAsyncEmpty() {
+            return asyncObserverMethods.isEmpty();
+        }
+
+        private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
 
-        private boolean isNotAfterSuccess(ObserverMethod<?> observer) {
+        private static boolean isNotAfterSuccess(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS);
         }
 
-        private boolean isNotTxObserver(ObserverMethod<?> observer) {
+        private static boolean isNotTxObserver(ObserverMethod<?> observer) {
             return !isTxObserver(observer);
         }
 
-        private boolean isSyncObserver(ObserverMethod<?> observer) {
-            return !observer.isAsync();
-        }
-
     }
 
     static class EventContextImpl<T> implements EventContext<T> {
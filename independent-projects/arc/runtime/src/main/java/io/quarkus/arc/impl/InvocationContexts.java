@@ -32,6 +32,21 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     * 
+     * @param target
+     * @param args
+     * @param metadata
+     * @return the return value
+     * @throws Exception
+     * @see InterceptedMethodMetadata#aroundInvokeForward
+     */
+    public static Object performAroundInvoke(Object target, Object[] args, InterceptedMethodMetadata metadata)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(target, metadata.method, metadata.aroundInvokeForward, args,
+                metadata.chain, metadata.bindings);
+    }
+
     /**
      *
      * @param target
@@ -0,0 +1,241 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.AsyncDeliveryOptions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Delivers the asynchronous events of a single {@link EventImpl.Notifier} through queues, one per ordering key.
+ * <p>
+ * A queue is drained by a single executor task at a time so that the events with the same ordering key are delivered in
+ * the order in which they were fired. A queue that becomes empty is discarded. The events fired without an ordering key
+ * are not ordered and are spread over {@link #UNKEYED_LANES} queues so that they can be delivered concurrently.
+ * <p>
+ * The capacity applies to the pending events of all the queues, so that neither the pending events nor the executor tasks
+ * grow with the number of ordering keys.
+ *
+ * @param <T>
+ * @see AsyncDeliveryOptions
+ */
+class OrderedEventDelivery<T> {
+
+    static final int UNKEYED_LANES = 16;
+
+    // The keys of the lanes of the events fired without an ordering key
+    private static final Object[] NO_KEYS = new Object[UNKEYED_LANES];
+
+    static {
+        for (int i = 0; i < NO_KEYS.length; i++) {
+            NO_KEYS[i] = new Object();
+        }
+    }
+
+    static boolean isOrdered(NotificationOptions options) {
+        return options.get(AsyncDeliveryOptions.ORDERING_KEY) != null
+                || options.get(AsyncDeliveryOptions.QUEUE_CAPACITY) != null
+                || options.get(AsyncDeliveryOptions.BATCH_SIZE) != null;
+    }
+
+    private final EventImpl.Notifier<T> notifier;
+    // Notifies the async observers of List<T>
+    private final EventImpl.Notifier<List<T>> batchNotifier;
+    private final ConcurrentMap<Object, Lane> lanes;
+    // Used to select the lane of an event fired without an ordering key
+    private final AtomicInteger unkeyed;
+    // The number of events queued or being delivered in all the lanes
+    private final AtomicInteger pending;
+
+    OrderedEventDelivery(EventImpl.Notifier<T> notifier, EventImpl.Notifier<List<T>> batchNotifier) {
+        this.notifier = notifier;
+        this.batchNotifier = batchNotifier;
+        this.lanes = new ConcurrentHashMap<>();
+        this.unkeyed = new AtomicInteger();
+        this.pending = new AtomicInteger();
+    }
+
+    boolean isEmpty() {
+        return notifier.isAsyncEmpty() && batchNotifier.isAsyncEmpty();
+    }
+
+    <U extends T> CompletionStage<U> deliver(U event, NotificationOptions options, Executor executor) {
+        CompletableFuture<U> future = new CompletableFuture<>();
+        int capacity = getIntOption(options, AsyncDeliveryOptions.QUEUE_CAPACITY,
+                AsyncDeliveryOptions.DEFAULT_QUEUE_CAPACITY);
+        int count;
+        do {
+            count = pending.get();
+            if (count >= capacity) {
+                future.completeExceptionally(new RejectedExecutionException(
+                        "Unable to deliver the event - the queue capacity of " + capacity + " is exceeded: " + event));
+                return future;
+            }
+        } while (!pending.compareAndSet(count, count + 1));
+        Object key = options.get(AsyncDeliveryOptions.ORDERING_KEY);
+        if (key == null) {
+            key = NO_KEYS[(unkeyed.getAndIncrement() & Integer.MAX_VALUE) % UNKEYED_LANES];
+        }
+        int batchSize = Math.max(1, getIntOption(options, AsyncDeliveryOptions.BATCH_SIZE,
+                AsyncDeliveryOptions.DEFAULT_BATCH_SIZE));
+        @SuppressWarnings("unchecked")
+        PendingEvent<T> pendingEvent = new PendingEvent<>(event, (CompletableFuture<T>) future, batchSize, executor);
+        while (!lanes.computeIfAbsent(key, Lane::new).offer(pendingEvent)) {
+            // The lane was discarded meanwhile
+        }
+        return future;
+    }
+
+    private static int getIntOption(NotificationOptions options, String name, int defaultValue) {
+        Object value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return Integer.parseInt(value.toString());
+    }
+
+    class Lane implements Runnable {
+
+        private final Object key;
+        // Guarded by this
+        private final ArrayDeque<PendingEvent<T>> queue;
+        private boolean scheduled;
+        private boolean closed;
+
+        Lane(Object key) {
+            this.key = key;
+            this.queue = new ArrayDeque<>();
+        }
+
+        /**
+         *
+         * @param pendingEvent
+         * @return {@code false} if the lane was already discarded
+         */
+        boolean offer(PendingEvent<T> pendingEvent) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                queue.add(pendingEvent);
+                if (scheduled) {
+                    return true;
+                }
+                scheduled = true;
+            }
+            schedule(pendingEvent.executor);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            List<PendingEvent<T>> batch;
+            synchronized (this) {
+                int batchSize = queue.peek().batchSize;
+                batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+                while (batch.size() < batchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+            }
+            try {
+                deliver(batch);
+            } catch (Throwable e) {
+                // The events of the batch that were not completed yet would never be completed otherwise
+                for (PendingEvent<T> pendingEvent : batch) {
+                    pendingEvent.future.completeExceptionally(e);
+                }
+            } finally {
+                Executor next = null;
+                synchronized (this) {
+                    if (queue.isEmpty()) {
+                        scheduled = false;
+                        closed = true;
+                        lanes.remove(key, this);
+                    } else {
+                        next = queue.peek().executor;
+                    }
+                }
+                if (next != null) {
+                    schedule(next);
+                }
+            }
+        }
+
+        private void schedule(Executor executor) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // The executor is shut down - fail all the pending events
+                List<PendingEvent<T>> rejected;
+                synchronized (this) {
+                    rejected = new ArrayList<>(queue);
+                    queue.clear();
+                    scheduled = false;
+                    closed = true;
+                    lanes.remove(key, this);
+                }
+                pending.addAndGet(-rejected.size());
+                for (PendingEvent<T> pendingEvent : rejected) {
+                    pendingEvent.future.completeExceptionally(e);
+                }
+            }
+        }
+
+    }
+
+    private void deliver(List<PendingEvent<T>> batch) {
+        List<T> events = new ArrayList<>(batch.size());
+        List<EventImpl.ObserverExceptionHandler> handlers = new ArrayList<>(batch.size());
+        for (PendingEvent<T> pendingEvent : batch) {
+            events.add(pendingEvent.event);
+            handlers.add(new EventImpl.CollectingExceptionHandler());
+        }
+        EventImpl.ObserverExceptionHandler batchHandler = new EventImpl.CollectingExceptionHandler();
+        try {
+            notifier.notifyAsync(events, handlers, batchNotifier, batchHandler);
+        } finally {
+            // Release the capacity before the futures are completed so that the dependent actions can fire again
+            pending.addAndGet(-batch.size());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingEvent<T> pendingEvent = batch.get(i);
+            List<Throwable> failures = new ArrayList<>(handlers.get(i).getHandledExceptions());
+            failures.addAll(batchHandler.getHandledExceptions());
+            CompletionException exception = EventImpl.toCompletionException(failures);
+            if (exception != null) {
+                pendingEvent.future.completeExceptionally(exception);
+            } else {
+                pendingEvent.future.complete(pendingEvent.event);
+            }
+        }
+    }
+
+    static final class PendingEvent<T> {
+
+        final T event;
+        final CompletableFuture<T> future;
+        final int batchSize;
+        final Executor executor;
+
+        PendingEvent(T event, CompletableFuture<T> future, int batchSize, Executor executor) {
+            this.event = event;
+            this.future = future;
+            this.batchSize = batchSize;
+            this.executor = executor;
+        }
+
+    }
+
+}
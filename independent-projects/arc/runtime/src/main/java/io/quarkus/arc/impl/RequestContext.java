@@ -6,13 +6,18 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -33,13 +38,32 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // Slot indexes of the request scoped beans known when the container is initialized - this map is never modified
+    private final Map<Contextual<?>, Integer> slots;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
     public RequestContext() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     *
+     * @param beans the beans known when the container is initialized; each request scoped bean is assigned a slot in the
+     *        context state
+     */
+    public RequestContext(Collection<InjectableBean<?>> beans) {
+        Map<Contextual<?>, Integer> slots = new IdentityHashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            if (RequestScoped.class.equals(bean.getScope())) {
+                slots.put(bean, slots.size());
+            }
+        }
+        this.slots = slots;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,18 +79,19 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        Integer slot = slots.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.getInstance(slot, contextual);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ctx.putInstance(slot, contextual, instance);
         }
         return instance.get();
     }
@@ -86,12 +111,12 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.getInstance(slots.get(contextual), contextual);
         return instance == null ? null : instance.get();
     }
 
@@ -102,12 +127,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctx.removeInstance(slots.get(contextual), contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -116,12 +141,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(slots.size()));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid initial state: " + initialState.getClass().getName());
             }
@@ -130,12 +155,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -151,13 +176,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -166,20 +191,18 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
-                currentContext.forEach(this::destroyContextElement);
+                currentContext.destroyInstances();
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                currentContext.clear();
             }
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private static void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -212,18 +235,85 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
-    static class RequestContextState implements ContextState {
+    /**
+     * The state extends {@link AtomicReferenceArray} so that a single object (plus its backing array) is allocated per
+     * request. The instances of the request scoped beans known at build time are stored at their slot index, other contextuals
+     * (e.g. custom beans registered at runtime) are stored in a map created lazily.
+     */
+    static class RequestContextState extends AtomicReferenceArray<ContextInstanceHandle<?>> implements ContextState {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, ConcurrentMap> OTHERS_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, ConcurrentMap.class, "others");
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        RequestContextState(int size) {
+            super(size);
+        }
+
+        ContextInstanceHandle<?> getInstance(Integer slot, Contextual<?> contextual) {
+            if (slot != null) {
+                return get(slot);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.get(contextual);
+        }
+
+        void putInstance(Integer slot, Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            if (slot != null) {
+                set(slot, instance);
+            } else {
+                ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+                if (others == null) {
+                    OTHERS_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+                    others = this.others;
+                }
+                others.put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> removeInstance(Integer slot, Contextual<?> contextual) {
+            if (slot != null) {
+                return getAndSet(slot, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others == null ? null : others.remove(contextual);
+        }
+
+        void destroyInstances() {
+            for (int i = 0; i < length(); i++) {
+                ContextInstanceHandle<?> instance = getAndSet(i, null);
+                if (instance != null) {
+                    destroyContextElement(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                //Performance: avoid an iterator on the map elements
+                others.forEach((contextual, instance) -> destroyContextElement(instance));
+                others.clear();
+            }
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            for (int i = 0; i < length(); i++) {
+                ContextInstanceHandle<?> instance = get(i);
+                if (instance != null) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (ContextInstanceHandle<?> instance : others.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return instances;
         }
 
     }
@@ -0,0 +1,165 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests the storage of the request scoped instances: the beans known when the container is initialized are stored in slots
+ * and other contextuals are stored in a map created lazily.
+ */
+public class RequestContextStateTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Controller.class);
+
+    @Test
+    public void testSlotAndFallbackStorage() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        OtherBean otherBean = new OtherBean();
+        InjectableBean<Controller> controllerBean = Arc.container().instance(Controller.class).getBean();
+
+        requestContext.activate();
+        try {
+            // Slot lookup
+            assertNull(requestContext.get(controllerBean));
+            Controller controller = Arc.container().instance(Controller.class).get();
+            String controllerId = controller.getId();
+            assertEquals(controllerId, Arc.container().instance(Controller.class).get().getId());
+            assertEquals(controllerId, requestContext.get(controllerBean).getId());
+
+            // Fallback map, only created for the first contextual without a slot
+            assertNull(requestContext.get(otherBean));
+            Other other = requestContext.get(otherBean, new CreationalContextImpl<>(otherBean));
+            assertSame(other, requestContext.get(otherBean, new CreationalContextImpl<>(otherBean)));
+            assertSame(other, requestContext.get(otherBean));
+            assertEquals(1, otherBean.created.get());
+
+            assertEquals(2, requestContext.getState().getContextualInstances().size());
+            assertSame(other, requestContext.getState().getContextualInstances().get(otherBean));
+
+            // Destroy a single contextual from each store
+            Controller.DESTROYED.set(false);
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertNotEquals(controllerId, Arc.container().instance(Controller.class).get().getId());
+
+            requestContext.destroy(otherBean);
+            assertEquals(1, otherBean.destroyed.get());
+            assertNull(requestContext.get(otherBean));
+            assertNotSame(other, requestContext.get(otherBean, new CreationalContextImpl<>(otherBean)));
+            assertEquals(2, otherBean.created.get());
+        } finally {
+            Controller.DESTROYED.set(false);
+            requestContext.terminate();
+        }
+        // Terminate with both stores populated
+        assertTrue(Controller.DESTROYED.get());
+        assertEquals(2, otherBean.destroyed.get());
+        assertFalse(requestContext.isActive());
+    }
+
+    @Test
+    public void testDeactivateAndReactivate() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        OtherBean otherBean = new OtherBean();
+
+        requestContext.activate();
+        String controllerId = Arc.container().instance(Controller.class).get().getId();
+        Other other = requestContext.get(otherBean, new CreationalContextImpl<>(otherBean));
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        assertFalse(requestContext.isActive());
+
+        // A new state does not see the instances of the previous one
+        requestContext.activate();
+        assertNotEquals(controllerId, Arc.container().instance(Controller.class).get().getId());
+        assertNull(requestContext.get(otherBean));
+        requestContext.terminate();
+
+        // The same state is reactivated with its instances
+        Controller.DESTROYED.set(false);
+        requestContext.activate(state);
+        try {
+            assertEquals(controllerId, Arc.container().instance(Controller.class).get().getId());
+            assertSame(other, requestContext.get(otherBean));
+            assertFalse(Controller.DESTROYED.get());
+            assertEquals(0, otherBean.destroyed.get());
+        } finally {
+            requestContext.deactivate();
+        }
+
+        // Destroy the deactivated state with both stores populated
+        requestContext.destroy(state);
+        assertTrue(Controller.DESTROYED.get());
+        assertEquals(1, otherBean.destroyed.get());
+        assertTrue(state.getContextualInstances().isEmpty());
+    }
+
+    static class Other {
+    }
+
+    // A request scoped bean unknown when the container is initialized, it has no slot in the context state
+    static class OtherBean implements InjectableBean<Other> {
+
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public String getIdentifier() {
+            return "other-bean";
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(Other.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Other.class;
+        }
+
+        @Override
+        public Other create(CreationalContext<Other> creationalContext) {
+            created.incrementAndGet();
+            return new Other();
+        }
+
+        @Override
+        public Other get(CreationalContext<Other> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public void destroy(Other instance, CreationalContext<Other> creationalContext) {
+            destroyed.incrementAndGet();
+        }
+    }
+}
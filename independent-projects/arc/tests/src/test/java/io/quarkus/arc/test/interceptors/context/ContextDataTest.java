@@ -22,7 +22,10 @@ public class ContextDataTest {
 
     @Test
     public void testContextData() throws IOException {
-        assertEquals("alpha:bravo:ok:true", Arc.container().instance(SimpleBean.class).get().foo());
+        SimpleBean simpleBean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:bravo:ok:true", simpleBean.foo());
+        // Context data is not shared between invocations
+        assertEquals("alpha:bravo:ok:true", simpleBean.foo());
     }
 
     @Simple
@@ -54,8 +57,8 @@ public class ContextDataTest {
 
         @AroundInvoke
         Object around(InvocationContext ctx) throws Exception {
-            ctx.getContextData().put("bravo", true);
-            return "bravo:" + ctx.proceed();
+            Object previous = ctx.getContextData().put("bravo", true);
+            return (previous != null ? "reused:" : "bravo:") + ctx.proceed();
         }
     }
 
@@ -0,0 +1,122 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class FinalEventTypeTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, PingObserver.class, MyQualifier.class);
+
+    @Test
+    public void testFinalEventType() throws Exception {
+        // Notifiers are shared by all the producer instances
+        Producer producer1 = Arc.container().instance(Producer.class).get();
+        Producer producer2 = Arc.container().instance(Producer.class).get();
+        PingObserver observer = Arc.container().instance(PingObserver.class).get();
+
+        producer1.fire(new Ping("foo"));
+        producer2.fire(new Ping("bar"));
+        assertEquals(2, observer.getSyncEvents().size());
+        assertEquals(0, observer.getQualifiedEvents().size());
+
+        producer1.fireQualified(new Ping("baz"));
+        assertEquals(3, observer.getSyncEvents().size());
+        assertEquals(1, observer.getQualifiedEvents().size());
+
+        producer2.fireAsync(new Ping("qux")).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertEquals(3, observer.getSyncEvents().size());
+        assertEquals(1, observer.getAsyncEvents().size());
+    }
+
+    static final class Ping {
+
+        final String value;
+
+        Ping(String value) {
+            this.value = value;
+        }
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        private List<String> syncEvents;
+        private List<String> qualifiedEvents;
+        private List<String> asyncEvents;
+
+        @PostConstruct
+        void init() {
+            syncEvents = new CopyOnWriteArrayList<>();
+            qualifiedEvents = new CopyOnWriteArrayList<>();
+            asyncEvents = new CopyOnWriteArrayList<>();
+        }
+
+        void observe(@Observes Ping ping) {
+            syncEvents.add(ping.value);
+        }
+
+        void observeQualified(@Observes @MyQualifier Ping ping) {
+            qualifiedEvents.add(ping.value);
+        }
+
+        void observeAsync(@ObservesAsync Ping ping) {
+            asyncEvents.add(ping.value);
+        }
+
+        List<String> getSyncEvents() {
+            return syncEvents;
+        }
+
+        List<String> getQualifiedEvents() {
+            return qualifiedEvents;
+        }
+
+        List<String> getAsyncEvents() {
+            return asyncEvents;
+        }
+
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+        @MyQualifier
+        @Inject
+        Event<Ping> qualifiedEvent;
+
+        void fire(Ping ping) {
+            event.fire(ping);
+        }
+
+        void fireQualified(Ping ping) {
+            qualifiedEvent.fire(ping);
+        }
+
+        CompletionStage<Ping> fireAsync(Ping ping) {
+            return event.fireAsync(ping);
+        }
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncDeliveryOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class OrderedAsyncDeliveryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, UpdateObserver.class);
+
+    @Test
+    public void testOrderingAndBatches() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        UpdateObserver observer = Arc.container().instance(UpdateObserver.class).get();
+
+        List<CompletionStage<Update>> stages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String key = i % 2 == 0 ? "even" : "odd";
+            stages.add(producer.fire(new Update(key, i), AsyncDeliveryOptions.ordered(key)
+                    .set(AsyncDeliveryOptions.BATCH_SIZE, 16).build()));
+        }
+        for (CompletionStage<Update> stage : stages) {
+            stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+
+        // Events with the same key are delivered in the order in which they were fired
+        assertOrdered(observer.getUpdates(), "even");
+        assertOrdered(observer.getUpdates(), "odd");
+        assertEquals(200, observer.getUpdates().size());
+
+        // List observers receive all the events in batches
+        int batched = 0;
+        for (List<Update> batch : observer.getBatches()) {
+            assertTrue(batch.size() <= 16);
+            batched += batch.size();
+        }
+        assertEquals(200, batched);
+    }
+
+    @Test
+    public void testQueueCapacity() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        UpdateObserver observer = Arc.container().instance(UpdateObserver.class).get();
+        NotificationOptions options = AsyncDeliveryOptions.ordered("foo").set(AsyncDeliveryOptions.QUEUE_CAPACITY, 1)
+                .build();
+
+        CompletableFuture<Update> blocked = producer.fire(new Update("blocking", 0), options).toCompletableFuture();
+        assertTrue(observer.awaitBlocked());
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> producer.fire(new Update("foo", 1), options).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+
+        // The capacity is shared with the events of another ordering key
+        rejected = assertThrows(ExecutionException.class,
+                () -> producer.fire(new Update("bar", 2),
+                        AsyncDeliveryOptions.ordered("bar").set(AsyncDeliveryOptions.QUEUE_CAPACITY, 1).build())
+                        .toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(rejected.getCause() instanceof RejectedExecutionException);
+
+        observer.unblock();
+        blocked.get(10, TimeUnit.SECONDS);
+        producer.fire(new Update("foo", 3), options).toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testQueueCapacityWithManyKeys() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        UpdateObserver observer = Arc.container().instance(UpdateObserver.class).get();
+
+        // Every event has its own ordering key and stays pending until the observer is unblocked
+        List<CompletableFuture<Update>> accepted = new ArrayList<>();
+        int rejected = 0;
+        for (int i = 0; i < 100; i++) {
+            CompletableFuture<Update> future = producer.fire(new Update("blocking", i),
+                    AsyncDeliveryOptions.ordered(i).set(AsyncDeliveryOptions.QUEUE_CAPACITY, 8).build())
+                    .toCompletableFuture();
+            if (future.isCompletedExceptionally()) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get());
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+                rejected++;
+            } else {
+                accepted.add(future);
+            }
+        }
+        assertEquals(8, accepted.size());
+        assertEquals(92, rejected);
+
+        observer.unblock();
+        for (CompletableFuture<Update> future : accepted) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        producer.fire(new Update("foo", 100), AsyncDeliveryOptions.ordered(100).set(AsyncDeliveryOptions.QUEUE_CAPACITY, 8)
+                .build()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUnkeyedEventsAreSpread() throws Exception {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        UpdateObserver observer = Arc.container().instance(UpdateObserver.class).get();
+        NotificationOptions options = AsyncDeliveryOptions.ordered().set(AsyncDeliveryOptions.QUEUE_CAPACITY, 2).build();
+
+        CompletableFuture<Update> blocked = producer.fire(new Update("blocking", 0), options).toCompletableFuture();
+        assertTrue(observer.awaitBlocked());
+        // The next unkeyed event is put in another queue
+        CompletableFuture<Update> foo = producer.fire(new Update("foo", 1), options).toCompletableFuture();
+        assertFalse(foo.isCompletedExceptionally());
+
+        observer.unblock();
+        blocked.get(10, TimeUnit.SECONDS);
+        foo.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void assertOrdered(List<Update> updates, String key) {
+        int last = -1;
+        for (Update update : updates) {
+            if (update.key.equals(key)) {
+                assertTrue(update.sequence > last, "Unexpected order: " + update.sequence + " after " + last);
+                last = update.sequence;
+            }
+        }
+    }
+
+    static final class Update {
+
+        final String key;
+        final int sequence;
+
+        Update(String key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+    }
+
+    @Singleton
+    static class UpdateObserver {
+
+        private List<Update> updates;
+        private List<List<Update>> batches;
+        private CountDownLatch blocked;
+        private CountDownLatch unblocked;
+
+        @PostConstruct
+        void init() {
+            updates = new CopyOnWriteArrayList<>();
+            batches = new CopyOnWriteArrayList<>();
+            blocked = new CountDownLatch(1);
+            unblocked = new CountDownLatch(1);
+        }
+
+        void observe(@ObservesAsync Update update) throws InterruptedException {
+            if (update.key.equals("blocking")) {
+                blocked.countDown();
+                unblocked.await(10, TimeUnit.SECONDS);
+            } else {
+                updates.add(update);
+            }
+        }
+
+        void observeBatch(@ObservesAsync List<Update> batch) {
+            batches.add(new ArrayList<>(batch));
+        }
+
+        List<Update> getUpdates() {
+            return updates;
+        }
+
+        List<List<Update>> getBatches() {
+            return batches;
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(10, TimeUnit.SECONDS);
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<Update> event;
+
+        CompletionStage<Update> fire(Update update, NotificationOptions options) {
+            return event.fireAsync(update, options);
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,15 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of a class file, or {@code null} if the class file doesn't exist.
+     * The default implementation wraps the result of {@link #getResourceData(String)}.
+     */
+    default ByteBuffer getClassData(String resource) {
+        byte[] data = getResourceData(resource);
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -0,0 +1,101 @@
+package io.quarkus.bootstrap.runner;
+
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.security.ProtectionDomain;
+import java.util.Map;
+
+/**
+ * A jar resource whose classes were copied uncompressed into the class data file at build time.
+ *
+ * The class data file is memory mapped once when the application starts, so classes are defined directly from the
+ * mapped memory without opening and inflating the jar. All other resources are still read from the jar.
+ */
+public class MappedJarResource implements ClassLoadingResource {
+
+    private final JarResource jarResource;
+    private final ByteBuffer classData;
+    private final Map<String, Integer> classIndexes;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    /**
+     * @param jarResource the jar the classes were copied from
+     * @param classData the mapped class data file
+     * @param classIndexes the index of every class of the jar in {@code offsets} and {@code lengths}
+     * @param offsets the position of the classes in {@code classData}
+     * @param lengths the length of the classes
+     */
+    public MappedJarResource(JarResource jarResource, ByteBuffer classData, Map<String, Integer> classIndexes,
+            int[] offsets, int[] lengths) {
+        this.jarResource = jarResource;
+        this.classData = classData;
+        this.classIndexes = classIndexes;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    @Override
+    public void init(ClassLoader runnerClassLoader) {
+        jarResource.init(runnerClassLoader);
+    }
+
+    @Override
+    public ByteBuffer getClassData(String resource) {
+        Integer index = classIndexes.get(resource);
+        if (index == null) {
+            // every class of the jar is in the index
+            return null;
+        }
+        ByteBuffer data = classData.duplicate();
+        //the casts are needed to run on Java 8, where the Buffer methods are not overridden by ByteBuffer
+        ((Buffer) data).position(offsets[index]);
+        ((Buffer) data).limit(offsets[index] + lengths[index]);
+        return data;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        ByteBuffer data = getClassData(resource);
+        if (data == null) {
+            return jarResource.getResourceData(resource);
+        }
+        byte[] result = new byte[data.remaining()];
+        data.get(result);
+        return result;
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        return jarResource.getResourceURL(resource);
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return jarResource.getManifestInfo();
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return jarResource.getProtectionDomain();
+    }
+
+    @Override
+    public void close() {
+        //the mapping itself is released once the buffer is garbage collected
+        jarResource.close();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        jarResource.resetInternalCaches();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarResource +
+                '}';
+    }
+}
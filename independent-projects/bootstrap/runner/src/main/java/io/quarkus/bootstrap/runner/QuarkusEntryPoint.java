@@ -12,11 +12,13 @@ import java.net.URLClassLoader;
 import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_APPLICATION_CLASSES = "quarkus/quarkus-application.classes";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
     public static void main(String... args) throws Throwable {
@@ -42,6 +44,12 @@ public class QuarkusEntryPoint {
                     24_576)) {
                 app = SerializedApplication.read(in, appRoot);
             }
+            String recordBootClasses = System.getProperty(RunnerClassLoader.RECORD_BOOT_CLASSES_PROPERTY);
+            if (recordBootClasses != null) {
+                app.getRunnerClassLoader().recordBootClasses(Paths.get(recordBootClasses));
+            } else {
+                app.getRunnerClassLoader().preloadBootClasses();
+            }
             try {
                 Thread.currentThread().setContextClassLoader(app.getRunnerClassLoader());
                 Class<?> mainClass = app.getRunnerClassLoader().loadClass(app.getMainClass());
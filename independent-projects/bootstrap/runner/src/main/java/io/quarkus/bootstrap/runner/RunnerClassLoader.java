@@ -1,12 +1,21 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Classloader used with the fast-jar package type.
@@ -23,6 +32,14 @@ import java.util.Set;
  */
 public final class RunnerClassLoader extends ClassLoader {
 
+    /**
+     * If this system property is set, the names of the classes loaded during the static initialization of the
+     * application are written to the file it points to, and the application exits before it is started.
+     */
+    public static final String RECORD_BOOT_CLASSES_PROPERTY = "quarkus.class-loading-profile.record";
+
+    private static final int MAX_PRELOAD_THREADS = 4;
+
     /**
      * A map of resources by dir name. Root dir/default package is represented by the empty string
      */
@@ -34,6 +51,15 @@ public final class RunnerClassLoader extends ClassLoader {
     // in order for the resource loading to work properly
     private final Set<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // the classes that were loaded while the application booted during the training run, in loading order
+    private final String[] bootClasses;
+
+    //Only set while the boot classes are recorded
+    private volatile Queue<String> recordedBootClasses;
+    private volatile Path recordedBootClassesFile;
+    // the number of classes defined by this class loader, reported in the startup report
+    private final LongAdder definedClassCount = new LongAdder();
+    private final LongAdder preloadedClassCount = new LongAdder();
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
@@ -46,13 +72,15 @@ public final class RunnerClassLoader extends ClassLoader {
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
-            Set<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+            Set<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            String[] bootClasses) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.bootClasses = bootClasses;
     }
 
     @Override
@@ -92,12 +120,18 @@ public final class RunnerClassLoader extends ClassLoader {
                 String classResource = name.replace('.', '/') + ".class";
                 for (ClassLoadingResource resource : resources) {
                     accessingResource(resource);
-                    byte[] data = resource.getResourceData(classResource);
+                    ByteBuffer data = resource.getClassData(classResource);
                     if (data == null) {
                         continue;
                     }
                     definePackage(packageName, resources);
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> result = defineClass(name, data, resource.getProtectionDomain());
+                    definedClassCount.increment();
+                    Queue<String> recorded = recordedBootClasses;
+                    if (recorded != null) {
+                        recorded.add(name);
+                    }
+                    return result;
                 }
             }
         }
@@ -266,6 +300,88 @@ public final class RunnerClassLoader extends ClassLoader {
         }
     }
 
+    /**
+     * Starts loading the classes recorded during the training run on a few background threads, so that most of them
+     * have already been loaded when the application needs them. Classes are loaded but not initialized.
+     */
+    void preloadBootClasses() {
+        if (bootClasses.length == 0) {
+            return;
+        }
+        //the main thread keeps loading classes itself, so there is nothing to gain on a single CPU
+        int threads = Math.min(MAX_PRELOAD_THREADS, Runtime.getRuntime().availableProcessors() - 1);
+        for (int i = 0; i < threads; i++) {
+            final int first = i;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    //each thread takes every n-th class, so the classes needed first are loaded first
+                    for (int j = first; j < bootClasses.length; j += threads) {
+                        try {
+                            loadClass(bootClasses[j]);
+                            preloadedClassCount.increment();
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            //ignore, the application will get the same error when it actually loads the class
+                        }
+                    }
+                }
+            }, "quarkus-class-preloader-" + i);
+            thread.setDaemon(true);
+            thread.setContextClassLoader(this);
+            thread.start();
+        }
+    }
+
+    /**
+     * Records the classes loaded from now on until {@link #writeRecordedBootClasses()} is invoked, which the generated
+     * main class does once the static initialization of the application is done.
+     */
+    void recordBootClasses(Path file) {
+        this.recordedBootClassesFile = file;
+        this.recordedBootClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * @return the number of classes this class loader has defined so far
+     */
+    public long getDefinedClassCount() {
+        return definedClassCount.sum();
+    }
+
+    /**
+     * @return the number of classes that were recorded during the training run
+     */
+    public int getBootClassCount() {
+        return bootClasses.length;
+    }
+
+    /**
+     * @return the number of recorded classes the preloading threads have successfully loaded so far
+     */
+    public long getPreloadedClassCount() {
+        return preloadedClassCount.sum();
+    }
+
+    public boolean isRecordingBootClasses() {
+        return recordedBootClasses != null;
+    }
+
+    /**
+     * Writes the classes recorded so far to the file passed to {@link #recordBootClasses(Path)} and stops recording.
+     */
+    public void writeRecordedBootClasses() {
+        Queue<String> recorded = recordedBootClasses;
+        if (recorded == null) {
+            return;
+        }
+        recordedBootClasses = null;
+        try {
+            Files.write(recordedBootClassesFile, recorded, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the boot classes to " + recordedBootClassesFile, e);
+        }
+    }
+
     public void close() {
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
@@ -1,14 +1,19 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,7 +43,7 @@ public class SerializedApplication {
     private static final Set<String> FULLY_INDEXED_PATHS = new LinkedHashSet<>(Arrays.asList("", "META-INF/services"));
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -56,13 +61,22 @@ public class SerializedApplication {
         return mainClass;
     }
 
+    /**
+     * Writes the serialized application.
+     *
+     * If {@code classDataFile} is not {@code null}, the classes of all the jars of the class path are also copied
+     * uncompressed to this file, and their position in the file is recorded so that the classes can be defined directly
+     * from the memory mapped file at runtime.
+     */
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
-            List<Path> parentFirst, List<String> nonExistentResources)
+            List<Path> parentFirst, List<String> nonExistentResources, Path classDataFile)
             throws IOException {
-        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+        try (DataOutputStream data = new DataOutputStream(outputStream);
+                ClassDataWriter classData = classDataFile == null ? null : new ClassDataWriter(classDataFile)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(classData != null);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -70,6 +84,9 @@ public class SerializedApplication {
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
                 Collection<String> resources = writeJar(data, jar);
+                if (classData != null) {
+                    classData.writeJar(data, jar);
+                }
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -95,10 +112,37 @@ public class SerializedApplication {
                     data.writeShort(index);
                 }
             }
+            // the boot classes are only known after a training run, see writeBootClasses - a re-augmented mutable-jar therefore
+            // starts without boot classes, they are only recorded again if the class loading profile is still enabled
+            data.writeInt(0);
             data.flush();
         }
     }
 
+    /**
+     * Adds the classes recorded during a training run to a serialized application written by
+     * {@link #write(OutputStream, String, Path, List, List, List, Path)}.
+     * <p>
+     * The serialized application is written again from scratch when a mutable-jar is re-augmented, so the classes have
+     * to be added again after the re-augmentation.
+     */
+    public static void writeBootClasses(Path serializedApplication, List<String> bootClasses) throws IOException {
+        byte[] existing = Files.readAllBytes(serializedApplication);
+        // the boot classes are the last section of the file, which ends with their count
+        int length = existing.length - 4;
+        if (length < 0 || (existing[length] | existing[length + 1] | existing[length + 2] | existing[length + 3]) != 0) {
+            throw new IllegalStateException("Boot classes have already been written to " + serializedApplication);
+        }
+        try (DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(serializedApplication)))) {
+            data.write(existing, 0, length);
+            data.writeInt(bootClasses.size());
+            for (String bootClass : bootClasses) {
+                data.writeUTF(bootClass);
+            }
+        }
+    }
+
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
         try (DataInputStream in = new DataInputStream(inputStream)) {
             if (in.readInt() != MAGIC) {
@@ -108,6 +152,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            ByteBuffer classData = in.readBoolean() ? mapClassData(appRoot) : null;
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -120,11 +165,18 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
-                allClassLoadingResources[pathCount] = resource;
+                JarResource jarResource = new JarResource(info, appRoot.resolve(path));
                 int numDirs = in.readUnsignedShort();
+                String[] dirs = new String[numDirs];
                 for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
+                    dirs[i] = in.readUTF();
+                }
+                ClassLoadingResource resource = jarResource;
+                if (classData != null) {
+                    resource = readClassData(in, jarResource, classData);
+                }
+                allClassLoadingResources[pathCount] = resource;
+                for (String dir : dirs) {
                     ClassLoadingResource[] existing = resourceDirectoryMap.get(dir);
                     if (existing == null) {
                         resourceDirectoryMap.put(dir, new ClassLoadingResource[] { resource });
@@ -158,9 +210,13 @@ public class SerializedApplication {
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            String[] bootClasses = new String[in.readInt()];
+            for (int i = 0; i < bootClasses.length; i++) {
+                bootClasses[i] = in.readUTF();
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryMap, parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap, bootClasses);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
@@ -168,6 +224,31 @@ public class SerializedApplication {
         }
     }
 
+    private static ByteBuffer mapClassData(Path appRoot) throws IOException {
+        try (FileChannel channel = FileChannel.open(appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES),
+                StandardOpenOption.READ)) {
+            //the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ClassLoadingResource readClassData(DataInputStream in, JarResource jarResource, ByteBuffer classData)
+            throws IOException {
+        int numClasses = in.readInt();
+        if (numClasses == 0) {
+            return jarResource;
+        }
+        Map<String, Integer> classIndexes = new HashMap<>((int) (numClasses / 0.75f) + 1);
+        int[] offsets = new int[numClasses];
+        int[] lengths = new int[numClasses];
+        for (int i = 0; i < numClasses; i++) {
+            classIndexes.put(in.readUTF(), i);
+            offsets[i] = in.readInt();
+            lengths[i] = in.readInt();
+        }
+        return new MappedJarResource(jarResource, classData, classIndexes, offsets, lengths);
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
@@ -311,4 +392,65 @@ public class SerializedApplication {
         }
     }
 
+    /**
+     * Copies the classes of the jars of the class path to the class data file.
+     */
+    private static final class ClassDataWriter implements Closeable {
+
+        private final OutputStream out;
+        private long position;
+
+        ClassDataWriter(Path classDataFile) throws IOException {
+            this.out = new BufferedOutputStream(Files.newOutputStream(classDataFile));
+        }
+
+        /**
+         * Copies the classes of the given jar and writes their position in the class data file to the index.
+         * Classes of multi release jars are not copied as the version to load is only known at runtime.
+         */
+        void writeJar(DataOutputStream index, Path jar) throws IOException {
+            try (JarFile zip = new JarFile(jar.toFile())) {
+                Manifest manifest = zip.getManifest();
+                if (manifest != null && "true".equalsIgnoreCase(manifest.getMainAttributes().getValue("Multi-Release"))) {
+                    index.writeInt(0);
+                    return;
+                }
+                Set<String> names = new HashSet<>();
+                List<ZipEntry> classes = new ArrayList<>();
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (!entry.isDirectory() && name.endsWith(".class") && !name.startsWith("META-INF/")
+                            && names.add(name)) {
+                        classes.add(entry);
+                    }
+                }
+                index.writeInt(classes.size());
+                byte[] buffer = new byte[8192];
+                for (ZipEntry entry : classes) {
+                    long start = position;
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            out.write(buffer, 0, read);
+                            position += read;
+                        }
+                    }
+                    if (position > Integer.MAX_VALUE) {
+                        throw new IOException("The classes of the application exceed the maximum size of "
+                                + QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES);
+                    }
+                    index.writeUTF(entry.getName());
+                    index.writeInt((int) start);
+                    index.writeInt((int) (position - start));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package io.quarkus.qute;
+
+/**
+ * A byte-oriented consumer of a rendered template. The output is always encoded in UTF-8.
+ * <p>
+ * The static text of a template is encoded when the template is parsed. Therefore, the consumer must not modify the
+ * passed array. If needed the consumer should copy the relevant part of the array.
+ * 
+ * @see TemplateInstance#consumeBytes(BytesConsumer)
+ * @see ResultNode#processBytes(BytesConsumer)
+ */
+@FunctionalInterface
+public interface BytesConsumer {
+
+    /**
+     * 
+     * @param bytes
+     * @param offset
+     * @param length
+     */
+    void accept(byte[] bytes, int offset, int length);
+
+}
@@ -0,0 +1,44 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.Results.Result;
+
+/**
+ * Evaluates all parts of an expression but the first one directly, i.e. without the value resolvers. Implementations are
+ * usually generated at build time for type-safe expressions whose parts are all bound to Java members.
+ * <p>
+ * A compiled expression is attached to the matching expression of a template when the template is parsed. The first part
+ * of the expression is always resolved via the value resolvers because it may come from the data map, an outer scope or a
+ * section such as {@code #for}.
+ *
+ * @see EngineBuilder#addCompiledExpression(CompiledExpression)
+ */
+public interface CompiledExpression {
+
+    /**
+     *
+     * @return the id of the template that contains the expression
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the generated id of the expression
+     * @see Expression#getGeneratedId()
+     */
+    int getGeneratedId();
+
+    /**
+     * The value is compared to {@link Expression#toOriginalString()} before the compiled expression is attached.
+     *
+     * @return the expression string
+     */
+    String getExpression();
+
+    /**
+     *
+     * @param base the value of the first part of the expression
+     * @return the result or {@link Result#NOT_FOUND} if the expression cannot be evaluated directly for the given base object
+     */
+    Object evaluate(Object base);
+
+}
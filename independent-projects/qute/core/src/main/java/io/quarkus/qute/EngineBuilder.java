@@ -20,6 +20,8 @@ public final class EngineBuilder {
     final List<ResultMapper> resultMappers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    // template id -> expression generated id -> compiled expression
+    final Map<String, Map<Integer, CompiledExpression>> compiledExpressions;
     boolean removeStandaloneLines;
 
     EngineBuilder() {
@@ -29,6 +31,7 @@ public final class EngineBuilder {
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
+        this.compiledExpressions = new HashMap<>();
     }
 
     public EngineBuilder addSectionHelper(SectionHelperFactory<?> factory) {
@@ -117,6 +120,30 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * 
+     * @param compiledExpression
+     * @return self
+     * @see CompiledExpression
+     */
+    public EngineBuilder addCompiledExpression(CompiledExpression compiledExpression) {
+        return addCompiledExpression(compiledExpression.getTemplateId(), compiledExpression);
+    }
+
+    /**
+     * Register the compiled expression for a template with the given id, e.g. for a template path without the suffix.
+     * 
+     * @param templateId
+     * @param compiledExpression
+     * @return self
+     * @see CompiledExpression
+     */
+    public EngineBuilder addCompiledExpression(String templateId, CompiledExpression compiledExpression) {
+        this.compiledExpressions.computeIfAbsent(templateId, id -> new HashMap<>())
+                .putIfAbsent(compiledExpression.getGeneratedId(), compiledExpression);
+        return this;
+    }
+
     /**
      * 
      * @param resultMapper
@@ -30,24 +30,33 @@ class EngineImpl implements Engine {
     private final Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     private final List<ValueResolver> valueResolvers;
     private final List<NamespaceResolver> namespaceResolvers;
+    private final Map<String, NamespaceResolver> namespaceResolversByName;
     private final Evaluator evaluator;
     private final Map<String, Template> templates;
     private final List<TemplateLocator> locators;
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, Map<Integer, CompiledExpression>> compiledExpressions;
     final boolean removeStandaloneLines;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Collections.unmodifiableMap(new HashMap<>(builder.sectionHelperFactories));
         this.valueResolvers = sort(builder.valueResolvers);
         this.namespaceResolvers = ImmutableList.copyOf(builder.namespaceResolvers);
+        this.namespaceResolversByName = new HashMap<>();
+        for (NamespaceResolver namespaceResolver : namespaceResolvers) {
+            // The first resolver registered for a namespace wins
+            namespaceResolversByName.putIfAbsent(namespaceResolver.getNamespace(), namespaceResolver);
+        }
         this.evaluator = new EvaluatorImpl(this.valueResolvers);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(builder.locators);
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        this.compiledExpressions = builder.compiledExpressions.isEmpty() ? Collections.emptyMap()
+                : new HashMap<>(builder.compiledExpressions);
         this.removeStandaloneLines = builder.removeStandaloneLines;
     }
 
@@ -87,6 +96,10 @@ class EngineImpl implements Engine {
         return namespaceResolvers;
     }
 
+    NamespaceResolver getNamespaceResolver(String namespace) {
+        return namespaceResolversByName.get(namespace);
+    }
+
     public Evaluator getEvaluator() {
         return evaluator;
     }
@@ -113,6 +126,27 @@ class EngineImpl implements Engine {
         templates.keySet().removeIf(test);
     }
 
+    /**
+     * 
+     * @param templateId
+     * @param expression
+     * @return the compiled expression that matches the given expression or {@code null}
+     */
+    CompiledExpression getCompiledExpression(String templateId, ExpressionImpl expression) {
+        if (compiledExpressions.isEmpty() || expression.isLiteral() || expression.hasNamespace()) {
+            return null;
+        }
+        Map<Integer, CompiledExpression> templateExpressions = compiledExpressions.get(templateId);
+        if (templateExpressions == null) {
+            return null;
+        }
+        CompiledExpression compiled = templateExpressions.get(expression.getGeneratedId());
+        if (compiled != null && compiled.getExpression().equals(expression.toOriginalString())) {
+            return compiled;
+        }
+        return null;
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.ExpressionImpl.PartImpl;
+import io.quarkus.qute.ResolutionContextImpl.ChildResolutionContext;
 import io.quarkus.qute.Results.Result;
 import io.smallrye.mutiny.Uni;
 import java.util.Collections;
@@ -36,18 +37,26 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return toCompletionStage(r);
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (Futures.isCompleted(result)) {
+                // Synchronous fast path - the result is already available
+                try {
+                    return resolveNamespaceNext(Futures.getCompleted(result), result, parts, resolutionContext);
+                } catch (Throwable e) {
+                    return Futures.failure(e);
                 }
-            });
+            }
+            return result.thenCompose(r -> resolveNamespaceNext(r, null, parts, resolutionContext));
         } else {
             if (expression.isLiteral()) {
                 return expression.getLiteralValue();
             } else {
                 parts = expression.getParts().iterator();
+                CompiledExpression compiled = expression instanceof ExpressionImpl ? ((ExpressionImpl) expression).getCompiled()
+                        : null;
+                if (compiled != null) {
+                    return resolveCompiled(compiled, parts, resolutionContext);
+                }
                 return resolveReference(true, resolutionContext.getData(), parts, resolutionContext);
             }
         }
@@ -57,6 +66,14 @@ class EvaluatorImpl implements Evaluator {
         if (resolutionContext == null) {
             return null;
         }
+        if (resolutionContext instanceof ChildResolutionContext) {
+            // Child contexts share the namespace resolvers of the parent
+            return findNamespaceResolver(namespace, resolutionContext.getParent());
+        }
+        if (resolutionContext instanceof ResolutionContextImpl) {
+            // Namespace resolvers of the root context are looked up by namespace
+            return ((ResolutionContextImpl) resolutionContext).getNamespaceResolver(namespace);
+        }
         if (resolutionContext.getNamespaceResolvers() != null) {
             for (NamespaceResolver resolver : resolutionContext.getNamespaceResolvers()) {
                 if (resolver.getNamespace().equals(namespace)) {
@@ -67,18 +84,60 @@ class EvaluatorImpl implements Evaluator {
         return findNamespaceResolver(namespace, resolutionContext.getParent());
     }
 
+    private CompletionStage<Object> resolveNamespaceNext(Object result, CompletionStage<Object> completed,
+            Iterator<Part> parts, ResolutionContext resolutionContext) {
+        if (parts.hasNext()) {
+            return resolveReference(false, result, parts, resolutionContext);
+        } else {
+            return toCompletionStage(result, completed);
+        }
+    }
+
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
         Part part = parts.next();
         EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
+        CompletionStage<Object> result = resolve(evalContext, null, true);
         if (!parts.hasNext()) {
             // The last part - no need to compose
-            return resolve(evalContext, null, true);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            return result;
         }
+        // Next part - no need to try the parent context/outer scope
+        if (Futures.isCompleted(result)) {
+            // Synchronous fast path - no need to compose
+            try {
+                return resolveReference(false, Futures.getCompleted(result), parts, resolutionContext);
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+        }
+        return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+    }
+
+    private CompletionStage<Object> resolveCompiled(CompiledExpression compiled, Iterator<Part> parts,
+            ResolutionContext resolutionContext) {
+        // Only the first part is resolved via the value resolvers
+        EvalContextImpl evalContext = new EvalContextImpl(true, resolutionContext.getData(), parts.next(), resolutionContext);
+        CompletionStage<Object> base = resolve(evalContext, null, true);
+        if (Futures.isCompleted(base)) {
+            // Synchronous fast path - no need to compose
+            try {
+                return evaluateCompiled(compiled, Futures.getCompleted(base), parts, resolutionContext);
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+        }
+        return base.thenCompose(b -> evaluateCompiled(compiled, b, parts, resolutionContext));
+    }
+
+    private CompletionStage<Object> evaluateCompiled(CompiledExpression compiled, Object base, Iterator<Part> parts,
+            ResolutionContext resolutionContext) {
+        Object result = compiled.evaluate(base);
+        if (Result.NOT_FOUND.equals(result)) {
+            // The base object does not match the compiled expression - fall back to the value resolvers
+            return resolveReference(false, base, parts, resolutionContext);
+        }
+        return toCompletionStage(result, null);
     }
 
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
@@ -86,15 +145,18 @@ class EvaluatorImpl implements Evaluator {
 
         if (tryCachedResolver) {
             // Try the cached resolver first
-            ValueResolver cachedResolver = evalContext.getCachedResolver();
+            ValueResolver cachedResolver = evalContext.part.getCachedResolver(this, evalContext.base);
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
-                    if (Result.NOT_FOUND.equals(r)) {
-                        return resolve(evalContext, null, false);
-                    } else {
-                        return toCompletionStage(r);
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (Futures.isCompleted(result)) {
+                    // Synchronous fast path - no need to compose
+                    try {
+                        return processCachedResult(evalContext, Futures.getCompleted(result), result);
+                    } catch (Throwable e) {
+                        return Futures.failure(e);
                     }
-                });
+                }
+                return result.thenCompose(r -> processCachedResult(evalContext, r, null));
             }
         }
 
@@ -125,20 +187,47 @@ class EvaluatorImpl implements Evaluator {
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Result.NOT_FOUND.equals(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false);
-            } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver);
-                return toCompletionStage(r);
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (Futures.isCompleted(result)) {
+            // Synchronous fast path - no need to compose
+            try {
+                return processResult(evalContext, Futures.getCompleted(result), result, remainingResolvers, foundResolver);
+            } catch (Throwable e) {
+                return Futures.failure(e);
             }
-        });
+        }
+        return result.thenCompose(r -> processResult(evalContext, r, null, remainingResolvers, foundResolver));
+    }
+
+    private CompletionStage<Object> processCachedResult(EvalContextImpl evalContext, Object result,
+            CompletionStage<Object> completed) {
+        if (Result.NOT_FOUND.equals(result)) {
+            return resolve(evalContext, null, false);
+        } else {
+            return toCompletionStage(result, completed);
+        }
     }
 
+    private CompletionStage<Object> processResult(EvalContextImpl evalContext, Object result,
+            CompletionStage<Object> completed, Iterator<ValueResolver> remainingResolvers, ValueResolver foundResolver) {
+        if (Result.NOT_FOUND.equals(result)) {
+            // Result not found - try the next resolver
+            return resolve(evalContext, remainingResolvers, false);
+        } else {
+            // Cache the first resolver where a result is found
+            evalContext.part.setCachedResolver(this, evalContext.base, foundResolver);
+            return toCompletionStage(result, completed);
+        }
+    }
+
+    /**
+     * 
+     * @param result
+     * @param completed the completed stage the result was obtained from, may be {@code null}
+     * @return the completion stage
+     */
     @SuppressWarnings("unchecked")
-    private CompletionStage<Object> toCompletionStage(Object result) {
+    private CompletionStage<Object> toCompletionStage(Object result, CompletionStage<Object> completed) {
         if (result instanceof CompletionStage) {
             // If the result is a completion stage return it as is
             return (CompletionStage<Object>) result;
@@ -146,7 +235,8 @@ class EvaluatorImpl implements Evaluator {
             // Subscribe to the Uni
             return ((Uni<Object>) result).subscribeAsCompletionStage();
         }
-        return CompletableFuture.completedFuture(result);
+        // Reuse the completed stage if possible
+        return completed != null ? completed : CompletableFuture.completedFuture(result);
     }
 
     static class EvalContextImpl implements EvalContext {
@@ -197,14 +287,6 @@ class EvaluatorImpl implements Evaluator {
             return resolutionContext.getAttribute(key);
         }
 
-        ValueResolver getCachedResolver() {
-            return part.cachedResolver;
-        }
-
-        void setCachedResolver(ValueResolver valueResolver) {
-            part.cachedResolver = valueResolver;
-        }
-
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder();
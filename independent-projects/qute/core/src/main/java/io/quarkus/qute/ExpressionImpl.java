@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -57,6 +58,8 @@ final class ExpressionImpl implements Expression {
     private final List<Part> parts;
     private final CompletableFuture<Object> literal;
     private final Origin origin;
+    // Set during parsing, before the template is published
+    private CompiledExpression compiled;
 
     ExpressionImpl(int id, String namespace, List<Part> parts, Object literal, Origin origin) {
         this.id = id;
@@ -92,6 +95,14 @@ final class ExpressionImpl implements Expression {
         return id;
     }
 
+    CompiledExpression getCompiled() {
+        return compiled;
+    }
+
+    void setCompiled(CompiledExpression compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -220,7 +231,8 @@ final class ExpressionImpl implements Expression {
 
         protected final String name;
         protected final String typeInfo;
-        protected volatile ValueResolver cachedResolver;
+        // Polymorphic inline cache - the resolvers that previously resolved this part, keyed by the class of the base object
+        private volatile ResolverCache resolverCache;
 
         PartImpl(String name, String typeInfo) {
             this.name = name;
@@ -235,14 +247,39 @@ final class ExpressionImpl implements Expression {
             return typeInfo;
         }
 
-        void setCachedResolver(ValueResolver resolver) {
-            ValueResolver last = this.cachedResolver;
-            if (last != null) {
-                return;
+        /**
+         * 
+         * @param owner the evaluator the cache belongs to
+         * @param base
+         * @return the cached resolver for the class of the base object or {@code null}
+         */
+        ValueResolver getCachedResolver(Object owner, Object base) {
+            ResolverCache cache = this.resolverCache;
+            if (cache == null || cache.owner != owner) {
+                return null;
             }
-            synchronized (this) {
-                if (this.cachedResolver == null) {
-                    this.cachedResolver = resolver;
+            return cache.get(base != null ? base.getClass() : null);
+        }
+
+        /**
+         * The cache is discarded if the owner changes, i.e. if the part is evaluated by a different evaluator. A stale entry
+         * may be lost if multiple threads update the cache concurrently; it's added again when the part is resolved next
+         * time.
+         * 
+         * @param owner the evaluator the cache belongs to
+         * @param base
+         * @param resolver
+         */
+        void setCachedResolver(Object owner, Object base, ValueResolver resolver) {
+            Class<?> baseClass = base != null ? base.getClass() : null;
+            ResolverCache cache = this.resolverCache;
+            if (cache == null || cache.owner != owner) {
+                this.resolverCache = new ResolverCache(owner, new Class<?>[] { baseClass },
+                        new ValueResolver[] { resolver }, false);
+            } else if (cache.get(baseClass) != resolver) {
+                ResolverCache updated = cache.with(baseClass, resolver);
+                if (updated != cache) {
+                    this.resolverCache = updated;
                 }
             }
         }
@@ -273,4 +310,58 @@ final class ExpressionImpl implements Expression {
         }
 
     }
+
+    /**
+     * Immutable cache of resolvers keyed by the class of the base object. At most {@link #LIMIT} classes are cached; once
+     * the limit is exceeded the cache is considered megamorphic and no more entries are added.
+     */
+    static final class ResolverCache {
+
+        static final int LIMIT = 4;
+
+        final Object owner;
+        final Class<?>[] classes;
+        final ValueResolver[] resolvers;
+        final boolean megamorphic;
+
+        ResolverCache(Object owner, Class<?>[] classes, ValueResolver[] resolvers, boolean megamorphic) {
+            this.owner = owner;
+            this.classes = classes;
+            this.resolvers = resolvers;
+            this.megamorphic = megamorphic;
+        }
+
+        ValueResolver get(Class<?> baseClass) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == baseClass) {
+                    return resolvers[i];
+                }
+            }
+            return null;
+        }
+
+        ResolverCache with(Class<?> baseClass, ValueResolver resolver) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == baseClass) {
+                    // Replace the resolver for an existing class
+                    ValueResolver[] newResolvers = resolvers.clone();
+                    newResolvers[i] = resolver;
+                    return new ResolverCache(owner, classes, newResolvers, megamorphic);
+                }
+            }
+            if (megamorphic) {
+                return this;
+            }
+            if (classes.length == LIMIT) {
+                return new ResolverCache(owner, classes, resolvers, true);
+            }
+            Class<?>[] newClasses = Arrays.copyOf(classes, classes.length + 1);
+            newClasses[classes.length] = baseClass;
+            ValueResolver[] newResolvers = Arrays.copyOf(resolvers, resolvers.length + 1);
+            newResolvers[resolvers.length] = resolver;
+            return new ResolverCache(owner, newClasses, newResolvers, false);
+        }
+
+    }
+
 }
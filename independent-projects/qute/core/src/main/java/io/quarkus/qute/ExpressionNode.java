@@ -23,7 +23,12 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return context.evaluate(expression).thenCompose(this);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (Futures.isCompleted(result)) {
+            // Synchronous fast path - no need to compose
+            return apply(Futures.getCompleted(result));
+        }
+        return result.thenCompose(this);
     }
 
     @Override
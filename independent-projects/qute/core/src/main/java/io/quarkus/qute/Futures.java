@@ -17,15 +17,55 @@ public final class Futures {
         return failure;
     }
 
+    /**
+     * The rendering is synchronous if all the data is already available. In that case, there is no need to compose the
+     * stages.
+     * 
+     * @param stage
+     * @return {@code true} if the given stage is a {@link CompletableFuture} that completed normally
+     */
+    static boolean isCompleted(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param stage
+     * @return the result of a stage that completed normally
+     * @see #isCompleted(CompletionStage)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getCompleted(CompletionStage<T> stage) {
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
-        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture<Object>[] results = new CompletableFuture[parameters.size()];
         int idx = 0;
+        boolean completed = true;
         for (Entry<String, Expression> entry : parameters.entrySet()) {
-            results[idx++] = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            CompletableFuture<Object> paramResult = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            results[idx++] = paramResult;
+            if (completed && !isCompleted(paramResult)) {
+                completed = false;
+            }
         }
+        if (completed) {
+            // All params are available - build the map synchronously
+            Map<String, Object> paramValues = new HashMap<>();
+            int j = 0;
+            for (Entry<String, Expression> entry : parameters.entrySet()) {
+                paramValues.put(entry.getKey(), getCompleted(results[j++]));
+            }
+            return CompletableFuture.completedFuture(paramValues);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
         CompletableFuture.allOf(results).whenComplete((v, t1) -> {
             if (t1 != null) {
                 result.completeExceptionally(t1);
@@ -1,11 +1,19 @@
 package io.quarkus.qute;
 
 import io.quarkus.qute.TemplateNode.Origin;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
 public class HtmlEscaper implements ResultMapper {
 
+    private static final byte[] QUOT = "&quot;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APOS = "&#39;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] AMP = "&amp;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LT = "&lt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GT = "&gt;".getBytes(StandardCharsets.US_ASCII);
+
     @Override
     public boolean appliesTo(Origin origin, Object result) {
         if (result instanceof RawString) {
@@ -37,6 +45,52 @@ public class HtmlEscaper implements ResultMapper {
         return value.toString();
     }
 
+    /**
+     * Escapes the value and writes the UTF-8 encoded result directly to the consumer.
+     * 
+     * @param value
+     * @param consumer
+     */
+    void escape(CharSequence value, BytesConsumer consumer) {
+        int length = Objects.requireNonNull(value).length();
+        // In most cases the value is ASCII and does not need to be escaped at all
+        byte[] bytes = new byte[length];
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            byte[] replacement = replacementBytesFor(c);
+            if (replacement != null) {
+                bytes = ensureCapacity(bytes, pos + replacement.length + length - i - 1);
+                System.arraycopy(replacement, 0, bytes, pos, replacement.length);
+                pos += replacement.length;
+            } else if (c < 0x80) {
+                bytes[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes = ensureCapacity(bytes, pos + 2 + length - i - 1);
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes = ensureCapacity(bytes, pos + 4 + length - i - 1);
+                    bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // Malformed input - the same replacement as used by String.getBytes()
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes = ensureCapacity(bytes, pos + 3 + length - i - 1);
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        consumer.accept(bytes, 0, pos);
+    }
+
     static boolean requiresDefaultEscaping(Variant variant) {
         return variant.getContentType() != null
                 ? (Variant.TEXT_HTML.equals(variant.getContentType()) || Variant.TEXT_XML.equals(variant.getContentType()))
@@ -57,6 +111,27 @@ public class HtmlEscaper implements ResultMapper {
         return builder.toString();
     }
 
+    private static byte[] ensureCapacity(byte[] bytes, int capacity) {
+        return capacity > bytes.length ? Arrays.copyOf(bytes, Math.max(bytes.length * 2, capacity)) : bytes;
+    }
+
+    private byte[] replacementBytesFor(char c) {
+        switch (c) {
+            case '"':
+                return QUOT;
+            case '\'':
+                return APOS;
+            case '&':
+                return AMP;
+            case '<':
+                return LT;
+            case '>':
+                return GT;
+            default:
+                return null;
+        }
+    }
+
     private String replacementFor(char c) {
         switch (c) {
             case '"':
@@ -28,45 +28,65 @@ public class LoopSectionHelper implements SectionHelper {
         this.iterable = Objects.requireNonNull(iterable);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                throw new TemplateException(String.format(
-                        "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
-                        iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
-            }
-            List<CompletionStage<ResultNode>> results = new ArrayList<>();
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
-            while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                return ResultNode.NOOP;
-            }
-            if (results.size() == 1) {
-                return results.get(0);
+        CompletionStage<Object> iterableResult = context.resolutionContext().evaluate(iterable);
+        if (Futures.isCompleted(iterableResult)) {
+            // Synchronous fast path - no need to compose
+            try {
+                return resolveIterable(Futures.getCompleted(iterableResult), context);
+            } catch (Throwable e) {
+                return Futures.failure(e);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
-            CompletableFuture<ResultNode>[] allResults = new CompletableFuture[results.size()];
-            idx = 0;
-            for (CompletionStage<ResultNode> r : results) {
-                allResults[idx++] = r.toCompletableFuture();
+        }
+        return iterableResult.thenCompose(it -> resolveIterable(it, context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<ResultNode> resolveIterable(Object it, SectionResolutionContext context) {
+        if (it == null) {
+            throw new TemplateException(String.format(
+                    "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
+                    iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
+        }
+        List<CompletionStage<ResultNode>> results = new ArrayList<>();
+        Iterator<?> iterator = extractIterator(it);
+        int idx = 0;
+        boolean completed = true;
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            CompletionStage<ResultNode> result = nextElement(iterator.next(), idx++, iterator.hasNext(), context);
+            if (completed && !Futures.isCompleted(result)) {
+                completed = false;
             }
-            CompletableFuture
-                    .allOf(allResults)
-                    .whenComplete((v, t) -> {
-                        if (t != null) {
-                            result.completeExceptionally(t);
-                        } else {
-                            result.complete(new MultiResultNode(allResults));
-                        }
-                    });
-            return result;
-        });
+            results.add(result);
+        }
+        if (results.isEmpty()) {
+            return ResultNode.NOOP;
+        }
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        CompletableFuture<ResultNode>[] allResults = new CompletableFuture[results.size()];
+        idx = 0;
+        for (CompletionStage<ResultNode> r : results) {
+            allResults[idx++] = r.toCompletableFuture();
+        }
+        if (completed) {
+            // Synchronous fast path - all iterations are resolved
+            return CompletableFuture.completedFuture(new MultiResultNode(allResults));
+        }
+        CompletableFuture<ResultNode> result = new CompletableFuture<>();
+        CompletableFuture
+                .allOf(allResults)
+                .whenComplete((v, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(new MultiResultNode(allResults));
+                    }
+                });
+        return result;
     }
 
     private Iterator<?> extractIterator(Object it) {
@@ -29,4 +29,11 @@ public class MultiResultNode implements ResultNode {
         }
     }
 
+    @Override
+    public void processBytes(BytesConsumer consumer) {
+        for (ResultNode result : results) {
+            result.processBytes(consumer);
+        }
+    }
+
 }
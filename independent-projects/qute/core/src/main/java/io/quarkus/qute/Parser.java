@@ -799,7 +799,11 @@ class Parser implements Function<String, Expression>, ParserHelper {
 
     @Override
     public ExpressionImpl apply(String value) {
-        return parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(), origin(value.length() + 1));
+        ExpressionImpl expression = parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(),
+                origin(value.length() + 1));
+        // Attach the compiled expression generated for this template, if any
+        expression.setCompiled(engine.getCompiledExpression(templateId, expression));
+        return expression;
     }
 
     Origin origin(int lineCharacterOffset) {
@@ -7,16 +7,19 @@ import java.util.concurrent.CompletionStage;
 class ResolutionContextImpl implements ResolutionContext {
 
     private final Object data;
-    private final List<NamespaceResolver> namespaceResolvers;
+    private final EngineImpl engine;
+    private final NamespaceResolver dataResolver;
     private final Evaluator evaluator;
     private final Map<String, SectionBlock> extendingBlocks;
     private final TemplateInstance templateInstance;
+    private volatile List<NamespaceResolver> namespaceResolvers;
 
-    ResolutionContextImpl(Object data, List<NamespaceResolver> namespaceResolvers,
-            Evaluator evaluator, Map<String, SectionBlock> extendingBlocks, TemplateInstance templateInstance) {
+    ResolutionContextImpl(Object data, EngineImpl engine, NamespaceResolver dataResolver,
+            Map<String, SectionBlock> extendingBlocks, TemplateInstance templateInstance) {
         this.data = data;
-        this.namespaceResolvers = namespaceResolvers;
-        this.evaluator = evaluator;
+        this.engine = engine;
+        this.dataResolver = dataResolver;
+        this.evaluator = engine.getEvaluator();
         this.extendingBlocks = extendingBlocks;
         this.templateInstance = templateInstance;
     }
@@ -43,7 +46,28 @@ class ResolutionContextImpl implements ResolutionContext {
 
     @Override
     public List<NamespaceResolver> getNamespaceResolvers() {
-        return namespaceResolvers;
+        List<NamespaceResolver> resolvers = namespaceResolvers;
+        if (resolvers == null) {
+            // The list is only needed if someone asks for it explicitly
+            resolvers = ImmutableList.<NamespaceResolver> builder().addAll(engine.getNamespaceResolvers()).add(dataResolver)
+                    .build();
+            namespaceResolvers = resolvers;
+        }
+        return resolvers;
+    }
+
+    /**
+     * The engine resolvers take precedence over the data resolver.
+     * 
+     * @param namespace
+     * @return the namespace resolver or {@code null}
+     */
+    NamespaceResolver getNamespaceResolver(String namespace) {
+        NamespaceResolver resolver = engine.getNamespaceResolver(namespace);
+        if (resolver == null && dataResolver.getNamespace().equals(namespace)) {
+            return dataResolver;
+        }
+        return resolver;
     }
 
     @Override
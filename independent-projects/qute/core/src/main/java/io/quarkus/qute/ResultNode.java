@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -12,6 +13,10 @@ public interface ResultNode {
         @Override
         public void process(Consumer<String> resultConsumer) {
         }
+
+        @Override
+        public void processBytes(BytesConsumer consumer) {
+        }
     });
 
     /**
@@ -20,4 +25,16 @@ public interface ResultNode {
      */
     void process(Consumer<String> resultConsumer);
 
+    /**
+     * The default implementation encodes the chunks produced by {@link #process(Consumer)}.
+     * 
+     * @param consumer
+     */
+    default void processBytes(BytesConsumer consumer) {
+        process(chunk -> {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            consumer.accept(bytes, 0, bytes.length);
+        });
+    }
+
 }
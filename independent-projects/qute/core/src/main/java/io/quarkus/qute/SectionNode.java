@@ -125,22 +125,27 @@ class SectionNode implements TemplateNode {
             if (size == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
             CompletableFuture<ResultNode>[] allResults = new CompletableFuture[size];
-            List<CompletableFuture<ResultNode>> asyncResults = new LinkedList<>();
+            List<CompletableFuture<ResultNode>> asyncResults = null;
             int idx = 0;
             for (TemplateNode node : block.nodes) {
                 CompletableFuture<ResultNode> nodeResult = node.resolve(context).toCompletableFuture();
                 allResults[idx++] = nodeResult;
-                if (node.isConstant()) {
+                if (node.isConstant() || Futures.isCompleted(nodeResult)) {
+                    // No need to wait for the result
                     continue;
                 }
+                if (asyncResults == null) {
+                    asyncResults = new LinkedList<>();
+                }
                 asyncResults.add(nodeResult);
             }
-            if (asyncResults.isEmpty()) {
-                result.complete(new MultiResultNode(allResults));
+            if (asyncResults == null) {
+                // Synchronous fast path - all results are available
+                return CompletableFuture.completedFuture(new MultiResultNode(allResults));
             } else {
+                CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
                 CompletionStage<?> cs;
                 if (asyncResults.size() == 1) {
                     cs = asyncResults.get(0);
@@ -155,8 +160,8 @@ class SectionNode implements TemplateNode {
                         result.complete(new MultiResultNode(allResults));
                     }
                 });
+                return result;
             }
-            return result;
         }
 
         @Override
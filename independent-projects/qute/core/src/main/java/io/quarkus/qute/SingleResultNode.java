@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 
 /**
@@ -19,13 +20,9 @@ public class SingleResultNode implements ResultNode {
     public void process(Consumer<String> consumer) {
         if (value != null) {
             String result = null;
-            if (expressionNode != null) {
-                for (ResultMapper mapper : expressionNode.getEngine().getResultMappers()) {
-                    if (mapper.appliesTo(expressionNode.expression.getOrigin(), value)) {
-                        result = mapper.map(value, expressionNode.expression);
-                        break;
-                    }
-                }
+            ResultMapper mapper = findMapper();
+            if (mapper != null) {
+                result = mapper.map(value, expressionNode.expression);
             }
             if (result == null) {
                 result = value.toString();
@@ -34,4 +31,35 @@ public class SingleResultNode implements ResultNode {
         }
     }
 
+    @Override
+    public void processBytes(BytesConsumer consumer) {
+        if (value != null) {
+            String result = null;
+            ResultMapper mapper = findMapper();
+            if (mapper != null && mapper.getClass() == HtmlEscaper.class) {
+                // Write the escaped bytes directly - a subclass may override the mapping
+                ((HtmlEscaper) mapper).escape(value.toString(), consumer);
+                return;
+            } else if (mapper != null) {
+                result = mapper.map(value, expressionNode.expression);
+            }
+            if (result == null) {
+                result = value.toString();
+            }
+            byte[] bytes = result.getBytes(StandardCharsets.UTF_8);
+            consumer.accept(bytes, 0, bytes.length);
+        }
+    }
+
+    private ResultMapper findMapper() {
+        if (expressionNode != null) {
+            for (ResultMapper mapper : expressionNode.getEngine().getResultMappers()) {
+                if (mapper.appliesTo(expressionNode.expression.getOrigin(), value)) {
+                    return mapper;
+                }
+            }
+        }
+        return null;
+    }
+
 }
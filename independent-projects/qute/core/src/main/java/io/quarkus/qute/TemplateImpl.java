@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -69,14 +70,15 @@ class TemplateImpl implements Template {
 
         @Override
         public Multi<String> createMulti() {
-            return Multi.createFrom().emitter(emitter -> consume(emitter::emit)
-                    .whenComplete((r, f) -> {
-                        if (f == null) {
-                            emitter.complete();
-                        } else {
-                            emitter.fail(f);
-                        }
-                    }));
+            return Multi.createFrom().deferred(() -> {
+                ResolutionContext rootContext = createRootContext(data());
+                // Top-level nodes are resolved one by one and only when requested by the subscriber,
+                // i.e. the chunks of a node are emitted before the next node is resolved
+                return Multi.createFrom().iterable(root.blocks.get(0).nodes)
+                        .onItem().transformToMulti(node -> Uni.createFrom().completionStage(() -> resolve(node, rootContext))
+                                .onItem().transformToMulti(this::toChunks))
+                        .concatenate();
+            });
         }
 
         @Override
@@ -87,39 +89,80 @@ class TemplateImpl implements Template {
         @Override
         public CompletionStage<String> renderAsync() {
             StringBuilder builder = new StringBuilder();
-            return renderData(data(), builder::append).thenApply(v -> builder.toString());
+            return renderData(data(), r -> r.process(builder::append)).thenApply(v -> builder.toString());
         }
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            return renderData(data(), resultConsumer);
+            return renderData(data(), r -> r.process(resultConsumer));
+        }
+
+        @Override
+        public CompletionStage<Void> consumeBytes(BytesConsumer consumer) {
+            return renderData(data(), r -> r.processBytes(consumer));
         }
 
-        private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+        private CompletionStage<Void> renderData(Object data, Consumer<ResultNode> processor) {
             CompletableFuture<Void> result = new CompletableFuture<>();
-            DataNamespaceResolver dataResolver = new DataNamespaceResolver();
-            List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
-                    .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
-            ResolutionContext rootContext = new ResolutionContextImpl(data, namespaceResolvers,
-                    engine.getEvaluator(), null, this);
-            dataResolver.rootContext = rootContext;
+            ResolutionContext rootContext = createRootContext(data);
+            CompletionStage<ResultNode> rootResult;
+            try {
+                rootResult = root.resolve(rootContext);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return result;
+            }
+            if (Futures.isCompleted(rootResult)) {
+                // Synchronous fast path - the result tree is already available
+                processResult(Futures.getCompleted(rootResult), processor, result);
+                return result;
+            }
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            rootResult.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
-                    // Sync processing of the result tree - build the output
-                    try {
-                        r.process(consumer);
-                        result.complete(null);
-                    } catch (Throwable e) {
-                        result.completeExceptionally(e);
-                    }
+                    processResult(r, processor, result);
                 }
             });
             return result;
         }
 
+        private ResolutionContext createRootContext(Object data) {
+            DataNamespaceResolver dataResolver = new DataNamespaceResolver();
+            ResolutionContext rootContext = new ResolutionContextImpl(data, engine, dataResolver, null, this);
+            dataResolver.rootContext = rootContext;
+            return rootContext;
+        }
+
+        private CompletionStage<ResultNode> resolve(TemplateNode node, ResolutionContext rootContext) {
+            try {
+                return node.resolve(rootContext);
+            } catch (Throwable e) {
+                return Futures.failure(e);
+            }
+        }
+
+        private Multi<String> toChunks(ResultNode resultNode) {
+            List<String> chunks = new ArrayList<>();
+            resultNode.process(chunk -> {
+                if (!chunk.isEmpty()) {
+                    chunks.add(chunk);
+                }
+            });
+            return Multi.createFrom().iterable(chunks);
+        }
+
+        private void processResult(ResultNode resultNode, Consumer<ResultNode> processor, CompletableFuture<Void> result) {
+            // Sync processing of the result tree - build the output
+            try {
+                processor.accept(resultNode);
+                result.complete(null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
     }
 
     static class DataNamespaceResolver implements NamespaceResolver {
@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -79,6 +80,10 @@ public interface TemplateInstance {
      * Create a new {@link Multi} that can be used to consume chunks of the rendered template. In particular, each item
      * represents a part of the rendered template.
      * <p>
+     * The template is rendered lazily, i.e. the top-level nodes of the template are resolved one by one as the items
+     * are requested by the subscriber. The chunks of a node are emitted before the next node is resolved. Therefore,
+     * the whole output does not need to be materialized before the first chunk is emitted.
+     * <p>
      * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template.
      * 
      * @return a new Multi
@@ -104,4 +109,20 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers rendering. The output is encoded in UTF-8.
+     * <p>
+     * By default, the chunks consumed by {@link #consume(Consumer)} are encoded. The built-in implementation does not
+     * encode the static text of the template again, the bytes encoded when the template was parsed are used instead.
+     * 
+     * @param consumer To consume chunks of the rendered template
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> consumeBytes(BytesConsumer consumer) {
+        return consume(chunk -> {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            consumer.accept(bytes, 0, bytes.length);
+        });
+    }
+
 }
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
@@ -11,11 +12,14 @@ public class TextNode implements TemplateNode, ResultNode {
 
     private final CompletableFuture<ResultNode> result;
     private final String value;
+    // UTF-8 encoded value
+    private final byte[] bytes;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletableFuture.completedFuture(this);
         this.value = value;
+        this.bytes = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -42,6 +46,11 @@ public class TextNode implements TemplateNode, ResultNode {
         consumer.accept(value);
     }
 
+    @Override
+    public void processBytes(BytesConsumer consumer) {
+        consumer.accept(bytes, 0, bytes.length);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
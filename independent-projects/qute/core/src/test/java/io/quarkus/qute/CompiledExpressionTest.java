@@ -0,0 +1,69 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.qute.Results.Result;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+public class CompiledExpressionTest {
+
+    @Test
+    public void testCompiledExpression() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addCompiledExpression(new NameExpression("foo", 1, "item.name"))
+                // Expression string does not match
+                .addCompiledExpression(new NameExpression("foo", 2, "item.age"))
+                .build();
+
+        Map<String, Object> item = new HashMap<>();
+        item.put("name", "Lu");
+        item.put("age", "10");
+        Template template = engine.parse("{item.name}:{item.name}:{item.age}", null, "foo");
+        assertEquals("LU:Lu:10", template.data("item", item).render());
+        // The base object does not match
+        assertEquals("Lu:Lu:10", template.data("item", new TreeMap<>(item)).render());
+        // Template id does not match
+        assertEquals("Lu", engine.parse("{item.name}", null, "bar").data("item", item).render());
+    }
+
+    static class NameExpression implements CompiledExpression {
+
+        private final String templateId;
+        private final int id;
+        private final String expression;
+
+        NameExpression(String templateId, int id, String expression) {
+            this.templateId = templateId;
+            this.id = id;
+            this.expression = expression;
+        }
+
+        @Override
+        public String getTemplateId() {
+            return templateId;
+        }
+
+        @Override
+        public int getGeneratedId() {
+            return id;
+        }
+
+        @Override
+        public String getExpression() {
+            return expression;
+        }
+
+        @Override
+        public Object evaluate(Object base) {
+            if (base instanceof HashMap) {
+                return ((Map<?, ?>) base).get("name").toString().toUpperCase();
+            }
+            return Result.NOT_FOUND;
+        }
+
+    }
+
+}
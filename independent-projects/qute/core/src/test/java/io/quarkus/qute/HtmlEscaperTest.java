@@ -1,11 +1,15 @@
 package io.quarkus.qute;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -59,4 +63,34 @@ public class HtmlEscaperTest {
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
     }
 
+    @Test
+    public void testEscapingBytes() {
+        HtmlEscaper html = new HtmlEscaper();
+        assertEscapedBytes(html, "");
+        assertEscapedBytes(html, "Čolek");
+        assertEscapedBytes(html, "<strong>Čolek</strong>");
+        assertEscapedBytes(html, "<a>&link\"'</a>");
+        assertEscapedBytes(html, "\uD83D\uDE00 & \u20AC");
+        assertEscapedBytes(html, "lone \uD800 surrogate");
+    }
+
+    @Test
+    public void testConsumeBytes() {
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper()).build();
+        Template template = engine.parse("<html>Ahoj {name}! {#each items}<b>{it}</b>{/each}</html>",
+                new Variant(Locale.getDefault(), Variant.TEXT_HTML, null));
+        TemplateInstance instance = template.data("name", "<Čolek>").data("items", Arrays.asList("&", "€"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        instance.consumeBytes(out::write).toCompletableFuture().join();
+        String rendered = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals("<html>Ahoj &lt;Čolek&gt;! <b>&amp;</b><b>€</b></html>", rendered);
+        assertEquals(instance.render(), rendered);
+    }
+
+    private void assertEscapedBytes(HtmlEscaper html, String value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        html.escape(value, out::write);
+        assertArrayEquals(html.escape(value).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
 }
@@ -170,4 +170,23 @@ public class LoopSectionTest {
         assertTrue(result.contains("hellllllo"), result);
     }
 
+    @Test
+    public void testSyncAndAsyncElements() {
+        // Odd elements are resolved asynchronously, even elements synchronously
+        Engine engine = Engine.builder().addDefaults().addValueResolver(ValueResolver.builder()
+                .applyToBaseClass(Integer.class).applyToName("label").resolveAsync(ctx -> {
+                    Integer value = (Integer) ctx.getBase();
+                    if (value % 2 == 0) {
+                        return CompletableFuture.completedFuture("s" + value);
+                    }
+                    return CompletableFuture.supplyAsync(() -> "a" + value);
+                }).build()).build();
+        assertEquals("s0:a1:s2:a3:s4:", engine.parse("{#for i in items}{i.label}:{/for}")
+                .data("items", Arrays.asList(0, 1, 2, 3, 4)).render());
+        assertEquals("s0:s2:s4:", engine.parse("{#for i in items}{i.label}:{/for}")
+                .data("items", Arrays.asList(0, 2, 4)).render());
+        assertEquals("a1:a3:", engine.parse("{#for i in items}{i.label}:{/for}")
+                .data("items", Arrays.asList(1, 3)).render());
+    }
+
 }
@@ -1,6 +1,8 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.smallrye.mutiny.Multi;
@@ -9,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +31,25 @@ public class MutinyTest {
         assertMulti(multi.transform().byTakingFirstItems(1), "foo");
     }
 
+    @Test
+    public void testCreateMultiIsLazy() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello {name}! {#each items}{it}{/}");
+        CompletableFuture<String> name = new CompletableFuture<>();
+        Multi<String> multi = template.data("name", name, "items", Arrays.asList("foo", "bar")).createMulti();
+
+        BlockingQueue<String> chunks = new LinkedBlockingQueue<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        multi.subscribe().with(chunks::add, latch::countDown);
+        // The static text is emitted before the expression is resolved
+        assertEquals("Hello ", chunks.poll(2, TimeUnit.SECONDS));
+        assertNull(chunks.poll(100, TimeUnit.MILLISECONDS));
+
+        name.complete("Lu");
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("Lu", "! ", "foo", "bar"), new ArrayList<>(chunks));
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
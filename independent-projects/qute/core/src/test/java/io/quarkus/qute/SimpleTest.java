@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class SimpleTest {
@@ -226,4 +228,30 @@ public class SimpleTest {
                 .build();
         assertEquals("STARTEND", engine.parse("START{#for pet in pets.orEmpty}...{/for}END").data("pets", null).render());
     }
+
+    @Test
+    public void testPolymorphicBase() {
+        AtomicInteger stringChecks = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().priority(10).appliesTo(ec -> {
+                    if (!ec.getName().equals("kind")) {
+                        return false;
+                    }
+                    stringChecks.incrementAndGet();
+                    return ec.getBase() instanceof String;
+                }).resolveWith("s").build())
+                .addValueResolver(ValueResolver.builder().priority(5).applyToBaseClass(Integer.class).applyToName("kind")
+                        .resolveWith("i").build())
+                .addValueResolver(ValueResolver.builder().priority(1).applyToName("kind").resolveWith("o").build())
+                .build();
+        Template template = engine.parse("{#for item in items}{item.kind}{/for}");
+        assertEquals("sisi", template.data("items", Arrays.asList("a", 1, "b", 2)).render());
+        // "a" and 1 - all resolvers are tried, "b" - the cached resolver is tried, 2 - the cached resolver is used
+        assertEquals(3, stringChecks.get());
+        assertEquals("isis", template.data("items", Arrays.asList(1, "a", 2, "b")).render());
+        assertEquals(5, stringChecks.get());
+        // More base classes than the cache can hold
+        assertEquals("sioooosi", template.data("items", Arrays.asList("a", 1, 1L, true, 'c', 1.0, "b", 2)).render());
+    }
+
 }
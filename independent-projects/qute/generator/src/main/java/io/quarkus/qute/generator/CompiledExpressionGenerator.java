@@ -0,0 +1,212 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ExtensionMethodGenerator.sha1;
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static io.quarkus.qute.generator.ValueResolverGenerator.packageName;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.CompiledExpression;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+/**
+ * Generates compiled expressions for type-safe expressions, i.e. the parts of an expression are evaluated by direct field
+ * reads and getter invocations instead of the value resolvers.
+ *
+ * @see CompiledExpression
+ */
+public class CompiledExpressionGenerator {
+
+    public static final String SUFFIX = "_CompiledExpression";
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledExpressionGenerator.class);
+
+    private final Set<String> generatedTypes;
+    private final ClassOutput classOutput;
+
+    public CompiledExpressionGenerator(ClassOutput classOutput) {
+        this.classOutput = classOutput;
+        this.generatedTypes = new HashSet<>();
+    }
+
+    public Set<String> getGeneratedTypes() {
+        return generatedTypes;
+    }
+
+    /**
+     * Only public non-static fields and public non-static methods with no parameters declared on public classes are
+     * supported.
+     *
+     * @param members
+     * @return {@code true} if a compiled expression can be generated for the given members
+     */
+    public static boolean isSupported(List<AnnotationTarget> members) {
+        if (members.isEmpty()) {
+            return false;
+        }
+        for (AnnotationTarget member : members) {
+            ClassInfo declaringClass;
+            int flags;
+            if (member.kind() == Kind.FIELD) {
+                declaringClass = member.asField().declaringClass();
+                flags = member.asField().flags();
+            } else if (member.kind() == Kind.METHOD && member.asMethod().parameters().isEmpty()) {
+                declaringClass = member.asMethod().declaringClass();
+                flags = member.asMethod().flags();
+            } else {
+                return false;
+            }
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || !Modifier.isPublic(declaringClass.flags())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param generatedId
+     * @param expression
+     * @param members The members bound to the parts of the expression, except the first one
+     * @return the name of the generated class
+     * @see #isSupported(List)
+     */
+    public String generate(String templateId, int generatedId, String expression, List<AnnotationTarget> members) {
+        if (!isSupported(members)) {
+            throw new IllegalArgumentException("Unsupported members of expression " + expression + ": " + members);
+        }
+        ClassInfo firstClass = declaringClass(members.get(0));
+        String baseName = "Template_" + sha1(templateId) + "_" + generatedId;
+        String generatedName = generatedNameFromTarget(packageName(firstClass.name()), baseName, SUFFIX);
+        generatedTypes.add(generatedName.replace('/', '.'));
+
+        LOGGER.debugf("Generating compiled expression [%s] of template [%s]: %s", expression, templateId, generatedName);
+
+        ClassCreator compiledExpression = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledExpression.class).build();
+
+        MethodCreator getTemplateId = compiledExpression.getMethodCreator("getTemplateId", String.class)
+                .setModifiers(ACC_PUBLIC);
+        getTemplateId.returnValue(getTemplateId.load(templateId));
+
+        MethodCreator getGeneratedId = compiledExpression.getMethodCreator("getGeneratedId", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getGeneratedId.returnValue(getGeneratedId.load(generatedId));
+
+        MethodCreator getExpression = compiledExpression.getMethodCreator("getExpression", String.class)
+                .setModifiers(ACC_PUBLIC);
+        getExpression.returnValue(getExpression.load(expression));
+
+        implementEvaluate(compiledExpression, members);
+
+        compiledExpression.close();
+        return generatedName.replace('/', '.');
+    }
+
+    private void implementEvaluate(ClassCreator compiledExpression, List<AnnotationTarget> members) {
+        MethodCreator evaluate = compiledExpression.getMethodCreator("evaluate", Object.class, Object.class)
+                .setModifiers(ACC_PUBLIC);
+
+        AssignableResultHandle value = evaluate.createVariable(Object.class);
+        evaluate.assign(value, evaluate.getMethodParam(0));
+        ResultHandle result = null;
+
+        for (int i = 0; i < members.size(); i++) {
+            AnnotationTarget member = members.get(i);
+            ClassInfo declaringClass = declaringClass(member);
+            String declaringClassName = declaringClass.name().toString();
+            // Null and unexpected types are handled by the value resolvers
+            BytecodeCreator notMatched = evaluate.ifNonZero(evaluate.instanceOf(value, declaringClassName)).falseBranch();
+            notMatched.returnValue(notMatched.readStaticField(Descriptors.RESULT_NOT_FOUND));
+            ResultHandle base = evaluate.checkCast(value, declaringClassName);
+
+            Type memberType;
+            if (member.kind() == Kind.FIELD) {
+                FieldInfo field = member.asField();
+                memberType = field.type();
+                result = evaluate.readInstanceField(FieldDescriptor.of(field), base);
+            } else {
+                MethodInfo method = member.asMethod();
+                memberType = method.returnType();
+                if (Modifier.isInterface(declaringClass.flags())) {
+                    result = evaluate.invokeInterfaceMethod(MethodDescriptor.of(method), base);
+                } else {
+                    result = evaluate.invokeVirtualMethod(MethodDescriptor.of(method), base);
+                }
+            }
+            if (memberType.kind() == Type.Kind.PRIMITIVE) {
+                result = box(evaluate, result, memberType.asPrimitiveType());
+            }
+            if (i < members.size() - 1) {
+                evaluate.assign(value, result);
+            }
+        }
+        evaluate.returnValue(result);
+    }
+
+    private static ClassInfo declaringClass(AnnotationTarget member) {
+        return member.kind() == Kind.FIELD ? member.asField().declaringClass() : member.asMethod().declaringClass();
+    }
+
+    private static ResultHandle box(BytecodeCreator creator, ResultHandle value, PrimitiveType primitiveType) {
+        Class<?> primitive;
+        Class<?> wrapper;
+        switch (primitiveType.primitive()) {
+            case BOOLEAN:
+                primitive = boolean.class;
+                wrapper = Boolean.class;
+                break;
+            case BYTE:
+                primitive = byte.class;
+                wrapper = Byte.class;
+                break;
+            case CHAR:
+                primitive = char.class;
+                wrapper = Character.class;
+                break;
+            case DOUBLE:
+                primitive = double.class;
+                wrapper = Double.class;
+                break;
+            case FLOAT:
+                primitive = float.class;
+                wrapper = Float.class;
+                break;
+            case INT:
+                primitive = int.class;
+                wrapper = Integer.class;
+                break;
+            case LONG:
+                primitive = long.class;
+                wrapper = Long.class;
+                break;
+            case SHORT:
+                primitive = short.class;
+                wrapper = Short.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + primitiveType);
+        }
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value);
+    }
+
+}
@@ -1,21 +1,28 @@
 package io.quarkus.qute.generator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import io.quarkus.qute.CompiledExpression;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TestEvalContext;
 import io.quarkus.qute.ValueResolver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
@@ -130,6 +137,36 @@ public class SimpleGeneratorTest {
                         .render());
     }
 
+    @Test
+    public void testCompiledExpression() throws Exception {
+        Index index = index(PublicMyService.class, String.class);
+        ClassInfo serviceClazz = index.getClassByName(DotName.createSimple(PublicMyService.class.getName()));
+        ClassInfo stringClazz = index.getClassByName(DotName.createSimple(String.class.getName()));
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(new TestClassOutput());
+        List<AnnotationTarget> members = Arrays.asList(serviceClazz.method("getName"), stringClazz.method("length"));
+        assertTrue(CompiledExpressionGenerator.isSupported(members));
+        assertFalse(CompiledExpressionGenerator.isSupported(Collections.singletonList(serviceClazz.method("getSurname"))));
+        String generatedType = generator.generate("foo", 1, "service.name.length", members);
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) {
+            cl = SimpleGeneratorTest.class.getClassLoader();
+        }
+        CompiledExpression compiledExpression = (CompiledExpression) cl.loadClass(generatedType).getDeclaredConstructor()
+                .newInstance();
+        assertEquals("foo", compiledExpression.getTemplateId());
+        assertEquals(1, compiledExpression.getGeneratedId());
+        assertEquals(6, compiledExpression.evaluate(new PublicMyService()));
+        assertEquals(Result.NOT_FOUND, compiledExpression.evaluate(null));
+        assertEquals(Result.NOT_FOUND, compiledExpression.evaluate("foo"));
+
+        // There is no value resolver for PublicMyService
+        Engine engine = Engine.builder().addDefaults().addCompiledExpression(compiledExpression).build();
+        assertEquals("6", engine.parse("{service.name.length}", null, "foo").data("service", new PublicMyService()).render());
+        assertEquals("NOT_FOUND",
+                engine.parse("{service.name.length}", null, "bar").data("service", new PublicMyService()).render());
+    }
+
     private ValueResolver newResolver(String className)
             throws ClassNotFoundException, InstantiationException, IllegalAccessException, IllegalArgumentException,
             InvocationTargetException, NoSuchMethodException, SecurityException {
@@ -23,6 +23,12 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * Whether consecutive handlers of a resource method that never suspend the request are run as a single step
+     * of the handler chain.
+     */
+    private boolean batchHandlerChains;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -33,6 +39,12 @@ public class ResteasyReactiveConfig {
         this.defaultProduces = defaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, boolean singleDefaultProduces, boolean defaultProduces,
+            boolean batchHandlerChains) {
+        this(inputBufferSize, singleDefaultProduces, defaultProduces);
+        this.batchHandlerChains = batchHandlerChains;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
@@ -56,4 +68,12 @@ public class ResteasyReactiveConfig {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isBatchHandlerChains() {
+        return batchHandlerChains;
+    }
+
+    public void setBatchHandlerChains(boolean batchHandlerChains) {
+        this.batchHandlerChains = batchHandlerChains;
+    }
 }
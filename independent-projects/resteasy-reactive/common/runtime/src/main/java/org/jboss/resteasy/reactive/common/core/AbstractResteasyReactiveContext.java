@@ -38,6 +38,26 @@ public abstract class AbstractResteasyReactiveContext<T extends AbstractResteasy
         this.requestContext = requestContext;
     }
 
+    /**
+     * Resets the state of this context so that it can be used to process another request. This must only be called once
+     * the previous request is completely done, i.e. the context has been closed and nothing refers to it anymore.
+     */
+    protected void reset(H[] handlerChain, H[] abortHandlerChain) {
+        this.handlers = handlerChain;
+        this.abortHandlerChain = abortHandlerChain;
+        this.position = 0;
+        this.throwable = null;
+        this.suspended = false;
+        this.requestScopeActivated = false;
+        this.running = false;
+        this.executor = null;
+        this.lastExecutor = null;
+        this.properties = null;
+        this.currentRequestScope = null;
+        this.completionCallbacks = null;
+        this.connectionCallbacks = null;
+    }
+
     public void suspend() {
         suspended = true;
     }
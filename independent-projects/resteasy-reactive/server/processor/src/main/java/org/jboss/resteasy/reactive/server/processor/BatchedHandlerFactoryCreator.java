@@ -0,0 +1,15 @@
+package org.jboss.resteasy.reactive.server.processor;
+
+import java.util.function.Supplier;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.model.ResourceMethod;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
+
+/**
+ * Creates the factory of the batches of the handler chains of an endpoint, used if handler chain batching is enabled.
+ */
+public interface BatchedHandlerFactoryCreator {
+
+    Supplier<BatchedHandler.Factory> create(ResourceMethod method, ClassInfo currentClass, MethodInfo currentMethod);
+}
@@ -57,12 +57,14 @@ public class ServerEndpointIndexer
         extends EndpointIndexer<ServerEndpointIndexer, ServerIndexedParameter, ServerResourceMethod> {
     private final MethodCreator initConverters;
     protected final EndpointInvokerFactory endpointInvokerFactory;
+    protected final BatchedHandlerFactoryCreator batchedHandlerFactoryCreator;
     protected final List<MethodScanner> methodScanners;
 
     protected ServerEndpointIndexer(AbstractBuilder builder) {
         super(builder);
         this.initConverters = builder.initConverters;
         this.endpointInvokerFactory = builder.endpointInvokerFactory;
+        this.batchedHandlerFactoryCreator = builder.batchedHandlerFactoryCreator;
         this.methodScanners = new ArrayList<>(builder.methodScanners);
     }
 
@@ -135,6 +137,9 @@ public class ServerEndpointIndexer
     @Override
     protected void handleAdditionalMethodProcessing(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
         method.setInvoker(endpointInvokerFactory.create(method, currentClassInfo, info));
+        if (batchedHandlerFactoryCreator != null) {
+            method.setBatchedHandlerFactory(batchedHandlerFactoryCreator.create(method, currentClassInfo, info));
+        }
         Set<String> methodAnnotationNames = new HashSet<>();
         List<AnnotationInstance> instances = info.annotations();
         for (AnnotationInstance instance : instances) {
@@ -284,6 +289,7 @@ public class ServerEndpointIndexer
 
         private MethodCreator initConverters;
         private EndpointInvokerFactory endpointInvokerFactory = new ReflectionEndpointInvokerFactory();
+        private BatchedHandlerFactoryCreator batchedHandlerFactoryCreator;
         private List<MethodScanner> methodScanners = new ArrayList<>();
 
         public EndpointInvokerFactory getEndpointInvokerFactory() {
@@ -295,6 +301,15 @@ public class ServerEndpointIndexer
             return (B) this;
         }
 
+        public BatchedHandlerFactoryCreator getBatchedHandlerFactoryCreator() {
+            return batchedHandlerFactoryCreator;
+        }
+
+        public B setBatchedHandlerFactoryCreator(BatchedHandlerFactoryCreator batchedHandlerFactoryCreator) {
+            this.batchedHandlerFactoryCreator = batchedHandlerFactoryCreator;
+            return (B) this;
+        }
+
         public MethodCreator getInitConverters() {
             return initConverters;
         }
@@ -152,6 +152,61 @@ public abstract class ResteasyReactiveRequestContext
         this.parameters = EMPTY_ARRAY;
     }
 
+    /**
+     * Returns whether this context can be {@link #reset(ServerRestHandler[], ServerRestHandler[]) reset} and used for
+     * another request once it has been closed. This is only the case if none of the objects user code may keep a
+     * reference to has been created while processing the request.
+     */
+    public boolean isRecyclable() {
+        return (uriInfo == null) && (httpHeaders == null) && (request == null) && (containerRequestContext == null)
+                && (containerResponseContext == null) && (asyncResponse == null) && (sseEventSink == null)
+                && (securityContext == null) && (inputStream == null) && (outputStream == null)
+                && (underlyingOutputStream == null);
+    }
+
+    @Override
+    protected void reset(ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super.reset(handlerChain, abortHandlerChain);
+        parameters = EMPTY_ARRAY;
+        target = null;
+        locatorTarget = null;
+        pathParamValues = null;
+        locatorPathParamValues = null;
+        uriInfo = null;
+        endpointInstance = null;
+        result = null;
+        response = null;
+        httpHeaders = null;
+        requestEntity = null;
+        request = null;
+        entityWriter = null;
+        containerRequestContext = null;
+        containerResponseContext = null;
+        method = null;
+        originalMethod = null;
+        path = null;
+        absoluteUri = null;
+        scheme = null;
+        authority = null;
+        remaining = null;
+        responseContentType = null;
+        consumesMediaType = null;
+        methodAnnotations = null;
+        additionalAnnotations = null;
+        allAnnotations = null;
+        genericReturnType = null;
+        inputStream = null;
+        matchedURIs = null;
+        asyncResponse = null;
+        sseEventSink = null;
+        pathSegments = null;
+        readerInterceptors = null;
+        writerInterceptors = null;
+        securityContext = null;
+        outputStream = null;
+        underlyingOutputStream = null;
+    }
+
     public abstract ServerHttpRequest serverRequest();
 
     public abstract ServerHttpResponse serverResponse();
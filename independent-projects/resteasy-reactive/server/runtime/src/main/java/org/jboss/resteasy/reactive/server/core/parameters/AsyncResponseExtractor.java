@@ -14,4 +14,9 @@ public class AsyncResponseExtractor implements ParameterExtractor {
         return response;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
 }
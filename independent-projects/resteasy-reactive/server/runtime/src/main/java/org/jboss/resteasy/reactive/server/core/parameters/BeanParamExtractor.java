@@ -25,4 +25,9 @@ public class BeanParamExtractor implements ParameterExtractor {
         ((ResteasyReactiveInjectionTarget) instance.getInstance()).__quarkus_rest_inject(context);
         return instance.getInstance();
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
@@ -9,4 +9,9 @@ public class BodyParamExtractor implements ParameterExtractor {
         return context.getRequestEntity();
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
 }
@@ -90,4 +90,9 @@ public class ContextParamExtractor implements ParameterExtractor {
         throw new IllegalStateException("Unsupported contextual type: " + type);
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
 }
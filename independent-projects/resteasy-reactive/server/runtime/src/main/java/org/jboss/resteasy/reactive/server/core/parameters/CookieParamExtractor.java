@@ -14,4 +14,9 @@ public class CookieParamExtractor implements ParameterExtractor {
     public Object extractParameter(ResteasyReactiveRequestContext context) {
         return context.getCookieParameter(name);
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
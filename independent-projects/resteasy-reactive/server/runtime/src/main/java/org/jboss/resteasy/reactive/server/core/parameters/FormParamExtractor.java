@@ -18,4 +18,9 @@ public class FormParamExtractor implements ParameterExtractor {
     public Object extractParameter(ResteasyReactiveRequestContext context) {
         return context.getFormParameter(name, single, encoded);
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
@@ -16,4 +16,9 @@ public class HeaderParamExtractor implements ParameterExtractor {
     public Object extractParameter(ResteasyReactiveRequestContext context) {
         return context.getHeader(name, single);
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
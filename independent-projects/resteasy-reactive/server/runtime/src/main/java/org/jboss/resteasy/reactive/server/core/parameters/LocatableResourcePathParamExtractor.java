@@ -57,4 +57,9 @@ public class LocatableResourcePathParamExtractor implements ParameterExtractor {
         return -1;
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
 }
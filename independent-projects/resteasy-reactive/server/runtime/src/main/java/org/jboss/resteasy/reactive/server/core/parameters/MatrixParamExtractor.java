@@ -19,4 +19,9 @@ public class MatrixParamExtractor implements ParameterExtractor {
         return context.getMatrixParameter(name, single, encoded);
     }
 
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
 }
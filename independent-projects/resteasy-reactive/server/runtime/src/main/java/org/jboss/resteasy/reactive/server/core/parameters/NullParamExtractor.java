@@ -7,4 +7,9 @@ public class NullParamExtractor implements ParameterExtractor {
     public Object extractParameter(ResteasyReactiveRequestContext context) {
         return null;
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
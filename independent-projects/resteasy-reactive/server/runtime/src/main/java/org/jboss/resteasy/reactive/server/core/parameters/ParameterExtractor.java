@@ -13,6 +13,14 @@ public interface ParameterExtractor {
      */
     Object extractParameter(ResteasyReactiveRequestContext context);
 
+    /**
+     * Returns {@code true} if {@link #extractParameter(ResteasyReactiveRequestContext)} never returns a
+     * {@link ParameterCallback}, i.e. the parameter is always extracted without suspending the request.
+     */
+    default boolean isSynchronous() {
+        return false;
+    }
+
     /**
      * listener class that is used to provide async method parameters.
      * 
@@ -21,4 +21,9 @@ public class PathParamExtractor implements ParameterExtractor {
         }
         return pathParam;
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
@@ -18,4 +18,9 @@ public class QueryParamExtractor implements ParameterExtractor {
     public Object extractParameter(ResteasyReactiveRequestContext context) {
         return context.getQueryParameter(name, single, encoded);
     }
+
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
 }
@@ -52,6 +52,7 @@ import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriterArray;
 import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
 import org.jboss.resteasy.reactive.server.handlers.BlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
@@ -360,13 +361,24 @@ public class RuntimeResourceDeployment {
         abortHandlingChain.addAll(responseFilterHandlers);
 
         abortHandlingChain.add(new ResponseWriterHandler(dynamicEntityWriter));
-        handlers.add(0, new AbortChainHandler(abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY)));
+        ServerRestHandler[] abortChain = abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY);
+        BatchedHandler.Batcher batcher = null;
+        if (quarkusRestConfig.isBatchHandlerChains()) {
+            batcher = new BatchedHandler.Batcher(method.getBatchedHandlerFactory() == null ? BatchedHandler.DEFAULT_FACTORY
+                    : method.getBatchedHandlerFactory().get());
+            abortChain = batcher.batch(abortChain);
+        }
+        handlers.add(0, new AbortChainHandler(abortChain));
+        ServerRestHandler[] handlerChain = handlers.toArray(EMPTY_REST_HANDLER_ARRAY);
+        if (batcher != null) {
+            handlerChain = batcher.batch(handlerChain);
+        }
 
         return new RuntimeResource(method.getHttpMethod(), methodPathTemplate,
                 classPathTemplate,
                 method.getProduces() == null ? null : serverMediaType,
                 consumesMediaTypes, invoker,
-                clazz.getFactory(), handlers.toArray(EMPTY_REST_HANDLER_ARRAY), method.getName(), parameterClasses,
+                clazz.getFactory(), handlerChain, method.getName(), parameterClasses,
                 nonAsyncReturnType, method.isBlocking(), resourceClass,
                 lazyMethod,
                 pathParameterIndexes, score, sseElementType, clazz.resourceExceptionMapper());
@@ -0,0 +1,127 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Runs a batch of consecutive handlers of a handler chain as a single step of the chain.
+ * <p>
+ * All handlers but the last one must never suspend or restart the request, so the request context does not need to
+ * check its state between them. Exceptions are propagated to the request context like for any other handler.
+ * <p>
+ * This class invokes the handlers in a loop, i.e. from a call site shared by all the endpoints. The {@link Factory}
+ * generated at build time for an endpoint creates subclasses that invoke every handler of the batch from a dedicated
+ * call site instead, so that the JIT can inline the handlers of this endpoint.
+ */
+public class BatchedHandler implements ServerRestHandler {
+
+    /**
+     * The number of batches of an endpoint that get dedicated call sites in a generated subclass
+     */
+    public static final int MAX_GENERATED_BATCHES = 4;
+    /**
+     * The number of handlers of a batch that get dedicated call sites in a generated subclass, the next ones are
+     * invoked by {@link #handleFrom(ResteasyReactiveRequestContext, int)}
+     */
+    public static final int MAX_GENERATED_HANDLERS = 16;
+
+    public static final Factory DEFAULT_FACTORY = new Factory() {
+        @Override
+        public BatchedHandler create(ServerRestHandler[] handlers, int index) {
+            return new BatchedHandler(handlers, index);
+        }
+    };
+
+    private static final ServerRestHandler[] EMPTY = new ServerRestHandler[0];
+
+    protected final ServerRestHandler[] handlers;
+    // the length of the handlers, read by the generated subclasses
+    protected final int size;
+    /**
+     * The position of this batch among the batches of the handler chains of the endpoint
+     */
+    protected final int index;
+
+    public BatchedHandler(ServerRestHandler[] handlers, int index) {
+        this.handlers = handlers;
+        this.size = handlers.length;
+        this.index = index;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        handleFrom(requestContext, 0);
+    }
+
+    protected final void handleFrom(ResteasyReactiveRequestContext requestContext, int first) throws Exception {
+        for (int i = first; i < handlers.length; i++) {
+            handlers[i].handle(requestContext);
+        }
+    }
+
+    /**
+     * Creates the batches of an endpoint.
+     */
+    public interface Factory {
+
+        BatchedHandler create(ServerRestHandler[] handlers, int index);
+    }
+
+    /**
+     * Batches the handler chains of a single endpoint, the batches of all the chains are numbered in sequence.
+     */
+    public static final class Batcher {
+
+        private final Factory factory;
+        private int nextIndex;
+
+        public Batcher(Factory factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Returns an equivalent handler chain in which every run of synchronous handlers, together with the handler
+         * that follows it, is replaced by a single {@link BatchedHandler}.
+         */
+        public ServerRestHandler[] batch(ServerRestHandler[] chain) {
+            List<ServerRestHandler> result = new ArrayList<>(chain.length);
+            List<ServerRestHandler> current = new ArrayList<>();
+            for (ServerRestHandler handler : chain) {
+                current.add(handler);
+                if (!isSynchronous(handler)) {
+                    result.add(toHandler(current));
+                    current.clear();
+                }
+            }
+            if (!current.isEmpty()) {
+                result.add(toHandler(current));
+            }
+            return result.toArray(EMPTY);
+        }
+
+        private ServerRestHandler toHandler(List<ServerRestHandler> handlers) {
+            if (handlers.size() == 1) {
+                return handlers.get(0);
+            }
+            return factory.create(handlers.toArray(EMPTY), nextIndex++);
+        }
+    }
+
+    /**
+     * Only handlers that are known to neither suspend nor restart the request can be followed by other handlers in the
+     * same {@link BatchedHandler}.
+     */
+    static boolean isSynchronous(ServerRestHandler handler) {
+        if (handler instanceof ParameterHandler) {
+            return ((ParameterHandler) handler).isSynchronous();
+        }
+        return (handler instanceof AbortChainHandler)
+                || (handler instanceof InstanceHandler)
+                || (handler instanceof PerRequestInstanceHandler)
+                || (handler instanceof FixedProducesHandler)
+                || (handler instanceof VariableProducesHandler)
+                || (handler instanceof ResponseHandler);
+    }
+}
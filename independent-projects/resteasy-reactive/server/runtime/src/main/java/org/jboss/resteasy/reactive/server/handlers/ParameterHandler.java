@@ -32,6 +32,15 @@ public class ParameterHandler implements ServerRestHandler {
         this.isOptional = isOptional;
     }
 
+    /**
+     * Returns {@code true} if the parameter is always extracted without suspending the request.
+     *
+     * @see ParameterExtractor#isSynchronous()
+     */
+    public boolean isSynchronous() {
+        return extractor.isSynchronous();
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
         try {
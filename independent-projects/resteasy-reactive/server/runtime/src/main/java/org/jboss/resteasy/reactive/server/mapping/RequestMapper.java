@@ -12,17 +12,80 @@ import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
     /**
-     * TODO: this needs a lot of work
+     * The templates that share a stem are compiled into a trie of template components
      */
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
+    private final PathMatcher<Node<T>> compiledPaths;
     private final List<RequestPath<T>> templates;
     final int maxParams;
+    /**
+     * Scratch state of the matching, reused by the requests handled on the same thread
+     */
+    private final ThreadLocal<Match<T>> scratch;
+    /**
+     * Only used by {@link #dump()} and {@link #getRequestPaths()}, so it is built on demand
+     */
+    private volatile PathMatcher<List<RequestPath<T>>> requestPaths;
 
     public RequestMapper(List<RequestPath<T>> templates) {
-        this.requestPaths = new PathMatcher<>();
+        this.compiledPaths = new PathMatcher<>();
         this.templates = templates;
         int max = 0;
+        for (RequestPath<T> i : templates) {
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        for (Map.Entry<String, List<RequestPath<T>>> entry : aggregate(templates).entrySet()) {
+            compiledPaths.addPrefixPath(entry.getKey(), compile(entry.getValue()));
+        }
+        maxParams = max;
+        int offsetsLength = max * 2;
+        this.scratch = new ThreadLocal<Match<T>>() {
+            @Override
+            protected Match<T> initialValue() {
+                return new Match<>(offsetsLength);
+            }
+        };
+    }
+
+    public RequestMatch<T> map(String path) {
+        PathMatcher.PathMatch<Node<T>> initialMatch = compiledPaths.match(path);
+        if (initialMatch.getValue() == null) {
+            return null;
+        }
+        Match<T> match = scratch.get();
+        match.reset(path);
+        initialMatch.getValue().match(match, initialMatch.getMatched().length(), 0);
+        if (match.best == null) {
+            return null;
+        }
+        String[] params;
+        if (maxParams == 0) {
+            params = EMPTY_STRING_ARRAY;
+        } else {
+            params = new String[maxParams];
+            for (int i = 0; i < match.bestParamCount; i++) {
+                int start = match.bestOffsets[i * 2];
+                params[i] = start < 0 ? null
+                        : URIDecoder.decodeURIComponent(path.substring(start, match.bestOffsets[i * 2 + 1]), false);
+            }
+        }
+        String remaining;
+        if (match.bestPos == path.length()) {
+            remaining = "";
+        } else if (match.bestPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(match.bestPos);
+        }
+        return new RequestMatch<>(match.best.template, match.best.value, params, remaining);
+    }
+
+    /**
+     * Groups the templates by stem, each group being sorted so that the template to select comes first.
+     */
+    private static <T> Map<String, List<RequestPath<T>>> aggregate(List<RequestPath<T>> templates) {
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
         for (RequestPath<T> i : templates) {
             List<RequestPath<T>> paths = aggregates.get(i.template.stem);
@@ -30,7 +93,6 @@ public class RequestMapper<T> {
                 aggregates.put(i.template.stem, paths = new ArrayList<>());
             }
             paths.add(i);
-            max = Math.max(max, i.template.countPathParamNames());
         }
         for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
             Collections.sort(entry.getValue(), new Comparator<RequestPath<T>>() {
@@ -40,86 +102,187 @@ public class RequestMapper<T> {
                 }
             });
         }
-        for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
-            requestPaths.addPrefixPath(entry.getKey(), entry.getValue());
+        return aggregates;
+    }
+
+    /**
+     * Compiles the sorted templates that share the same stem into a trie. The stem, i.e. the first component, is
+     * matched by the {@link PathMatcher} and therefore skipped. The templates with an equal prefix of components share
+     * the nodes. Each node knows the position of the first template of its subtree in the sorted list.
+     */
+    private static <T> Node<T> compile(List<RequestPath<T>> sorted) {
+        Node<T> root = new Node<>(null);
+        for (int index = 0; index < sorted.size(); index++) {
+            RequestPath<T> path = sorted.get(index);
+            URITemplate.TemplateComponent[] components = path.template.components;
+            Node<T> node = root;
+            node.minIndex = Math.min(node.minIndex, index);
+            for (int i = 1; i < components.length; ++i) {
+                node = node.child(components[i]);
+                node.minIndex = Math.min(node.minIndex, index);
+            }
+            node.addTerminal(path, index);
         }
-        maxParams = max;
+        root.seal();
+        return root;
     }
 
-    public RequestMatch<T> map(String path) {
-        int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
-        if (initialMatch.getValue() == null) {
-            return null;
+    private static final class Match<T> {
+
+        // the start and end offsets of the captured params, the values are only decoded for the selected template
+        final int[] offsets;
+        final int[] bestOffsets;
+        String path;
+        RequestPath<T> best;
+        int bestIndex;
+        int bestPos;
+        int bestParamCount;
+
+        Match(int offsetsLength) {
+            this.offsets = new int[offsetsLength];
+            this.bestOffsets = new int[offsetsLength];
         }
 
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
+        void reset(String path) {
+            this.path = path;
+            best = null;
+            bestIndex = Integer.MAX_VALUE;
+            bestPos = 0;
+            bestParamCount = 0;
+        }
+
+        void found(RequestPath<T> requestPath, int index, int pos, int paramCount) {
+            best = requestPath;
+            bestIndex = index;
+            bestPos = pos;
+            bestParamCount = paramCount;
+            System.arraycopy(offsets, 0, bestOffsets, 0, paramCount * 2);
+        }
+    }
+
+    private static final class Node<T> {
+
+        // null for the root node
+        final URITemplate.TemplateComponent component;
+        // the position of the first template of this subtree in the sorted list
+        int minIndex = Integer.MAX_VALUE;
+        // sorted by minIndex once sealed
+        List<Node<T>> children = new ArrayList<>();
+        // the templates that end at this node and their positions in the sorted list
+        List<RequestPath<T>> terminals = Collections.emptyList();
+        int[] terminalIndexes = new int[0];
+
+        Node(URITemplate.TemplateComponent component) {
+            this.component = component;
+        }
+
+        Node<T> child(URITemplate.TemplateComponent component) {
+            for (Node<T> child : children) {
+                if (isEquivalent(child.component, component)) {
+                    return child;
+                }
+            }
+            Node<T> child = new Node<>(component);
+            children.add(child);
+            return child;
+        }
+
+        void addTerminal(RequestPath<T> path, int index) {
+            if (terminals.isEmpty()) {
+                terminals = new ArrayList<>();
+            }
+            terminals.add(path);
+            terminalIndexes = Arrays.copyOf(terminalIndexes, terminalIndexes.length + 1);
+            terminalIndexes[terminalIndexes.length - 1] = index;
+        }
+
+        void seal() {
+            children.sort(new Comparator<Node<T>>() {
+                @Override
+                public int compare(Node<T> n1, Node<T> n2) {
+                    return Integer.compare(n1.minIndex, n2.minIndex);
+                }
+            });
+            for (Node<T> child : children) {
+                child.seal();
+            }
+        }
+
+        /**
+         * Matches the remaining components against the path. The subtrees that cannot contain a template that comes
+         * before the best match found so far are skipped.
+         */
+        void match(Match<T> match, int pos, int paramCount) {
+            String path = match.path;
+            int pathLength = path.length();
+            for (int i = 0; i < terminalIndexes.length; i++) {
+                int index = terminalIndexes[i];
+                if (index >= match.bestIndex) {
+                    break;
+                }
+                RequestPath<T> terminal = terminals.get(i);
+                //according to the spec every template ends with (/.*)?
+                if (pos == pathLength || terminal.prefixTemplate
+                        || (path.charAt(pos) == '/' && pos == pathLength - 1)) {
+                    match.found(terminal, index, pos, paramCount);
+                    break;
+                }
+            }
+            for (int i = 0; i < children.size(); i++) {
+                Node<T> child = children.get(i);
+                if (child.minIndex >= match.bestIndex) {
+                    // children are sorted - no better match is possible
+                    break;
+                }
+                URITemplate.TemplateComponent segment = child.component;
+                if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                    if (path.startsWith(segment.literalText, pos)) {
+                        child.match(match, pos + segment.literalText.length(), paramCount);
                     }
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
+                    if (pos == pathLength) {
+                        continue;
                     }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
+                    int end = path.indexOf('/', pos);
+                    if (end == -1) {
+                        end = pathLength;
+                    }
+                    match.offsets[paramCount * 2] = pos;
+                    match.offsets[paramCount * 2 + 1] = end;
+                    child.match(match, end, paramCount + 1);
+                } else if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    Matcher matcher = segment.pattern.matcher(path);
+                    if (!matcher.find(pos)) {
+                        continue;
                     }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                    int count = paramCount;
+                    for (String name : segment.names) {
+                        match.offsets[count * 2] = matcher.start(name);
+                        match.offsets[count * 2 + 1] = matcher.end(name);
+                        count++;
+                    }
+                    child.match(match, matcher.end(), count);
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            if (!prefixAllowed && !fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
+        }
+
+        private static boolean isEquivalent(URITemplate.TemplateComponent c1, URITemplate.TemplateComponent c2) {
+            if (c1.type != c2.type) {
+                return false;
             }
-            if (matched && (fullMatch || prefixAllowed)) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
-                }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+            switch (c1.type) {
+                case LITERAL:
+                    return c1.literalText.equals(c2.literalText);
+                case DEFAULT_REGEX:
+                    // the name of the param does not affect matching
+                    return true;
+                case CUSTOM_REGEX:
+                    return c1.pattern.pattern().equals(c2.pattern.pattern());
+                default:
+                    return false;
             }
         }
-        return null;
     }
 
     public static class RequestPath<T> implements Dumpable {
@@ -176,11 +339,19 @@ public class RequestMapper<T> {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
+        getRequestPaths().dump(0);
     }
 
     public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        PathMatcher<List<RequestPath<T>>> result = requestPaths;
+        if (result == null) {
+            result = new PathMatcher<>();
+            for (Map.Entry<String, List<RequestPath<T>>> entry : aggregate(templates).entrySet()) {
+                result.addPrefixPath(entry.getKey(), entry.getValue());
+            }
+            requestPaths = result;
+        }
+        return result;
     }
 
     public List<RequestPath<T>> getTemplates() {
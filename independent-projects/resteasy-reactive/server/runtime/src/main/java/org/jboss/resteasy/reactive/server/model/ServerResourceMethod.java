@@ -6,12 +6,15 @@ import java.util.Set;
 import java.util.function.Supplier;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.handlers.BatchedHandler;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 
 public class ServerResourceMethod extends ResourceMethod {
 
     private Supplier<EndpointInvoker> invoker;
 
+    private Supplier<BatchedHandler.Factory> batchedHandlerFactory;
+
     private Set<String> methodAnnotationNames;
 
     private List<HandlerChainCustomizer> handlerChainCustomizers = new ArrayList<>();
@@ -26,6 +29,15 @@ public class ServerResourceMethod extends ResourceMethod {
         return this;
     }
 
+    public Supplier<BatchedHandler.Factory> getBatchedHandlerFactory() {
+        return batchedHandlerFactory;
+    }
+
+    public ServerResourceMethod setBatchedHandlerFactory(Supplier<BatchedHandler.Factory> batchedHandlerFactory) {
+        this.batchedHandlerFactory = batchedHandlerFactory;
+        return this;
+    }
+
     public Set<String> getMethodAnnotationNames() {
         return methodAnnotationNames;
     }
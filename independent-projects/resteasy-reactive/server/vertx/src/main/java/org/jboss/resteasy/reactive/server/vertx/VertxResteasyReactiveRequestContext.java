@@ -1,5 +1,6 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -33,16 +34,21 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
     public static final String CONTINUE = "100-continue";
-    protected final RoutingContext context;
-    protected final HttpServerRequest request;
-    protected final HttpServerResponse response;
+    protected RoutingContext context;
+    protected HttpServerRequest request;
+    protected HttpServerResponse response;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
+    private boolean closeHandlerSet;
 
     public VertxResteasyReactiveRequestContext(Deployment deployment, ProvidersImpl providers,
             RoutingContext context,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
         super(deployment, providers, requestContext, handlerChain, abortHandlerChain);
+        init(context);
+    }
+
+    private void init(RoutingContext context) {
         this.context = context;
         this.request = context.request();
         this.response = context.response();
@@ -53,8 +59,26 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         }
     }
 
+    /**
+     * Prepares a closed and {@link #isRecyclable() recyclable} context to process a new request.
+     */
+    public void reuse(RoutingContext context, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        reset(handlerChain, abortHandlerChain);
+        preCommitTask = null;
+        continueState = ContinueState.NONE;
+        closeHandlerSet = false;
+        init(context);
+    }
+
+    @Override
+    public boolean isRecyclable() {
+        // the close handler may still be invoked once the connection is closed
+        return !closeHandlerSet && super.isRecyclable();
+    }
+
     @Override
     public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        closeHandlerSet = true;
         this.response.closeHandler(v -> {
             onClose.run();
         });
@@ -271,6 +295,18 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         return this;
     }
 
+    /**
+     * Ends the response with the content of the given buffer. The buffer is released once it was written, i.e. the
+     * caller must not use the buffer afterwards.
+     *
+     * @param data
+     * @return self
+     */
+    public ServerHttpResponse end(ByteBuf data) {
+        response.end(new VertxBufferImpl(data));
+        return this;
+    }
+
     @Override
     public ServerHttpResponse end(String data) {
         response.end(data);
@@ -178,6 +178,16 @@ public class JarRunnerIT extends MojoTestBase {
         assertThatFastJarFormatWorks("custom");
     }
 
+    @Test
+    public void testThatFastJarWithMappedClassDataWorks() throws Exception {
+        assertThatFastJarFormatWorks("mapped", "-Dquarkus.package.mapped-class-data=true");
+    }
+
+    @Test
+    public void testThatFastJarWithClassLoadingProfileWorks() throws Exception {
+        assertThatFastJarFormatWorks("profile", "-Dquarkus.package.create-class-loading-profile=true");
+    }
+
     @Test
     public void testThatMutableFastJarWorks() throws Exception {
         assertThatMutableFastJarWorks("providers", "providers");
@@ -524,15 +534,16 @@ public class JarRunnerIT extends MojoTestBase {
         }
     }
 
-    private void assertThatFastJarFormatWorks(String outputDir) throws Exception {
+    private void assertThatFastJarFormatWorks(String outputDir, String... additionalArgs) throws Exception {
         File testDir = initProject("projects/rr-with-json-logging", "projects/rr-with-json-logging" + outputDir);
         RunningInvoker running = new RunningInvoker(testDir, false);
 
-        MavenProcessInvocationResult result = running
-                .execute(Arrays.asList("package",
-                        "-DskipTests",
-                        "-Dquarkus.package.type=fast-jar",
-                        outputDir == null ? "" : "-Dquarkus.package.output-directory=" + outputDir), Collections.emptyMap());
+        List<String> args = new ArrayList<>(Arrays.asList("package",
+                "-DskipTests",
+                "-Dquarkus.package.type=fast-jar",
+                outputDir == null ? "" : "-Dquarkus.package.output-directory=" + outputDir));
+        args.addAll(Arrays.asList(additionalArgs));
+        MavenProcessInvocationResult result = running.execute(args, Collections.emptyMap());
 
         await().atMost(1, TimeUnit.MINUTES).until(() -> result.getProcess() != null && !result.getProcess().isAlive());
         assertThat(running.log()).containsIgnoringCase("BUILD SUCCESS");